@@ -0,0 +1,51 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.interfaces.IList;
+
+public class Experiment5 {
+
+    public static final long MAX_LIST_SIZE = 20000;
+    public static final long STEP = 100;
+
+    public static void main(String[] args) {
+        IList<Long> listSizes = AnalysisUtils.makeDoubleLinkedList(0L, MAX_LIST_SIZE, STEP);
+
+        System.out.println("Starting experiment 5, test 1");
+        IList<Long> test1Results = AnalysisUtils.runSingleTrial(listSizes, Experiment5::test1);
+
+        System.out.println("Starting experiment 5, test 2");
+        IList<Long> test2Results = AnalysisUtils.runSingleTrial(listSizes, Experiment5::test2);
+
+        System.out.println("Saving results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("InputListSize", listSizes);
+        writer.addColumn("ResultsTest1", test1Results);
+        writer.addColumn("ResultsTest2", test2Results);
+        writer.writeToFile("experimentdata/experiment5.csv");
+
+        System.out.println("All done!");
+    }
+
+    /**
+     * We will call test1 and test2 with varying sizes. Your prediction should estimate the differences
+     * between the memory usage of DoubleLinkedLists and UnrolledLinkedLists, and how much of each one's
+     * memory goes to the Long objects themselves rather than to the list.
+     *
+     * @param size The number of elements in the data structure. This will the the x-axis of your plot.
+     * @return the approximate memory usage of the data structure
+     */
+    public static long test1(long size) {
+        IList<Long> list = AnalysisUtils.makeDoubleLinkedList(0L, size, 1L);
+        // Like in experiment 4, memory usage is deterministic, so we don't need trials.
+        return AnalysisUtils.getApproximateMemoryUsed(list);
+    }
+
+    public static long test2(long size) {
+        IList<Long> list = AnalysisUtils.makeUnrolledLinkedList(0L, size, 1L);
+        // An UnrolledLinkedList built by adding to the end fills every node but the last,
+        // so its memory usage is deterministic too.
+        return AnalysisUtils.getApproximateMemoryUsed(list);
+    }
+}
@@ -0,0 +1,62 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.interfaces.IList;
+
+public class Experiment6 {
+    public static final int NUM_TRIALS = 5;
+    public static final int NUM_TIMES_TO_REPEAT = 1000;
+    public static final long MAX_LIST_SIZE = 20000;
+    public static final long STEP = 100;
+
+    public static void main(String[] args) {
+        IList<Long> indices = AnalysisUtils.makeDoubleLinkedList(0L, MAX_LIST_SIZE, STEP);
+
+        System.out.println("Starting experiment 6, test 1");
+        IList<Long> test1Results = AnalysisUtils.runTrials(indices, Experiment6::test1, NUM_TRIALS);
+
+        System.out.println("Starting experiment 6, test 2");
+        IList<Long> test2Results = AnalysisUtils.runTrials(indices, Experiment6::test2, NUM_TRIALS);
+
+        System.out.println("Saving results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("InputIndices", indices);
+        writer.addColumn("Test1Results", test1Results);
+        writer.addColumn("Test2Results", test2Results);
+        writer.writeToFile("experimentdata/experiment6.csv");
+
+        System.out.println("All done!");
+    }
+
+    /**
+     * We will call test1 and test2 on all indices in the indices IList constructed above, like in
+     * experiment 3. Your prediction should estimate how the shape of each plot compares to the one
+     * from experiment 3, and how much faster an UnrolledLinkedList's .get() is than a DoubleLinkedList's.
+     *
+     * @param index The index of the list that we want to get. This will the the x-axis of your plot.
+     * @return the amount of time it takes to return the element of the list at
+     *          the index specified in the parameter, in milliseconds.
+     */
+    public static long test1(long index) {
+        IList<Long> list = AnalysisUtils.makeDoubleLinkedList(0L, MAX_LIST_SIZE, 1L);
+        return timeGets(list, (int) index);
+    }
+
+    public static long test2(long index) {
+        IList<Long> list = AnalysisUtils.makeUnrolledLinkedList(0L, MAX_LIST_SIZE, 1L);
+        return timeGets(list, (int) index);
+    }
+
+    private static long timeGets(IList<Long> list, int index) {
+        // We don't include the cost of constructing the list when running this test
+        long start = System.currentTimeMillis();
+
+        long temp = 0L;
+        for (int i = 0; i < NUM_TIMES_TO_REPEAT; i++) {
+            temp += list.get(index);
+        }
+
+        return System.currentTimeMillis() - start;
+    }
+}
@@ -1,6 +1,8 @@
 package analysis.utils;
 
+import datastructures.concrete.ArrayList;
 import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.UnrolledLinkedList;
 import datastructures.concrete.dictionaries.ArrayDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
@@ -26,6 +28,17 @@ public class AnalysisUtils {
         return out;
     }
 
+    /**
+     * Constructs an unrolled linked list of longs starting with 'size', going to 'end', in 'step' increments.
+     */
+    public static IList<Long> makeUnrolledLinkedList(long start, long end, long step) {
+        IList<Long> out = new UnrolledLinkedList<>();
+        for (long i = start; i < end; i += step) {
+            out.add(i);
+        }
+        return out;
+    }
+
     /**
      * Constructs an array dictionary containing keys from 0 to 'size' (with dummy values)
      */
@@ -59,7 +72,7 @@ public class AnalysisUtils {
      * for some code to run), you should try using the 'runTrials' helper method below.
      */
     public static IList<Long> runSingleTrial(IList<Long> inputs, Function<Long, Long> testerFunction) {
-        IList<Long> trial = new DoubleLinkedList<>();
+        IList<Long> trial = new ArrayList<>(inputs.size());
         for (long input : inputs) {
             trial.add(testerFunction.apply(input));
         }
@@ -76,7 +89,7 @@ public class AnalysisUtils {
         System.out.println("    Running preliminary trial to warm up caches (will discard result)");
         runSingleTrial(inputs, testerFunction);
 
-        IList<IList<Long>> trials = new DoubleLinkedList<>();
+        IList<IList<Long>> trials = new ArrayList<>(numTrials);
         for (int i = 0; i < numTrials; i++) {
             System.out.println("    Starting trial " + i);
             trials.add(runSingleTrial(inputs, testerFunction));
@@ -97,7 +110,7 @@ public class AnalysisUtils {
         }
         int numEntries = entries.size();
 
-        IList<Long> result = new DoubleLinkedList<>();
+        IList<Long> result = new ArrayList<>(entries.get(0).size());
         RowIterator<Long> rowIter = new RowIterator<>(entries);
         while (rowIter.hasNext()) {
             IList<Long> trial = rowIter.next();
@@ -1,6 +1,6 @@
 package analysis.utils;
 
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ArrayList;
 import datastructures.interfaces.IList;
 
 import java.io.FileWriter;
@@ -16,8 +16,8 @@ public class CsvWriter {
     private IList<IList<Long>> columns;
 
     public CsvWriter() {
-        this.columnNames = new DoubleLinkedList<>();
-        this.columns = new DoubleLinkedList<>();
+        this.columnNames = new ArrayList<>();
+        this.columns = new ArrayList<>();
     }
 
     /**
@@ -34,15 +34,32 @@ public class CsvWriter {
      * Writes all of the saved columns to the given file location.
      */
     public void writeToFile(String filename) {
+        int rows = this.columns.isEmpty() ? 0 : this.columns.get(0).size();
+        this.writeToFile(filename, 0, rows);
+    }
+
+    /**
+     * Writes rows 'fromRow' (inclusive) up to 'toRow' (exclusive) of the saved columns to the
+     * given file location, for example to leave out warm-up trials. Each column is cut down
+     * with 'subList', so no data is copied.
+     *
+     * @throws IndexOutOfBoundsException if the rows are out of range for the columns
+     */
+    public void writeToFile(String filename, int fromRow, int toRow) {
         if (this.columnNames.isEmpty()) {
             throw new IllegalStateException("Error: trying to write a CSV file containing no columns");
         }
 
+        IList<IList<Long>> rowRange = new ArrayList<>(this.columns.size());
+        for (IList<Long> column : this.columns) {
+            rowRange.add(column.subList(fromRow, toRow));
+        }
+
         try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
             // Print header
             writer.println(this.join(this.columnNames, ","));
 
-            RowIterator<Long> rowIter = new RowIterator<>(this.columns);
+            RowIterator<Long> rowIter = new RowIterator<>(rowRange);
             while (rowIter.hasNext()) {
                 writer.println(this.join(rowIter.next(), ","));
             }
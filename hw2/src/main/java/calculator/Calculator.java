@@ -27,10 +27,11 @@ public class Calculator {
     public Calculator(ImageDrawer imageDrawer) {
         this.parser = new Parser();
 
-        // Create dictionaries of handler methods for the calculator's operators
-        IDictionary<String, ExpressionOperator> regularOperators = new ArrayDictionary<>();
-        IDictionary<String, ControlOperator> controlOperators = new ArrayDictionary<>();
-        IDictionary<String, GuiOperator> guiOperators = new ArrayDictionary<>();
+        // Create dictionaries of handler methods for the calculator's operators. These are
+        // looked up on every evaluation, so let frequently used operators drift to the front.
+        IDictionary<String, ExpressionOperator> regularOperators = new ArrayDictionary<>(true);
+        IDictionary<String, ControlOperator> controlOperators = new ArrayDictionary<>(true);
+        IDictionary<String, GuiOperator> guiOperators = new ArrayDictionary<>(true);
 
         // Regular operators are operators that only have access to the Calculator's
         // variables (and may read and write to them).
@@ -5,8 +5,8 @@ import calculator.ast.AstNode;
 import calculator.ast.operators.ControlOperator;
 import calculator.ast.operators.GuiOperator;
 import calculator.gui.ImageDrawer;
-import datastructures.concrete.DoubleLinkedList;
-import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.ArrayList;
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 
@@ -18,7 +18,7 @@ public class Interpreter {
     private final IDictionary<String, ExpressionOperator> regularOperators;
     private final IDictionary<String, GuiOperator> guiOperators;
     private final IDictionary<String, ControlOperator> controlOperators;
-    private final IDictionary<String, AstNode> variables;
+    private final PersistentHashDictionary<String, AstNode> variables;
     private ImageDrawer imageDrawer;
 
     Interpreter(IDictionary<String, ExpressionOperator> regularOperators,
@@ -27,7 +27,7 @@ public class Interpreter {
         this.regularOperators = regularOperators;
         this.guiOperators = guiOperators;
         this.controlOperators = controlOperators;
-        this.variables = new ArrayDictionary<>();
+        this.variables = new PersistentHashDictionary<>();
         this.imageDrawer = null;
     }
 
@@ -46,9 +46,18 @@ public class Interpreter {
      * Evaluation involves calling the operator handler methods stored in this Interpreter to
      * replace each operator node with a new AstNode. (The aforementioned simplify node is
      * also evaluated in order to simplify the AST.)
+     *
+     * If evaluation fails, any variables it had already assigned are restored to what they
+     * were before, so a failed input leaves the calculator's state unchanged.
      */
     public AstNode evaluate(AstNode node) {
-        return evaluateHelper(wrapNodeWithSimplify(node));
+        PersistentHashDictionary<String, AstNode> saved = this.variables.snapshot();
+        try {
+            return evaluateHelper(wrapNodeWithSimplify(node));
+        } catch (RuntimeException ex) {
+            this.variables.restore(saved);
+            throw ex;
+        }
     }
 
     /**
@@ -75,12 +84,13 @@ public class Interpreter {
                 // We first evaluate the children before handing control back
                 // to the operator's handler method (if one exists).
 
-                // Create a new node with the evaluated children.
-                IList<AstNode> children = new DoubleLinkedList<>();
-                for (AstNode oldChild : node.getChildren()) {
-                    children.add(evaluateHelper(oldChild));
+                // Swap in the evaluated children. Children that come back unchanged
+                // are shared with the old node rather than copied.
+                AstNode output = node;
+                IList<AstNode> oldChildren = node.getChildren();
+                for (int i = 0; i < oldChildren.size(); i++) {
+                    output = output.withChild(i, evaluateHelper(oldChildren.get(i)));
                 }
-                AstNode output = new AstNode(node.getName(), children);
 
                 // Apply operators handlers, if defined.
                 if (this.regularOperators.containsKey(nodeName)) {
@@ -105,7 +115,7 @@ public class Interpreter {
         if (input.isOperation() && input.getName().equals("simplify")) {
             return input;
         } else {
-            IList<AstNode> children = new DoubleLinkedList<>();
+            IList<AstNode> children = new ArrayList<>(1);
             children.add(input);
             return new AstNode("simplify", children);
         }
@@ -1,8 +1,8 @@
 package calculator.ast;
 
 import calculator.errors.EvaluationError;
-import datastructures.concrete.DoubleLinkedList;
-import datastructures.concrete.ReadOnlyList;
+import datastructures.concrete.ArrayList;
+import datastructures.concrete.PersistentVector;
 import datastructures.concrete.dictionaries.ArrayDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
@@ -14,6 +14,10 @@ import java.util.Iterator;
  *
  * See spec for more details on what an AST is. Note that nodes are immutable, so you have to
  * create a new node to change the AST.
+ *
+ * Children are kept in a PersistentVector, so a new node made with 'withChild' shares all its
+ * other children (and their subtrees) with the old one. Rewriting a tree therefore only
+ * allocates nodes along the paths that actually changed.
  */
 public final class AstNode {
     private static final int STRONGEST_PRECEDENCE = 0;
@@ -21,6 +25,8 @@ public final class AstNode {
     private static IDictionary<String, Integer> precedenceMap;
 
     // This code runs once when the class is loaded to initialize the precedenceMap.
+    // The map is shared by every thread, so it must not be adaptive: adaptive lookups
+    // reorder the array.
     static {
         precedenceMap = new ArrayDictionary<>();
         precedenceMap.put("^", 1);
@@ -32,21 +38,21 @@ public final class AstNode {
     }
 
     private final String name;
-    private final IList<AstNode> children;
+    private final PersistentVector<AstNode> children;
     private final ExprType type;
 
     /**
      * Creates a leaf node representing a single number.
      */
     public AstNode(double number) {
-        this("" + number, new DoubleLinkedList<>(), ExprType.NUMBER);
+        this("" + number, PersistentVector.empty(), ExprType.NUMBER);
     }
 
     /**
      * Creates a leaf node representing a variable.
      */
     public AstNode(String name) {
-        this(name, new DoubleLinkedList<>(), ExprType.VARIABLE);
+        this(name, PersistentVector.empty(), ExprType.VARIABLE);
     }
 
     /**
@@ -74,7 +80,7 @@ public final class AstNode {
 
     private AstNode(String name, IList<AstNode> children, ExprType type) {
         this.name = name;
-        this.children = new ReadOnlyList<>(children);
+        this.children = PersistentVector.copyOf(children);
         this.type = type;
     }
 
@@ -181,7 +187,7 @@ public final class AstNode {
             int currPrecedenceLevel = hasPrecedence ? precedenceMap.get(this.name) : STRONGEST_PRECEDENCE;
             int childPrecedenceLevel = hasPrecedence ? currPrecedenceLevel : WEAKEST_PRECEDENCE;
 
-            IList<String> childrenStrings = new DoubleLinkedList<>();
+            IList<String> childrenStrings = new ArrayList<>(this.getChildren().size());
             for (AstNode child : this.getChildren()) {
                 childrenStrings.add(child.toString(childPrecedenceLevel));
             }
@@ -225,6 +231,21 @@ public final class AstNode {
         return this.children;
     }
 
+    /**
+     * Returns a node with the same name as this one, but with the child at 'index' replaced by
+     * 'child'. The other children are shared, not copied. If 'child' is already at 'index',
+     * returns this node itself.
+     *
+     * @throws IndexOutOfBoundsException if this node has no child at 'index'
+     */
+    public AstNode withChild(int index, AstNode child) {
+        PersistentVector<AstNode> newChildren = this.children.with(index, child);
+        if (newChildren == this.children) {
+            return this;
+        }
+        return new AstNode(this.name, newChildren, this.type);
+    }
+
     private enum ExprType {
         NUMBER,
         VARIABLE,
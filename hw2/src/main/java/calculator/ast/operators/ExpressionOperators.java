@@ -2,7 +2,6 @@ package calculator.ast.operators;
 
 import calculator.ast.AstNode;
 import calculator.errors.EvaluationError;
-import datastructures.concrete.DoubleLinkedList;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 
@@ -141,12 +140,10 @@ public class ExpressionOperators {
 
     private static AstNode simplifyHelper(AstNode node, IDictionary<String, AstNode> variables) {
         if (node.getChildren().size() > 0) {
-            IList<AstNode> newChildren = new DoubleLinkedList<>();
-            for (AstNode child : node.getChildren()) {
-                newChildren.add(child);
-            }
-            for (int i = 0; i < newChildren.size(); i++) {
-                newChildren.set(i, simplifyHelper(newChildren.get(i), variables));
+            // 'simplified' shares every child that simplifying leaves unchanged with 'node'.
+            AstNode simplified = node;
+            for (int i = 0; i < node.getChildren().size(); i++) {
+                simplified = simplified.withChild(i, simplifyHelper(node.getChildren().get(i), variables));
             }
 
             if (node.getName().equals("negate")) {
@@ -154,20 +151,22 @@ public class ExpressionOperators {
             }
 
             if (node.getName().equals("/") || node.getName().equals("^")) {
-                return new AstNode(node.getName(), newChildren);
+                return simplified;
             }
 
-            for (int i = 0; i < newChildren.size(); i++) {
-                AstNode child = newChildren.get(i);
+            for (int i = 0; i < simplified.getChildren().size(); i++) {
+                AstNode child = simplified.getChildren().get(i);
                 if (child.isVariable() && variables.containsKey(child.getName())) {
-                    newChildren.set(i, simplifyHelper(variables.get(child.getName()), variables));
+                    simplified = simplified.withChild(i, simplifyHelper(variables.get(child.getName()), variables));
                 }
             }
 
+            IList<AstNode> newChildren = simplified.getChildren();
+
             if (newChildren.get(0).isNumber() && newChildren.size() == 2 && newChildren.get(1).isNumber()) {
                 return new AstNode(toDoubleHelper(node, variables));
             } else {
-                return new AstNode(node.getName(), newChildren);
+                return simplified;
             }
         }
         if (node.isVariable() && variables.containsKey(node.getName())) {
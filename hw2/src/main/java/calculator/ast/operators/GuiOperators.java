@@ -3,7 +3,7 @@ package calculator.ast.operators;
 import calculator.ast.AstNode;
 import calculator.errors.EvaluationError;
 import calculator.gui.ImageDrawer;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ArrayList;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 
@@ -68,8 +68,8 @@ public class GuiOperators {
         double varMax = ExpressionOperators.toDoubleHelper(node.getChildren().get(3), variables);
         double varMin = ExpressionOperators.toDoubleHelper(node.getChildren().get(2), variables);
         variables.put(varName, new AstNode(varMin));
-        IList<Double> xValues = new DoubleLinkedList<>();
-        IList<Double> yValues = new DoubleLinkedList<>();
+        IList<Double> xValues = new ArrayList<>();
+        IList<Double> yValues = new ArrayList<>();
         double stepSize = ExpressionOperators.toDoubleHelper(node.getChildren().get(4), variables);
         if (stepSize <= 0) {
             throw new EvaluationError("Step size must be greater than 0");
@@ -0,0 +1,289 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that can be "changed" cheaply by making a new version of it.
+ *
+ * Items are stored in a tree where every node holds up to 32 items or children, so the tree
+ * is only log32(n) levels deep (at most 7 levels for any int-sized list). 'plus' and 'with'
+ * return a new vector that copies just the nodes on the path to the changed item and shares
+ * everything else with the old vector, so both stay valid and each costs O(log32 n). The
+ * last partly full node (the "tail") is kept outside the tree, which makes appending
+ * usually copy a single small array.
+ *
+ * Like ReadOnlyList, the mutating IList methods (add, remove, set, insert, delete) throw an
+ * UnsupportedOperationException. Unlike ReadOnlyList, nobody can change the items underneath
+ * it, so a vector can be shared freely.
+ */
+public class PersistentVector<T> implements IList<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[0];
+    private static final PersistentVector<?> EMPTY =
+            new PersistentVector<>(0, BITS, EMPTY_NODE, EMPTY_NODE);
+
+    private final int size;
+    // How far to shift an index to find its slot in the root: BITS for each level below it.
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty vector. There is only one, so this does not allocate.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Returns a vector holding the same items as 'list', in the same order. If 'list' is
+     * already a PersistentVector, it is returned as is instead of being copied.
+     */
+    public static <T> PersistentVector<T> copyOf(IList<T> list) {
+        if (list instanceof PersistentVector) {
+            return (PersistentVector<T>) list;
+        }
+        PersistentVector<T> out = empty();
+        for (T item : list) {
+            out = out.plus(item);
+        }
+        return out;
+    }
+
+    /**
+     * Returns a new vector with 'item' added to the end. This vector is left unchanged.
+     */
+    public PersistentVector<T> plus(T item) {
+        if (this.size - this.tailOffset() < WIDTH) {
+            Object[] newTail = new Object[this.tail.length + 1];
+            System.arraycopy(this.tail, 0, newTail, 0, this.tail.length);
+            newTail[this.tail.length] = item;
+            return new PersistentVector<>(this.size + 1, this.shift, this.root, newTail);
+        }
+
+        // The tail is full, so it moves into the tree and a new tail is started.
+        Object[] newRoot;
+        int newShift = this.shift;
+        if ((this.size >>> BITS) > (1 << this.shift)) {
+            // The tree is full as well, so it grows a level.
+            newRoot = new Object[] {this.root, newPath(this.shift, this.tail)};
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(this.shift, this.root, this.tail);
+        }
+        return new PersistentVector<>(this.size + 1, newShift, newRoot, new Object[] {item});
+    }
+
+    /**
+     * Returns a new vector with the item at 'index' replaced by 'item'. This vector is left
+     * unchanged. If 'item' is already at 'index', returns this vector instead.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public PersistentVector<T> with(int index, T item) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (this.get(index) == item) {
+            return this;
+        }
+        if (index >= this.tailOffset()) {
+            Object[] newTail = this.tail.clone();
+            newTail[index & MASK] = item;
+            return new PersistentVector<>(this.size, this.shift, this.root, newTail);
+        }
+        return new PersistentVector<>(this.size, this.shift,
+                replace(this.shift, this.root, index, item), this.tail);
+    }
+
+    /**
+     * @throws UnsupportedOperationException This method is not supported on a PersistentVector.
+     */
+    @Override
+    public void add(T item) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @throws UnsupportedOperationException This method is not supported on a PersistentVector.
+     */
+    @Override
+    public T remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return (T) this.leafFor(index)[index & MASK];
+    }
+
+    /**
+     * @throws UnsupportedOperationException This method is not supported on a PersistentVector.
+     */
+    @Override
+    public void set(int index, T item) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @throws UnsupportedOperationException This method is not supported on a PersistentVector.
+     */
+    @Override
+    public void insert(int index, T item) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @throws UnsupportedOperationException This method is not supported on a PersistentVector.
+     */
+    @Override
+    public T delete(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int indexOf(T item) {
+        int index = 0;
+        for (T current : this) {
+            if (item == null ? current == null : item.equals(current)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new PersistentVectorIterator<>(this);
+    }
+
+    /**
+     * Returns the index of the first item stored in the tail.
+     */
+    private int tailOffset() {
+        return this.size < WIDTH ? 0 : ((this.size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Returns the leaf array that holds the item at 'index', which must be in bounds.
+     */
+    private Object[] leafFor(int index) {
+        if (index >= this.tailOffset()) {
+            return this.tail;
+        }
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Returns a copy of 'parent' (at the given level) with the full 'tailNode' added as its
+     * rightmost leaf, copying only the nodes along the way.
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((this.size - 1) >>> level) & MASK;
+        Object[] result = new Object[subIndex + 1];
+        System.arraycopy(parent, 0, result, 0, Math.min(parent.length, subIndex + 1));
+        Object[] toInsert;
+        if (level == BITS) {
+            toInsert = tailNode;
+        } else if (subIndex < parent.length) {
+            toInsert = pushTail(level - BITS, (Object[]) parent[subIndex], tailNode);
+        } else {
+            toInsert = newPath(level - BITS, tailNode);
+        }
+        result[subIndex] = toInsert;
+        return result;
+    }
+
+    /**
+     * Returns a chain of single-child nodes, 'level' bits tall, ending at 'node'.
+     */
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        return new Object[] {newPath(level - BITS, node)};
+    }
+
+    /**
+     * Returns a copy of 'node' (at the given level) with the item at 'index' replaced,
+     * copying only the nodes on the path to that item.
+     */
+    private static Object[] replace(int level, Object[] node, int index, Object item) {
+        Object[] result = node.clone();
+        if (level == 0) {
+            result[index & MASK] = item;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result[subIndex] = replace(level - BITS, (Object[]) node[subIndex], index, item);
+        }
+        return result;
+    }
+
+    /**
+     * Walks the vector one leaf at a time, so each item costs O(1) rather than a full
+     * O(log32 n) lookup.
+     */
+    private static class PersistentVectorIterator<T> implements Iterator<T> {
+        private final PersistentVector<T> vector;
+        private Object[] leaf;
+        private int index;
+
+        public PersistentVectorIterator(PersistentVector<T> vector) {
+            this.vector = vector;
+            this.leaf = null;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.vector.size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if ((this.index & MASK) == 0 || this.leaf == null) {
+                this.leaf = this.vector.leafFor(this.index);
+            }
+            T item = (T) this.leaf[this.index & MASK];
+            this.index++;
+            return item;
+        }
+    }
+}
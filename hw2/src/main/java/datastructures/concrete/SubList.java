@@ -0,0 +1,187 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * SubList provides a view of a range of another IList, without copying any of its items.
+ *
+ * Reads go straight to the underlying list, and 'set' writes through to it. The view always
+ * covers the same indices of the underlying list, so methods that would change its size (add,
+ * remove, insert, delete) throw an UnsupportedOperationException instead. If the underlying
+ * list's size changes after the view is made, the view's behavior is undefined.
+ *
+ * Making a view takes O(1) time. 'get' and 'set' cost whatever they cost on the underlying
+ * list, which makes this a good fit for array-backed lists as is. Linked lists, where 'get' is
+ * slow, override 'iteratorFrom' so that iterating finds the first item once and then walks
+ * the nodes in order.
+ *
+ * @see IList#subList(int, int)
+ */
+public class SubList<T> implements IList<T> {
+    private final IList<T> list;
+    private final int offset;
+    private final int size;
+
+    /**
+     * Creates a view of the items in 'list' from 'fromIndex' (inclusive) up to 'toIndex'
+     * (exclusive).
+     *
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > list.size(), or
+     *                                   fromIndex > toIndex
+     */
+    public SubList(IList<T> list, int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex, list.size());
+        this.list = list;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+    }
+
+    /**
+     * Throws an IndexOutOfBoundsException unless 0 <= fromIndex <= toIndex <= size.
+     */
+    static void checkRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * @throws UnsupportedOperationException This method is not supported on a SubList.
+     */
+    @Override
+    public void add(T item) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @throws UnsupportedOperationException This method is not supported on a SubList.
+     */
+    @Override
+    public T remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return this.list.get(this.offset + index);
+    }
+
+    @Override
+    public void set(int index, T item) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.list.set(this.offset + index, item);
+    }
+
+    /**
+     * @throws UnsupportedOperationException This method is not supported on a SubList.
+     */
+    @Override
+    public void insert(int index, T item) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @throws UnsupportedOperationException This method is not supported on a SubList.
+     */
+    @Override
+    public T delete(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int indexOf(T item) {
+        int index = 0;
+        for (T current : this) {
+            if (item == null ? current == null : item.equals(current)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    /**
+     * Returns a view of part of this view. It is made directly over the underlying list, so
+     * views of views don't pile up.
+     */
+    @Override
+    public IList<T> subList(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex, this.size);
+        return this.list.subList(this.offset + fromIndex, this.offset + toIndex);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SubListIterator<>(this.size == 0 ? null : this.iteratorFrom(this.offset), this.size);
+    }
+
+    /**
+     * Returns an iterator over the underlying list that starts at 'index', which is always in
+     * bounds. It may run past the end of this view; 'iterator' stops it after size() items.
+     *
+     * By default, this calls 'get' for each item. Subclasses should override it when the
+     * underlying list can walk its items more cheaply than that.
+     */
+    protected Iterator<T> iteratorFrom(int index) {
+        return new Iterator<T>() {
+            private int next = index;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < list.size();
+            }
+
+            @Override
+            public T next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T item = list.get(this.next);
+                this.next++;
+                return item;
+            }
+        };
+    }
+
+    private static class SubListIterator<T> implements Iterator<T> {
+        private final Iterator<T> iterator;
+        private int remaining;
+
+        public SubListIterator(Iterator<T> iterator, int remaining) {
+            this.iterator = iterator;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.remaining--;
+            return this.iterator.next();
+        }
+    }
+}
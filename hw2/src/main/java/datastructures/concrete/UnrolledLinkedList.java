@@ -0,0 +1,328 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A doubly-linked list whose nodes each hold a small array of elements instead of just one.
+ *
+ * A DoubleLinkedList spends a whole node (an object header and two pointers) on every element,
+ * and every step of an iteration is a pointer chase to somewhere new in memory. Here, that cost
+ * is shared by up to 'nodeCapacity' elements that sit next to each other in memory, so the list
+ * uses far less memory and iterates nearly as fast as an array. Finding an index still walks
+ * the list, but one node at a time rather than one element at a time.
+ *
+ * Inserting into a full node splits it in half, and deleting from a node that drops below half
+ * full merges it with a neighbor when they fit in one node, so nodes stay at least half full
+ * on average.
+ *
+ * @see datastructures.interfaces.IList for details on what each method must do.
+ */
+public class UnrolledLinkedList<T> implements IList<T> {
+    private static final int DEFAULT_NODE_CAPACITY = 32;
+
+    private Node<T> front;
+    private Node<T> back;
+    private int size;
+    private final int nodeCapacity;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Creates a list whose nodes each hold up to 'nodeCapacity' elements.
+     *
+     * @throws IllegalArgumentException if 'nodeCapacity' is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException();
+        }
+        this.front = null;
+        this.back = null;
+        this.size = 0;
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    @Override
+    public void add(T item) {
+        if (back == null || back.count == nodeCapacity) {
+            this.linkAfter(back, new Node<>(nodeCapacity));
+        }
+        back.items[back.count] = item;
+        back.count++;
+        size++;
+    }
+
+    @Override
+    public T remove() {
+        if (back == null) {
+            throw new EmptyContainerException();
+        }
+        return this.deleteFrom(back, back.count - 1);
+    }
+
+    @Override
+    public T get(int index) {
+        Position<T> position = this.positionOf(index);
+        return position.node.items[position.offset];
+    }
+
+    @Override
+    public void set(int index, T item) {
+        Position<T> position = this.positionOf(index);
+        position.node.items[position.offset] = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == size) {
+            this.add(item);
+            return;
+        }
+        Position<T> position = this.positionOf(index);
+        Node<T> node = position.node;
+        int offset = position.offset;
+        if (node.count == nodeCapacity) {
+            // Split the node, moving its second half into a new node after it.
+            Node<T> half = new Node<>(nodeCapacity);
+            int moved = node.count / 2;
+            System.arraycopy(node.items, node.count - moved, half.items, 0, moved);
+            clear(node.items, node.count - moved, node.count);
+            node.count -= moved;
+            half.count = moved;
+            this.linkAfter(node, half);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = half;
+            }
+        }
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+        node.items[offset] = item;
+        node.count++;
+        size++;
+    }
+
+    @Override
+    public T delete(int index) {
+        Position<T> position = this.positionOf(index);
+        return this.deleteFrom(position.node, position.offset);
+    }
+
+    /**
+     * Removes the element at the given offset within the node, then unlinks the node if it's
+     * empty, or merges it with a neighbor if it's less than half full and they fit together.
+     */
+    private T deleteFrom(Node<T> node, int offset) {
+        T item = node.items[offset];
+        System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+        node.count--;
+        node.items[node.count] = null;
+        size--;
+
+        if (node.count == 0) {
+            this.unlink(node);
+        } else if (node.count < nodeCapacity / 2) {
+            if (node.next != null && node.count + node.next.count <= nodeCapacity) {
+                this.mergeWithNext(node);
+            } else if (node.prev != null && node.prev.count + node.count <= nodeCapacity) {
+                this.mergeWithNext(node.prev);
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Returns the node holding the element at the given index, along with the element's
+     * offset within that node. Walks from whichever end of the list is closer.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    private Position<T> positionOf(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index < size / 2) {
+            Node<T> node = front;
+            int start = 0;
+            while (index >= start + node.count) {
+                start += node.count;
+                node = node.next;
+            }
+            return new Position<>(node, index - start);
+        } else {
+            Node<T> node = back;
+            int start = size - node.count;
+            while (index < start) {
+                node = node.prev;
+                start -= node.count;
+            }
+            return new Position<>(node, index - start);
+        }
+    }
+
+    private void mergeWithNext(Node<T> node) {
+        Node<T> next = node.next;
+        System.arraycopy(next.items, 0, node.items, node.count, next.count);
+        node.count += next.count;
+        this.unlink(next);
+    }
+
+    /**
+     * Links the new node in after 'node', or at the front of the list if 'node' is null.
+     */
+    private void linkAfter(Node<T> node, Node<T> newNode) {
+        Node<T> next = node == null ? front : node.next;
+        newNode.prev = node;
+        newNode.next = next;
+        if (node == null) {
+            front = newNode;
+        } else {
+            node.next = newNode;
+        }
+        if (next == null) {
+            back = newNode;
+        } else {
+            next.prev = newNode;
+        }
+    }
+
+    private void unlink(Node<T> node) {
+        if (node.prev == null) {
+            front = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            back = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    private static void clear(Object[] items, int from, int to) {
+        for (int i = from; i < to; i++) {
+            items[i] = null;
+        }
+    }
+
+    @Override
+    public int indexOf(T item) {
+        int index = 0;
+        for (Node<T> node = front; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (item == null ? node.items[i] == null : item.equals(node.items[i])) {
+                    return index + i;
+                }
+            }
+            index += node.count;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledLinkedListIterator<>(this.front, 0);
+    }
+
+    /**
+     * Returns a view of the elements from 'fromIndex' (inclusive) up to 'toIndex' (exclusive).
+     * Iterating over the view finds the node holding its first element once, then reads each
+     * node's array in order, rather than calling 'get' for each element.
+     *
+     * @see IList#subList(int, int)
+     */
+    @Override
+    public IList<T> subList(int fromIndex, int toIndex) {
+        return new UnrolledSubList<>(this, fromIndex, toIndex);
+    }
+
+    private static class UnrolledSubList<T> extends SubList<T> {
+        private final UnrolledLinkedList<T> list;
+
+        public UnrolledSubList(UnrolledLinkedList<T> list, int fromIndex, int toIndex) {
+            super(list, fromIndex, toIndex);
+            this.list = list;
+        }
+
+        @Override
+        protected Iterator<T> iteratorFrom(int index) {
+            Position<T> position = this.list.positionOf(index);
+            return new UnrolledLinkedListIterator<>(position.node, position.offset);
+        }
+    }
+
+    /**
+     * Where an element lives: the node holding it, and its index within 'node.items'.
+     */
+    private static class Position<E> {
+        public final Node<E> node;
+        public final int offset;
+
+        public Position(Node<E> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+
+    private static class Node<E> {
+        public final E[] items;
+        public int count;
+        public Node<E> prev;
+        public Node<E> next;
+
+        public Node(int capacity) {
+            this.items = makeArrayOfE(capacity);
+            this.count = 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <E> E[] makeArrayOfE(int arraySize) {
+            return (E[]) new Object[arraySize];
+        }
+    }
+
+    private static class UnrolledLinkedListIterator<T> implements Iterator<T> {
+        private Node<T> current;
+        private int offset;
+
+        public UnrolledLinkedListIterator(Node<T> current, int offset) {
+            this.current = current;
+            this.offset = offset;
+        }
+
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        public T next() {
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+            T item = current.items[offset];
+            offset++;
+            if (offset == current.count) {
+                current = current.next;
+                offset = 0;
+            }
+            return item;
+        }
+    }
+}
@@ -6,6 +6,15 @@ import misc.exceptions.NoSuchKeyException;
 import java.util.Objects;
 
 /**
+ * Each key's hash code is cached in a parallel array, so a lookup compares ints and only
+ * calls 'equals' when the hash codes match.
+ *
+ * In adaptive mode, every successful lookup swaps the key one slot toward the front of the
+ * array (the "transpose" heuristic). Keys that are looked up often drift to the front and
+ * are found after only a few comparisons, while a one-off lookup barely disturbs the order.
+ * This suits small maps that are read far more often than they are written, like the
+ * calculator's operator tables.
+ *
  * @see datastructures.interfaces.IDictionary
  */
 public class ArrayDictionary<K, V> implements IDictionary<K, V> {
@@ -15,9 +24,27 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
     private int size;
     // You may add extra fields or helper methods though!
 
+    // hashes[i] is the hash code of pairs[i].key.
+    private int[] hashes;
+    private final boolean adaptive;
+
     public ArrayDictionary() {
+        this(false);
+    }
+
+    /**
+     * Creates a dictionary that, if 'adaptive' is true, moves keys toward the front of the
+     * array as they are looked up.
+     *
+     * In adaptive mode, 'get', 'getOrDefault' and 'containsKey' write to the array, so an
+     * adaptive dictionary must not be shared between threads, even if they only read it.
+     * Two lookups at once can interleave their swaps and lose a pair for good.
+     */
+    public ArrayDictionary(boolean adaptive) {
         pairs = makeArrayOfPairs(10);
+        hashes = new int[10];
         this.size = 0;
+        this.adaptive = adaptive;
     }
 
     /**
@@ -47,10 +74,16 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
         if (index == -1){
             throw new NoSuchKeyException();
         } else {
-            return pairs[index].value;
+            return pairs[promote(index)].value;
         }
     }
 
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int index = indexOf(key);
+        return index == -1 ? defaultValue : pairs[promote(index)].value;
+    }
+
     @Override
     public void put(K key, V value) {
         int index = indexOf(key);
@@ -58,13 +91,17 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
             pairs[index].value = value;
         } else {
             if (this.size == pairs.length) {
-                Pair<K, V>[] temp = new Pair[this.size * 2];
+                Pair<K, V>[] temp = makeArrayOfPairs(this.size * 2);
+                int[] tempHashes = new int[this.size * 2];
                 for (int i = 0; i < size; i++){
                     temp[i] = pairs[i];
+                    tempHashes[i] = hashes[i];
                 }
                 pairs = temp;
+                hashes = tempHashes;
             }
             pairs[this.size] = new Pair<>(key, value);
+            hashes[this.size] = Objects.hashCode(key);
             this.size++;
         }
     }
@@ -75,32 +112,56 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
         if (index == -1){
             throw new NoSuchKeyException();
         }
-        V data;
-        if (index != this.size - 1) {
-            data = pairs[index].value;
+        V data = pairs[index].value;
+        if (adaptive) {
+            // Shift the later pairs down so the hot keys at the front stay in order.
+            System.arraycopy(pairs, index + 1, pairs, index, this.size - index - 1);
+            System.arraycopy(hashes, index + 1, hashes, index, this.size - index - 1);
+        } else if (index != this.size - 1) {
             pairs[index] = pairs[this.size - 1];
-        } else {
-            data = pairs[this.size - 1].value;
+            hashes[index] = hashes[this.size - 1];
         }
+        pairs[this.size - 1] = null;
         this.size--;
         return data;
     }
 
     @Override
     public boolean containsKey(K key) {
-        return indexOf(key) != -1;
+        int index = indexOf(key);
+        if (index == -1) {
+            return false;
+        }
+        promote(index);
+        return true;
     }
 
     // Returns the index of the passed in key, if found, and returns -1 otherwise
     private int indexOf(K key){
+        int hash = Objects.hashCode(key);
         for (int i = 0; i < size; i++){
-            if (Objects.equals(key, pairs[i].key)){
+            if (hashes[i] == hash && Objects.equals(key, pairs[i].key)){
                 return i;
             }
         }
         return -1;
     }
 
+    // In adaptive mode, swaps the pair at the given index with the one before it and
+    // returns its new index; otherwise returns the index unchanged.
+    private int promote(int index) {
+        if (!adaptive || index == 0) {
+            return index;
+        }
+        Pair<K, V> pair = pairs[index];
+        pairs[index] = pairs[index - 1];
+        pairs[index - 1] = pair;
+        int hash = hashes[index];
+        hashes[index] = hashes[index - 1];
+        hashes[index - 1] = hash;
+        return index - 1;
+    }
+
     @Override
     public int size() {
         return this.size;
@@ -0,0 +1,348 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Objects;
+
+/**
+ * A dictionary stored as a hash array mapped trie, which can be snapshotted in O(1) time.
+ *
+ * Each node of the trie uses 5 bits of a key's hash code to pick one of up to 32 slots, and
+ * keeps a 32-bit bitmap of which slots are in use so that it only needs an array as long as
+ * the slots it actually has. A slot holds either a single pair or a child node for the next
+ * 5 bits, so lookups walk at most log32(n) nodes in practice. Keys whose hash codes are
+ * exactly equal end up together in a small collision node.
+ *
+ * The nodes are never modified once built. 'put' and 'remove' instead copy the nodes on the
+ * path to the changed key and share the rest, then swap in the new root. That makes
+ * 'snapshot' trivial: a snapshot is just another dictionary pointing at the current root,
+ * and later changes to either dictionary can't affect the other.
+ *
+ * @see datastructures.interfaces.IDictionary
+ */
+public class PersistentHashDictionary<K, V> implements IDictionary<K, V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private TrieNode<K, V> root;
+    private int size;
+
+    public PersistentHashDictionary() {
+        this(BitmapNode.empty(), 0);
+    }
+
+    private PersistentHashDictionary(TrieNode<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns a copy of this dictionary in O(1) time. The two share their nodes, but changes
+     * made to one afterwards are not seen by the other.
+     */
+    public PersistentHashDictionary<K, V> snapshot() {
+        return new PersistentHashDictionary<>(this.root, this.size);
+    }
+
+    /**
+     * Makes this dictionary hold exactly the pairs in 'snapshot', in O(1) time. Used with
+     * 'snapshot' to undo a batch of changes.
+     */
+    public void restore(PersistentHashDictionary<K, V> snapshot) {
+        this.root = snapshot.root;
+        this.size = snapshot.size;
+    }
+
+    @Override
+    public V get(K key) {
+        Pair<K, V> pair = this.root.find(Objects.hashCode(key), key, 0);
+        if (pair == null) {
+            throw new NoSuchKeyException();
+        }
+        return pair.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Pair<K, V> pair = this.root.find(Objects.hashCode(key), key, 0);
+        return pair == null ? defaultValue : pair.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        int hash = Objects.hashCode(key);
+        Pair<K, V> existing = this.root.find(hash, key, 0);
+        if (existing != null && existing.value == value) {
+            return;
+        }
+        this.root = this.root.put(new Pair<>(hash, key, value), 0);
+        if (existing == null) {
+            this.size++;
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        int hash = Objects.hashCode(key);
+        Pair<K, V> existing = this.root.find(hash, key, 0);
+        if (existing == null) {
+            throw new NoSuchKeyException();
+        }
+        Object newRoot = this.root.remove(hash, key, 0);
+        if (newRoot == null) {
+            this.root = BitmapNode.empty();
+        } else if (newRoot instanceof Pair) {
+            // A lone pair can't be the root, so it goes back in a node of its own.
+            this.root = BitmapNode.<K, V>empty().put(existingPair(newRoot), 0);
+        } else {
+            this.root = trieNode(newRoot);
+        }
+        this.size--;
+        return existing.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.root.find(Objects.hashCode(key), key, 0) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Pair<K, V> existingPair(Object slot) {
+        return (Pair<K, V>) slot;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> TrieNode<K, V> trieNode(Object slot) {
+        return (TrieNode<K, V>) slot;
+    }
+
+    /**
+     * Returns the slot (0 to 31) that 'hash' falls in at the given level of the trie.
+     */
+    private static int slotOf(int hash, int shift) {
+        return (hash >>> shift) & MASK;
+    }
+
+    private static class Pair<K, V> {
+        public final int hash;
+        public final K key;
+        public final V value;
+
+        public Pair(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        public boolean matches(int otherHash, K otherKey) {
+            return this.hash == otherHash && Objects.equals(this.key, otherKey);
+        }
+    }
+
+    /**
+     * A node of the trie. 'shift' is the position of the hash bits this node looks at, which
+     * is 5 times its depth. None of these methods change the node they are called on.
+     */
+    private abstract static class TrieNode<K, V> {
+        /**
+         * Returns the pair with the given key, or null if there is none.
+         */
+        public abstract Pair<K, V> find(int hash, K key, int shift);
+
+        /**
+         * Returns a node holding this node's pairs plus 'pair', which replaces any pair
+         * with the same key.
+         */
+        public abstract TrieNode<K, V> put(Pair<K, V> pair, int shift);
+
+        /**
+         * Returns what should replace this node once the key (which must be present) is
+         * removed: null if nothing is left, a lone Pair if one pair is left and could sit
+         * directly in the parent, or otherwise a new TrieNode.
+         */
+        public abstract Object remove(int hash, K key, int shift);
+    }
+
+    private static class BitmapNode<K, V> extends TrieNode<K, V> {
+        private static final BitmapNode<?, ?> EMPTY = new BitmapNode<>(0, new Object[0]);
+
+        // Bit i is set if slot i is in use. Slot i is stored at slots[number of set bits below i].
+        private final int bitmap;
+        // Each entry is either a Pair or a TrieNode.
+        private final Object[] slots;
+
+        public BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        @SuppressWarnings("unchecked")
+        public static <K, V> BitmapNode<K, V> empty() {
+            return (BitmapNode<K, V>) EMPTY;
+        }
+
+        private int indexOf(int bit) {
+            return Integer.bitCount(this.bitmap & (bit - 1));
+        }
+
+        @Override
+        public Pair<K, V> find(int hash, K key, int shift) {
+            int bit = 1 << slotOf(hash, shift);
+            if ((this.bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = this.slots[this.indexOf(bit)];
+            if (slot instanceof Pair) {
+                Pair<K, V> pair = existingPair(slot);
+                return pair.matches(hash, key) ? pair : null;
+            }
+            return PersistentHashDictionary.<K, V>trieNode(slot).find(hash, key, shift + BITS);
+        }
+
+        @Override
+        public TrieNode<K, V> put(Pair<K, V> pair, int shift) {
+            int bit = 1 << slotOf(pair.hash, shift);
+            int index = this.indexOf(bit);
+            if ((this.bitmap & bit) == 0) {
+                Object[] newSlots = new Object[this.slots.length + 1];
+                System.arraycopy(this.slots, 0, newSlots, 0, index);
+                newSlots[index] = pair;
+                System.arraycopy(this.slots, index, newSlots, index + 1, this.slots.length - index);
+                return new BitmapNode<>(this.bitmap | bit, newSlots);
+            }
+
+            Object slot = this.slots[index];
+            Object replacement;
+            if (slot instanceof Pair) {
+                Pair<K, V> existing = existingPair(slot);
+                if (existing.matches(pair.hash, pair.key)) {
+                    replacement = pair;
+                } else {
+                    replacement = merge(existing, pair, shift + BITS);
+                }
+            } else {
+                replacement = PersistentHashDictionary.<K, V>trieNode(slot).put(pair, shift + BITS);
+            }
+            Object[] newSlots = this.slots.clone();
+            newSlots[index] = replacement;
+            return new BitmapNode<>(this.bitmap, newSlots);
+        }
+
+        @Override
+        public Object remove(int hash, K key, int shift) {
+            int bit = 1 << slotOf(hash, shift);
+            int index = this.indexOf(bit);
+            Object slot = this.slots[index];
+            Object replacement = null;
+            if (slot instanceof TrieNode) {
+                replacement = PersistentHashDictionary.<K, V>trieNode(slot).remove(hash, key, shift + BITS);
+            }
+
+            if (replacement == null) {
+                if (this.slots.length == 1) {
+                    return null;
+                }
+                if (this.slots.length == 2 && this.slots[1 - index] instanceof Pair) {
+                    return this.slots[1 - index];
+                }
+                Object[] newSlots = new Object[this.slots.length - 1];
+                System.arraycopy(this.slots, 0, newSlots, 0, index);
+                System.arraycopy(this.slots, index + 1, newSlots, index, newSlots.length - index);
+                return new BitmapNode<K, V>(this.bitmap & ~bit, newSlots);
+            }
+            if (this.slots.length == 1 && replacement instanceof Pair) {
+                return replacement;
+            }
+            Object[] newSlots = this.slots.clone();
+            newSlots[index] = replacement;
+            return new BitmapNode<K, V>(this.bitmap, newSlots);
+        }
+
+        /**
+         * Returns a node at the given level holding two pairs with different keys.
+         */
+        private static <K, V> TrieNode<K, V> merge(Pair<K, V> first, Pair<K, V> second, int shift) {
+            if (first.hash == second.hash) {
+                return new CollisionNode<>(first.hash, new Object[] {first, second});
+            }
+            int firstSlot = slotOf(first.hash, shift);
+            int secondSlot = slotOf(second.hash, shift);
+            if (firstSlot == secondSlot) {
+                return new BitmapNode<>(1 << firstSlot, new Object[] {merge(first, second, shift + BITS)});
+            }
+            Object[] slots = firstSlot < secondSlot
+                    ? new Object[] {first, second}
+                    : new Object[] {second, first};
+            return new BitmapNode<>((1 << firstSlot) | (1 << secondSlot), slots);
+        }
+    }
+
+    /**
+     * Holds two or more pairs whose keys have exactly the same hash code.
+     */
+    private static class CollisionNode<K, V> extends TrieNode<K, V> {
+        private final int hash;
+        private final Object[] pairs;
+
+        public CollisionNode(int hash, Object[] pairs) {
+            this.hash = hash;
+            this.pairs = pairs;
+        }
+
+        private int indexOf(K key) {
+            for (int i = 0; i < this.pairs.length; i++) {
+                if (Objects.equals(PersistentHashDictionary.<K, V>existingPair(this.pairs[i]).key, key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Pair<K, V> find(int otherHash, K key, int shift) {
+            if (otherHash != this.hash) {
+                return null;
+            }
+            int index = this.indexOf(key);
+            return index == -1 ? null : existingPair(this.pairs[index]);
+        }
+
+        @Override
+        public TrieNode<K, V> put(Pair<K, V> pair, int shift) {
+            if (pair.hash != this.hash) {
+                // Push this node one level down, beside the new pair.
+                BitmapNode<K, V> parent = new BitmapNode<>(1 << slotOf(this.hash, shift), new Object[] {this});
+                return parent.put(pair, shift);
+            }
+            int index = this.indexOf(pair.key);
+            Object[] newPairs;
+            if (index == -1) {
+                newPairs = new Object[this.pairs.length + 1];
+                System.arraycopy(this.pairs, 0, newPairs, 0, this.pairs.length);
+                newPairs[this.pairs.length] = pair;
+            } else {
+                newPairs = this.pairs.clone();
+                newPairs[index] = pair;
+            }
+            return new CollisionNode<>(this.hash, newPairs);
+        }
+
+        @Override
+        public Object remove(int otherHash, K key, int shift) {
+            int index = this.indexOf(key);
+            if (this.pairs.length == 2) {
+                return this.pairs[1 - index];
+            }
+            Object[] newPairs = new Object[this.pairs.length - 1];
+            System.arraycopy(this.pairs, 0, newPairs, 0, index);
+            System.arraycopy(this.pairs, index + 1, newPairs, index, newPairs.length - index);
+            return new CollisionNode<K, V>(this.hash, newPairs);
+        }
+    }
+}
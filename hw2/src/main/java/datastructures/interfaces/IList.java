@@ -1,5 +1,6 @@
 package datastructures.interfaces;
 
+import datastructures.concrete.SubList;
 import misc.exceptions.EmptyContainerException;
 
 import java.util.Iterator;
@@ -76,6 +77,22 @@ public interface IList<T> extends Iterable<T> {
      */
     public boolean contains(T other);
 
+    /**
+     * Returns a view of the items from 'fromIndex' (inclusive) up to 'toIndex' (exclusive).
+     *
+     * No items are copied: the view reads from this list, and 'set' on the view writes
+     * through to this list. The view can't change size, so its add, remove, insert and delete
+     * methods throw an UnsupportedOperationException. If this list's size changes after the
+     * view is made, the view's behavior is undefined.
+     *
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > this.size(), or
+     *                                   fromIndex > toIndex
+     * @see SubList
+     */
+    public default IList<T> subList(int fromIndex, int toIndex) {
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
     /**
      * Returns an iterator over the contents of this list.
      */
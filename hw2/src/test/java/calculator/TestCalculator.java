@@ -231,6 +231,23 @@ public class TestCalculator extends BaseTest {
             // Do nothing
         }
     }
+
+    @Test(timeout = SECOND)
+    public void testFailedEvaluationRestoresVariables() {
+        Calculator calc = new Calculator();
+        calc.setImageDrawer(new FakeImageDrawer());
+        calc.evaluate("y := 2");
+
+        // The plot defines 'x' before it notices that the step size is invalid.
+        try {
+            calc.evaluate("plot(3 * x, x, 0, 10, -1)");
+            fail("Expected EvaluationError");
+        } catch (EvaluationError err) {
+            // Do nothing
+        }
+        assertEquals("x", calc.evaluate("x"));
+        assertEquals("2", calc.evaluate("y"));
+    }
     
 
 
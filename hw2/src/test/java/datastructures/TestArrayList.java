@@ -0,0 +1,294 @@
+package datastructures;
+
+import datastructures.concrete.ArrayList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestArrayList extends BaseTest {
+    protected IList<String> makeBasicList() {
+        IList<String> list = new ArrayList<>();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        return list;
+    }
+
+    protected <T> void assertListMatches(T[] expected, IList<T> actual) {
+        assertEquals(expected.length, actual.size());
+        assertEquals(expected.length == 0, actual.isEmpty());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual.get(i));
+        }
+        Iterator<T> iter = actual.iterator();
+        for (int i = 0; i < expected.length; i++) {
+            assertTrue(iter.hasNext());
+            assertEquals(expected[i], iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddRemoveBasic() {
+        IList<String> list = this.makeBasicList();
+        this.assertListMatches(new String[] {"a", "b", "c"}, list);
+
+        assertEquals("c", list.remove());
+        assertEquals("b", list.remove());
+        this.assertListMatches(new String[] {"a"}, list);
+        assertEquals("a", list.remove());
+        this.assertListMatches(new String[] {}, list);
+
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetInsertDeleteBasic() {
+        IList<String> list = this.makeBasicList();
+        list.set(1, "x");
+        this.assertListMatches(new String[] {"a", "x", "c"}, list);
+
+        list.insert(0, "front");
+        list.insert(4, "back");
+        list.insert(2, "mid");
+        this.assertListMatches(new String[] {"front", "a", "mid", "x", "c", "back"}, list);
+
+        assertEquals("front", list.delete(0));
+        assertEquals("back", list.delete(4));
+        assertEquals("mid", list.delete(1));
+        this.assertListMatches(new String[] {"a", "x", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testOutOfBoundsThrowsException() {
+        IList<String> list = this.makeBasicList();
+        int[] badIndices = {-1, 3, 4, Integer.MIN_VALUE};
+        for (int index : badIndices) {
+            try {
+                list.get(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+            try {
+                list.set(index, "bad");
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+            try {
+                list.delete(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+        try {
+            list.insert(4, "bad");
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            list.insert(-1, "bad");
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new ArrayList<String>(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        this.assertListMatches(new String[] {"a", "b", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testIndexOfAndContains() {
+        IList<String> list = this.makeBasicList();
+        list.add(null);
+        list.add("b");
+        assertEquals(1, list.indexOf("b"));
+        assertEquals(3, list.indexOf(null));
+        assertEquals(-1, list.indexOf("d"));
+        assertTrue(list.contains(null));
+        assertTrue(list.contains(new String("c")));
+        assertFalse(list.contains("d"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorBasic() {
+        IList<String> list = new ArrayList<>(0);
+        Iterator<String> iter = list.iterator();
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+
+        list.add("a");
+        list.add("b");
+        Iterator<String> iter1 = list.iterator();
+        Iterator<String> iter2 = list.iterator();
+        assertEquals("a", iter1.next());
+        assertEquals("a", iter2.next());
+        assertEquals("b", iter1.next());
+        assertFalse(iter1.hasNext());
+        assertTrue(iter2.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEnsureCapacity() {
+        ArrayList<Integer> list = new ArrayList<>(2);
+        list.add(1);
+        list.ensureCapacity(1000);
+        for (int i = 2; i <= 1000; i++) {
+            list.add(i);
+        }
+        assertEquals(1000, list.size());
+        assertEquals(1000, list.get(999));
+        try {
+            list.ensureCapacity(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testGetAndSetAreEfficient() {
+        int size = 100000;
+        IList<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        Random rand = new Random(373);
+        for (int i = 0; i < 10 * size; i++) {
+            int index = rand.nextInt(size);
+            list.set(index, list.get(index) + size);
+        }
+        long total = 0;
+        for (int item : list) {
+            total += item;
+        }
+        assertEquals((long) size * (size - 1) / 2 + 10L * size * size, total);
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testMatchesJavaList() {
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        IList<Integer> actual = new ArrayList<>();
+        Random rand = new Random(12);
+        for (int i = 0; i < 5000; i++) {
+            int op = rand.nextInt(5);
+            if (op == 0 || expected.isEmpty()) {
+                expected.add(i);
+                actual.add(i);
+            } else if (op == 1) {
+                assertEquals(expected.remove(expected.size() - 1), actual.remove());
+            } else if (op == 2) {
+                int index = rand.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual.insert(index, i);
+            } else if (op == 3) {
+                int index = rand.nextInt(expected.size());
+                assertEquals(expected.remove(index), actual.delete(index));
+            } else {
+                int index = rand.nextInt(expected.size());
+                expected.set(index, -i);
+                actual.set(index, -i);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        Iterator<Integer> iter = actual.iterator();
+        for (int item : expected) {
+            assertEquals(item, iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubListReadsAndWritesThrough() {
+        IList<String> list = this.makeBasicList();
+        list.add("d");
+        list.add("e");
+
+        IList<String> view = list.subList(1, 4);
+        assertListMatches(new String[] {"b", "c", "d"}, view);
+        assertEquals(1, view.indexOf("c"));
+        assertFalse(view.contains("a"));
+
+        view.set(0, "x");
+        list.set(3, "y");
+        assertEquals("x", list.get(1));
+        assertListMatches(new String[] {"x", "c", "y"}, view);
+        assertListMatches(new String[] {"a", "x", "c", "y", "e"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubListOfSubList() {
+        IList<String> list = this.makeBasicList();
+        list.add("d");
+        list.add("e");
+
+        IList<String> view = list.subList(1, 5).subList(1, 3);
+        assertListMatches(new String[] {"c", "d"}, view);
+        assertListMatches(new String[] {}, list.subList(5, 5));
+        assertListMatches(new String[] {}, view.subList(2, 2));
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubListErrors() {
+        IList<String> list = this.makeBasicList();
+        int[][] badRanges = {{-1, 2}, {0, 4}, {2, 1}};
+        for (int[] range : badRanges) {
+            try {
+                list.subList(range[0], range[1]);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+
+        IList<String> view = list.subList(0, 2);
+        try {
+            view.get(2);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            view.add("d");
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+        try {
+            view.delete(0);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+        assertListMatches(new String[] {"a", "b", "c"}, list);
+    }
+}
@@ -0,0 +1,175 @@
+package datastructures;
+
+import datastructures.concrete.ArrayList;
+import datastructures.concrete.PersistentVector;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPersistentVector extends BaseTest {
+    private static PersistentVector<Integer> makeRange(int size) {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < size; i++) {
+            vector = vector.plus(i);
+        }
+        return vector;
+    }
+
+    private static void assertRange(int size, IList<Integer> actual) {
+        assertEquals(size, actual.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, actual.get(i));
+        }
+        int expected = 0;
+        for (int item : actual) {
+            assertEquals(expected, item);
+            expected++;
+        }
+        assertEquals(size, expected);
+    }
+
+    @Test(timeout=SECOND)
+    public void basicTestEmpty() {
+        PersistentVector<String> vector = PersistentVector.empty();
+        assertEquals(0, vector.size());
+        assertTrue(vector.isEmpty());
+        assertFalse(vector.iterator().hasNext());
+        assertTrue(vector == PersistentVector.<String>empty());
+    }
+
+    @Test(timeout=SECOND)
+    public void basicTestPlusLeavesOriginalUnchanged() {
+        PersistentVector<String> first = PersistentVector.<String>empty().plus("a").plus("b");
+        PersistentVector<String> second = first.plus("c");
+
+        assertEquals(2, first.size());
+        assertEquals(3, second.size());
+        assertEquals("b", first.get(1));
+        assertEquals("c", second.get(2));
+        assertEquals(2, second.indexOf("c"));
+        assertEquals(-1, first.indexOf("c"));
+        assertFalse(first.contains("c"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testPlusAcrossManyLevels() {
+        // 32 items fill the tail, 32 * 32 + 32 fill one level of tree, and so on.
+        int[] sizes = {1, 31, 32, 33, 64, 65, 1024, 1056, 1057, 33 * 1024, 33 * 1024 + 33};
+        for (int size : sizes) {
+            assertRange(size, makeRange(size));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testWithLeavesOriginalUnchanged() {
+        PersistentVector<Integer> original = makeRange(2000);
+        PersistentVector<Integer> changed = original;
+        for (int i = 0; i < 2000; i += 7) {
+            changed = changed.with(i, -i);
+        }
+
+        assertRange(2000, original);
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(i % 7 == 0 ? -i : i, changed.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testWithSameItemReturnsSameVector() {
+        PersistentVector<Integer> vector = makeRange(100);
+        assertTrue(vector.with(5, vector.get(5)) == vector);
+        assertTrue(vector.with(99, vector.get(99)) == vector);
+        assertFalse(vector.with(5, 1000) == vector);
+    }
+
+    @Test(timeout=SECOND)
+    public void testWithOutOfBoundsThrowsException() {
+        PersistentVector<Integer> vector = makeRange(40);
+        try {
+            vector.with(40, 0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            vector.get(-1);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testMutatorsThrowException() {
+        PersistentVector<Integer> vector = makeRange(3);
+        try {
+            vector.add(3);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+        try {
+            vector.set(0, 3);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+        try {
+            vector.delete(0);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+        assertRange(3, vector);
+    }
+
+    @Test(timeout=SECOND)
+    public void testCopyOf() {
+        IList<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        PersistentVector<Integer> vector = PersistentVector.copyOf(list);
+        list.set(0, -1);
+        assertRange(100, vector);
+        assertTrue(PersistentVector.copyOf(vector) == vector);
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorPastEndThrowsException() {
+        Iterator<Integer> iter = makeRange(33).iterator();
+        for (int i = 0; i < 33; i++) {
+            assertEquals(i, iter.next());
+        }
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testManyVersionsAreEfficient() {
+        // Each 'with' copies only a handful of small arrays, so keeping every version around
+        // is cheap. Copying the whole vector each time would take far too long here.
+        PersistentVector<Integer> vector = makeRange(100000);
+        PersistentVector<Integer> current = vector;
+        for (int i = 0; i < 100000; i++) {
+            current = current.with(i, i + 1);
+        }
+        assertEquals(0, vector.get(0));
+        assertEquals(100000, current.get(99999));
+    }
+}
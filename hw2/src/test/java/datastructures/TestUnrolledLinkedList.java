@@ -0,0 +1,330 @@
+package datastructures;
+
+import datastructures.concrete.UnrolledLinkedList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestUnrolledLinkedList extends BaseTest {
+    protected IList<String> makeBasicList() {
+        IList<String> list = new UnrolledLinkedList<>(4);
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        return list;
+    }
+
+    /**
+     * Checks that the list's nodes are linked correctly in both directions, that none of them
+     * are empty, and that together they hold exactly the expected elements.
+     */
+    protected <T> void assertListValidAndMatches(T[] expected, IList<T> actual) {
+        assertEquals(expected.length, actual.size());
+        Object front = getField(actual, "front");
+        Object back = getField(actual, "back");
+        if (expected.length == 0) {
+            assertEquals(null, front);
+            assertEquals(null, back);
+            return;
+        }
+
+        int index = 0;
+        Object prev = null;
+        Object node = front;
+        while (node != null) {
+            assertTrue("Node has the wrong 'prev' pointer.", getField(node, "prev") == prev);
+            Object[] items = getField(node, "items", Object[].class);
+            int count = getField(node, "count", Integer.class);
+            assertTrue("Lists shouldn't keep empty nodes.", count > 0);
+            for (int i = 0; i < count; i++) {
+                assertEquals(expected[index], items[i]);
+                index++;
+            }
+            for (int i = count; i < items.length; i++) {
+                assertEquals("Unused slots should be cleared.", null, items[i]);
+            }
+            prev = node;
+            node = getField(node, "next");
+        }
+        assertTrue("The 'back' field doesn't point to the last node.", back == prev);
+        assertEquals(expected.length, index);
+
+        Iterator<T> iter = actual.iterator();
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual.get(i));
+            assertEquals(expected[i], iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddRemoveBasic() {
+        IList<String> list = this.makeBasicList();
+        list.add("d");
+        list.add("e");
+        this.assertListValidAndMatches(new String[] {"a", "b", "c", "d", "e"}, list);
+
+        assertEquals("e", list.remove());
+        assertEquals("d", list.remove());
+        assertEquals("c", list.remove());
+        this.assertListValidAndMatches(new String[] {"a", "b"}, list);
+        list.remove();
+        list.remove();
+        this.assertListValidAndMatches(new String[] {}, list);
+
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertSplitsFullNodes() {
+        IList<String> list = this.makeBasicList();
+        list.add("d");
+        list.insert(1, "x");
+        this.assertListValidAndMatches(new String[] {"a", "x", "b", "c", "d"}, list);
+        list.insert(4, "y");
+        list.insert(0, "z");
+        list.insert(7, "end");
+        this.assertListValidAndMatches(new String[] {"z", "a", "x", "b", "c", "y", "d", "end"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testDeleteMergesNodes() {
+        IList<Integer> list = new UnrolledLinkedList<>(4);
+        for (int i = 0; i < 12; i++) {
+            list.add(i);
+        }
+        assertEquals(0, list.delete(0));
+        assertEquals(1, list.delete(0));
+        assertEquals(5, list.delete(3));
+        this.assertListValidAndMatches(new Integer[] {2, 3, 4, 6, 7, 8, 9, 10, 11}, list);
+        for (int i = 0; i < 9; i++) {
+            list.delete(list.size() / 2);
+        }
+        this.assertListValidAndMatches(new Integer[] {}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetIndexOfAndContains() {
+        IList<String> list = this.makeBasicList();
+        list.add(null);
+        list.add("b");
+        list.set(0, "first");
+        list.set(4, "last");
+        this.assertListValidAndMatches(new String[] {"first", "b", "c", null, "last"}, list);
+        assertEquals(1, list.indexOf("b"));
+        assertEquals(3, list.indexOf(null));
+        assertEquals(-1, list.indexOf("a"));
+        assertTrue(list.contains(new String("c")));
+        assertFalse(list.contains("a"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrorHandling() {
+        IList<String> list = this.makeBasicList();
+        int[] badIndices = {-1, 3, 10};
+        for (int index : badIndices) {
+            try {
+                list.get(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+            try {
+                list.set(index, "bad");
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+            try {
+                list.delete(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+        try {
+            list.insert(4, "bad");
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new UnrolledLinkedList<String>(1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        this.assertListValidAndMatches(new String[] {"a", "b", "c"}, list);
+
+        Iterator<String> iter = new UnrolledLinkedList<String>().iterator();
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testMatchesJavaList() {
+        for (int nodeCapacity : new int[] {2, 3, 8, 32}) {
+            java.util.List<Integer> expected = new java.util.ArrayList<>();
+            IList<Integer> actual = new UnrolledLinkedList<>(nodeCapacity);
+            Random rand = new Random(nodeCapacity);
+            for (int i = 0; i < 3000; i++) {
+                int op = rand.nextInt(5);
+                if (op == 0 || expected.isEmpty()) {
+                    expected.add(i);
+                    actual.add(i);
+                } else if (op == 1) {
+                    assertEquals(expected.remove(expected.size() - 1), actual.remove());
+                } else if (op == 2) {
+                    int index = rand.nextInt(expected.size() + 1);
+                    expected.add(index, i);
+                    actual.insert(index, i);
+                } else if (op == 3) {
+                    int index = rand.nextInt(expected.size());
+                    assertEquals(expected.remove(index), actual.delete(index));
+                } else {
+                    int index = rand.nextInt(expected.size());
+                    expected.set(index, -i);
+                    actual.set(index, -i);
+                }
+            }
+            this.assertListValidAndMatches(expected.toArray(new Integer[0]), actual);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testGetAndInsertAreEfficient() {
+        IList<Integer> list = new UnrolledLinkedList<>();
+        int cap = 50000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        long total = 0;
+        for (int i = 0; i < 2000; i++) {
+            total += list.get(cap / 2 + i);
+            list.insert(cap / 3, i);
+        }
+        assertEquals(cap + 2000, list.size());
+        // Each insert shifts the later elements along by one, so we read the same one each time.
+        assertEquals(2000L * (cap / 2), total);
+    }
+
+    /**
+     * Checks the contents of a subList view through both 'get' and its iterator.
+     */
+    private <T> void assertViewMatches(T[] expected, IList<T> view) {
+        assertEquals(expected.length, view.size());
+        int index = 0;
+        for (T item : view) {
+            assertEquals(expected[index], view.get(index));
+            assertEquals(expected[index], item);
+            index++;
+        }
+        assertEquals(expected.length, index);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubListReadsAndWritesThrough() {
+        IList<String> list = this.makeBasicList();
+        list.add("d");
+        list.add("e");
+
+        IList<String> view = list.subList(1, 4);
+        assertViewMatches(new String[] {"b", "c", "d"}, view);
+        assertEquals(1, view.indexOf("c"));
+        assertFalse(view.contains("a"));
+
+        view.set(0, "x");
+        list.set(3, "y");
+        assertEquals("x", list.get(1));
+        assertViewMatches(new String[] {"x", "c", "y"}, view);
+        assertListValidAndMatches(new String[] {"a", "x", "c", "y", "e"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubListOfSubList() {
+        IList<String> list = this.makeBasicList();
+        list.add("d");
+        list.add("e");
+
+        IList<String> view = list.subList(1, 5).subList(1, 3);
+        assertViewMatches(new String[] {"c", "d"}, view);
+        assertViewMatches(new String[] {}, list.subList(5, 5));
+        assertViewMatches(new String[] {}, view.subList(2, 2));
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubListErrors() {
+        IList<String> list = this.makeBasicList();
+        int[][] badRanges = {{-1, 2}, {0, 4}, {2, 1}};
+        for (int[] range : badRanges) {
+            try {
+                list.subList(range[0], range[1]);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+
+        IList<String> view = list.subList(0, 2);
+        try {
+            view.get(2);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            view.add("d");
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+        try {
+            view.delete(0);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+        assertListValidAndMatches(new String[] {"a", "b", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubListIterationIsEfficient() {
+        IList<Integer> list = new UnrolledLinkedList<>();
+        int cap = 100000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+
+        // Each pass finds the start of the range once, then walks it in order. Calling 'get'
+        // for every item would walk in from the nearer end of the list each time.
+        long total = 0;
+        for (int pass = 0; pass < 100; pass++) {
+            for (int item : list.subList(cap / 2 - 500, cap / 2 + 500)) {
+                total += item;
+            }
+        }
+        assertEquals(100L * 1000 * (cap / 2) - 100L * 500, total);
+    }
+}
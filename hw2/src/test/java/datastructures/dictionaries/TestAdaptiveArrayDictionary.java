@@ -0,0 +1,58 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Runs every ArrayDictionary test again with adaptive reordering turned on.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestAdaptiveArrayDictionary extends TestArrayDictionary {
+    @Override
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new ArrayDictionary<>(true);
+    }
+
+    /**
+     * Returns the key stored at the given index of the dictionary's internal array.
+     */
+    private Object keyAt(IDictionary<?, ?> dict, int index) {
+        Object[] pairs = getField(dict, "pairs", Object[].class);
+        return getField(pairs[index], "key");
+    }
+
+    @Test(timeout=SECOND)
+    public void testHotKeysMoveToFront() {
+        IDictionary<String, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 10; i++) {
+            dict.put("key" + i, i);
+        }
+        assertEquals("key0", keyAt(dict, 0));
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(9, dict.get("key9"));
+        }
+        assertEquals("key9", keyAt(dict, 0));
+
+        dict.containsKey("key5");
+        assertEquals("key5", keyAt(dict, 5));
+        assertEquals(10, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveKeepsOrder() {
+        IDictionary<String, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 5; i++) {
+            dict.put("key" + i, i);
+        }
+        assertEquals(1, dict.remove("key1"));
+        assertEquals("key0", keyAt(dict, 0));
+        assertEquals("key2", keyAt(dict, 1));
+        assertEquals("key4", keyAt(dict, 3));
+        assertEquals(4, dict.getOrDefault("key4", -1));
+        assertEquals(-1, dict.getOrDefault("key1", -1));
+    }
+}
@@ -0,0 +1,143 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs every dictionary test against PersistentHashDictionary, plus tests for snapshots and
+ * for keys whose hash codes collide.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPersistentHashDictionary extends BaseTestDictionary {
+    @Override
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new PersistentHashDictionary<>();
+    }
+
+    /**
+     * A key whose hash code is chosen by the test, so keys can be made to collide.
+     */
+    private static class FixedHashKey {
+        private final String name;
+        private final int hash;
+
+        public FixedHashKey(String name, int hash) {
+            this.name = name;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof FixedHashKey && ((FixedHashKey) other).name.equals(this.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSnapshotIsIndependent() {
+        PersistentHashDictionary<String, Integer> dict = new PersistentHashDictionary<>();
+        for (int i = 0; i < 100; i++) {
+            dict.put("key" + i, i);
+        }
+        PersistentHashDictionary<String, Integer> snapshot = dict.snapshot();
+
+        dict.put("key0", -1);
+        dict.put("new", 100);
+        dict.remove("key50");
+        snapshot.put("key1", -2);
+
+        assertEquals(100, dict.size());
+        assertEquals(-1, dict.get("key0"));
+        assertEquals(1, dict.get("key1"));
+        assertFalse(dict.containsKey("key50"));
+
+        assertEquals(100, snapshot.size());
+        assertEquals(0, snapshot.get("key0"));
+        assertEquals(-2, snapshot.get("key1"));
+        assertEquals(50, snapshot.get("key50"));
+        assertFalse(snapshot.containsKey("new"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testRestoreUndoesChanges() {
+        PersistentHashDictionary<String, Integer> dict = new PersistentHashDictionary<>();
+        dict.put("a", 1);
+        dict.put("b", 2);
+        PersistentHashDictionary<String, Integer> saved = dict.snapshot();
+
+        dict.put("a", 10);
+        dict.remove("b");
+        dict.put("c", 3);
+        dict.restore(saved);
+
+        assertEquals(2, dict.size());
+        assertEquals(1, dict.get("a"));
+        assertEquals(2, dict.get("b"));
+        assertFalse(dict.containsKey("c"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCollidingKeys() {
+        IDictionary<FixedHashKey, Integer> dict = this.newDictionary();
+        // Keys 0-9 share one hash code, and keys 10-19 share another that only differs from
+        // it in the top bits, so both groups start out in the same trie slot.
+        for (int i = 0; i < 20; i++) {
+            dict.put(new FixedHashKey("key" + i, i < 10 ? 7 : 7 | (1 << 31)), i);
+        }
+        assertEquals(20, dict.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, dict.get(new FixedHashKey("key" + i, i < 10 ? 7 : 7 | (1 << 31))));
+        }
+        assertFalse(dict.containsKey(new FixedHashKey("key0", 8)));
+
+        for (int i = 0; i < 20; i += 2) {
+            assertEquals(i, dict.remove(new FixedHashKey("key" + i, i < 10 ? 7 : 7 | (1 << 31))));
+        }
+        assertEquals(10, dict.size());
+        for (int i = 0; i < 20; i++) {
+            FixedHashKey key = new FixedHashKey("key" + i, i < 10 ? 7 : 7 | (1 << 31));
+            assertEquals(i % 2 == 1, dict.containsKey(key));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveEverythingThenReuse() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 5000; i++) {
+            dict.put(i * 31, i);
+        }
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, dict.remove(i * 31));
+        }
+        assertTrue(dict.isEmpty());
+        dict.put(1, 1);
+        assertEquals(1, dict.get(1));
+        assertEquals(1, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testManySnapshotsAreEfficient() {
+        // A snapshot is O(1), and each put copies only the nodes on one path.
+        PersistentHashDictionary<Integer, Integer> dict = new PersistentHashDictionary<>();
+        PersistentHashDictionary<Integer, Integer> first = null;
+        for (int i = 0; i < 50000; i++) {
+            PersistentHashDictionary<Integer, Integer> snapshot = dict.snapshot();
+            if (first == null) {
+                first = snapshot;
+            }
+            dict.put(i, i);
+        }
+        assertEquals(50000, dict.size());
+        assertEquals(0, first.size());
+    }
+}
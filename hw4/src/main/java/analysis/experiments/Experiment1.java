@@ -69,7 +69,7 @@ public class Experiment1 {
         return System.currentTimeMillis() - start;
     }
 
-    private static IList<char[]> generateRandomCharArrays(int numArrays, int lengthPerArray) {
+    static IList<char[]> generateRandomCharArrays(int numArrays, int lengthPerArray) {
         Random rand = new Random();
 
         IList<char[]> output = new DoubleLinkedList<>();
@@ -0,0 +1,99 @@
+package analysis.experiments;
+
+import analysis.experiments.Experiment1.FakeString1;
+import analysis.experiments.Experiment1.FakeString2;
+import analysis.experiments.Experiment1.FakeString3;
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.HashStrategy;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+
+import java.util.function.Function;
+
+/**
+ * Compares ChainedHashDictionary's default (murmur-mixed) hash strategy against using
+ * each key's raw hash code, for each of the three FakeString hash functions from
+ * Experiment1.
+ *
+ * The "Time" columns measure how long it takes to fill a dictionary, like Experiment1.
+ * The "MaxChain" columns report the longest chain in the filled dictionary (from
+ * ChainedHashDictionary.stats()), which shows how well each strategy spreads the keys out.
+ */
+public class Experiment3 {
+    public static final int NUM_TRIALS = 5;
+    public static final long MAX_DICTIONARY_SIZE = 80000;
+    public static final long STEP = 1000;
+
+    public static final int LENGTH_PER_ARRAY = 200;
+
+    public static void main(String[] args) {
+        IList<Long> dictionarySize = AnalysisUtils.makeList(0L, MAX_DICTIONARY_SIZE, STEP);
+
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("DictionarySize", dictionarySize);
+
+        System.out.println("Starting timing tests");
+        writer.addColumn("Time1Identity", AnalysisUtils.runTrials(dictionarySize,
+                size -> timePuts(size, FakeString1::new, HashStrategy.identity()), NUM_TRIALS));
+        writer.addColumn("Time1Murmur", AnalysisUtils.runTrials(dictionarySize,
+                size -> timePuts(size, FakeString1::new, HashStrategy.murmur()), NUM_TRIALS));
+        writer.addColumn("Time2Identity", AnalysisUtils.runTrials(dictionarySize,
+                size -> timePuts(size, FakeString2::new, HashStrategy.identity()), NUM_TRIALS));
+        writer.addColumn("Time2Murmur", AnalysisUtils.runTrials(dictionarySize,
+                size -> timePuts(size, FakeString2::new, HashStrategy.murmur()), NUM_TRIALS));
+        writer.addColumn("Time3Identity", AnalysisUtils.runTrials(dictionarySize,
+                size -> timePuts(size, FakeString3::new, HashStrategy.identity()), NUM_TRIALS));
+        writer.addColumn("Time3Murmur", AnalysisUtils.runTrials(dictionarySize,
+                size -> timePuts(size, FakeString3::new, HashStrategy.murmur()), NUM_TRIALS));
+
+        System.out.println("Starting distribution tests");
+        writer.addColumn("MaxChain1Identity", AnalysisUtils.runSingleTrial(dictionarySize,
+                size -> maxChainLength(size, FakeString1::new, HashStrategy.identity())));
+        writer.addColumn("MaxChain1Murmur", AnalysisUtils.runSingleTrial(dictionarySize,
+                size -> maxChainLength(size, FakeString1::new, HashStrategy.murmur())));
+        writer.addColumn("MaxChain2Identity", AnalysisUtils.runSingleTrial(dictionarySize,
+                size -> maxChainLength(size, FakeString2::new, HashStrategy.identity())));
+        writer.addColumn("MaxChain2Murmur", AnalysisUtils.runSingleTrial(dictionarySize,
+                size -> maxChainLength(size, FakeString2::new, HashStrategy.murmur())));
+        writer.addColumn("MaxChain3Identity", AnalysisUtils.runSingleTrial(dictionarySize,
+                size -> maxChainLength(size, FakeString3::new, HashStrategy.identity())));
+        writer.addColumn("MaxChain3Murmur", AnalysisUtils.runSingleTrial(dictionarySize,
+                size -> maxChainLength(size, FakeString3::new, HashStrategy.murmur())));
+
+        System.out.println("Saving experiment results to file");
+        writer.writeToFile("experimentdata/experiment3.csv");
+
+        System.out.println("All done!");
+    }
+
+    /**
+     * Returns how long it takes to put 'dictionarySize' random keys into a
+     * ChainedHashDictionary that uses the given strategy, in milliseconds.
+     */
+    public static <K> long timePuts(long dictionarySize, Function<char[], K> makeKey, HashStrategy<K> strategy) {
+        IList<char[]> chars = Experiment1.generateRandomCharArrays((int) dictionarySize, LENGTH_PER_ARRAY);
+
+        long start = System.currentTimeMillis();
+        IDictionary<K, char[]> dict = new ChainedHashDictionary<>(strategy);
+        for (char[] array : chars) {
+            dict.put(makeKey.apply(array), array);
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    /**
+     * Returns the length of the longest chain in a ChainedHashDictionary that uses the
+     * given strategy after putting 'dictionarySize' random keys into it.
+     */
+    public static <K> long maxChainLength(long dictionarySize, Function<char[], K> makeKey, HashStrategy<K> strategy) {
+        IList<char[]> chars = Experiment1.generateRandomCharArrays((int) dictionarySize, LENGTH_PER_ARRAY);
+
+        ChainedHashDictionary<K, char[]> dict = new ChainedHashDictionary<>(strategy);
+        for (char[] array : chars) {
+            dict.put(makeKey.apply(array), array);
+        }
+        return dict.stats().getMaxChainLength();
+    }
+}
@@ -0,0 +1,118 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.ConcurrentChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+
+/**
+ * Measures multi-threaded throughput: a ChainedHashDictionary wrapped in one global lock
+ * versus a ConcurrentChainedHashDictionary.
+ *
+ * The x-axis is the number of threads. Every thread does the same fixed amount of work
+ * (puts to its own keys, followed by gets of random keys), so with perfect scaling the
+ * elapsed time would stay flat as threads are added.
+ */
+public class Experiment4 {
+    public static final int NUM_TRIALS = 5;
+    public static final long MAX_THREADS = 9;
+    public static final int OPS_PER_THREAD = 200000;
+
+    public static void main(String[] args) {
+        IList<Long> numThreads = AnalysisUtils.makeList(1L, MAX_THREADS, 1L);
+
+        System.out.println("Starting experiment 4, test 1");
+        IList<Long> test1Results = AnalysisUtils.runTrials(numThreads, Experiment4::test1, NUM_TRIALS);
+
+        System.out.println("Starting experiment 4, test 2");
+        IList<Long> test2Results = AnalysisUtils.runTrials(numThreads, Experiment4::test2, NUM_TRIALS);
+
+        System.out.println("Saving experiment results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("NumThreads", numThreads);
+        writer.addColumn("GlobalLockResult", test1Results);
+        writer.addColumn("ConcurrentResult", test2Results);
+        writer.writeToFile("experimentdata/experiment4.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long numThreads) {
+        IDictionary<Integer, Integer> dict = new ChainedHashDictionary<>();
+        Object lock = new Object();
+        return timeThreads((int) numThreads, id -> {
+            int base = id * OPS_PER_THREAD;
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                synchronized (lock) {
+                    dict.put(base + i, i);
+                }
+            }
+            long sum = 0;
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                synchronized (lock) {
+                    sum += dict.getOrDefault(randomKey(id, i, (int) numThreads), 0);
+                }
+            }
+            return sum;
+        });
+    }
+
+    public static long test2(long numThreads) {
+        IDictionary<Integer, Integer> dict = new ConcurrentChainedHashDictionary<>();
+        return timeThreads((int) numThreads, id -> {
+            int base = id * OPS_PER_THREAD;
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                dict.put(base + i, i);
+            }
+            long sum = 0;
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                sum += dict.getOrDefault(randomKey(id, i, (int) numThreads), 0);
+            }
+            return sum;
+        });
+    }
+
+    /**
+     * Returns a pseudo-random key out of every key any thread may have inserted.
+     */
+    private static int randomKey(int id, int i, int numThreads) {
+        int mixed = (id * OPS_PER_THREAD + i) * 0x9E3779B9;
+        return Math.floorMod(mixed, numThreads * OPS_PER_THREAD);
+    }
+
+    /**
+     * Starts 'numThreads' threads running the given work at the same time and returns
+     * how long it takes until they have all finished, in milliseconds.
+     */
+    private static long timeThreads(int numThreads, Work work) {
+        Thread[] threads = new Thread[numThreads];
+        long[] sinks = new long[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            int id = i;
+            threads[i] = new Thread(() -> sinks[id] = work.run(id));
+        }
+
+        long start = System.currentTimeMillis();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException ex) {
+            throw new RuntimeException(ex);
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    private interface Work {
+        /**
+         * Does one thread's share of the work. Returns a value derived from what it read,
+         * so the JIT can't optimize the reads away.
+         */
+        long run(int id);
+    }
+}
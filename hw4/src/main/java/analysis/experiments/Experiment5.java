@@ -0,0 +1,176 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.dictionaries.AVLDictionary;
+import datastructures.interfaces.IList;
+
+/**
+ * Compares AVLDictionary's iterative put/get, which compares the key once per level,
+ * against the recursive version it replaced, which called 'compareTo' up to twice per
+ * level and used one stack frame per level.
+ *
+ * Keys are strings sharing a long common prefix, so every comparison has to scan past
+ * the prefix and the number of comparisons dominates the running time.
+ */
+public class Experiment5 {
+    public static final int NUM_TRIALS = 3;
+    public static final long MAX_DICTIONARY_SIZE = 10000000;
+    public static final long STEP = 1000000;
+
+    public static final String KEY_PREFIX = "experiment-five-shared-key-prefix-";
+
+    public static void main(String[] args) {
+        IList<Long> dictionarySize = AnalysisUtils.makeList(STEP, MAX_DICTIONARY_SIZE + 1, STEP);
+
+        System.out.println("Starting experiment 5, test 1");
+        IList<Long> test1Results = AnalysisUtils.runTrials(dictionarySize, Experiment5::test1, NUM_TRIALS);
+
+        System.out.println("Starting experiment 5, test 2");
+        IList<Long> test2Results = AnalysisUtils.runTrials(dictionarySize, Experiment5::test2, NUM_TRIALS);
+
+        System.out.println("Saving experiment results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("DictionarySize", dictionarySize);
+        writer.addColumn("IterativeResult", test1Results);
+        writer.addColumn("RecursiveResult", test2Results);
+        writer.writeToFile("experimentdata/experiment5.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long dictionarySize) {
+        String[] keys = makeKeys((int) dictionarySize);
+        long start = System.currentTimeMillis();
+
+        AVLDictionary<String, Integer> dict = new AVLDictionary<>();
+        for (int i = 0; i < keys.length; i++) {
+            dict.put(keys[i], i);
+        }
+        long sum = 0;
+        for (String key : keys) {
+            sum += dict.get(key);
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        return sum == -1 ? -1 : elapsed;
+    }
+
+    public static long test2(long dictionarySize) {
+        String[] keys = makeKeys((int) dictionarySize);
+        long start = System.currentTimeMillis();
+
+        RecursiveAVLTree<String, Integer> dict = new RecursiveAVLTree<>();
+        for (int i = 0; i < keys.length; i++) {
+            dict.put(keys[i], i);
+        }
+        long sum = 0;
+        for (String key : keys) {
+            sum += dict.get(key);
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        return sum == -1 ? -1 : elapsed;
+    }
+
+    /**
+     * Returns 'size' distinct keys in a scrambled order.
+     */
+    private static String[] makeKeys(int size) {
+        String[] keys = new String[size];
+        for (int i = 0; i < size; i++) {
+            // Multiplying by an odd constant is a bijection on ints, so the keys are distinct.
+            keys[i] = KEY_PREFIX + (i * 0x9E3779B9);
+        }
+        return keys;
+    }
+
+    /**
+     * A copy of AVLDictionary's original recursive put/get, kept here as the baseline.
+     */
+    private static class RecursiveAVLTree<K extends Comparable<K>, V> {
+        private Node<K, V> overallRoot;
+
+        public V get(K key) {
+            return get(key, this.overallRoot).value;
+        }
+
+        private Node<K, V> get(K key, Node<K, V> root) {
+            if (root == null) {
+                return null;
+            } else if (key.compareTo(root.key) < 0) {
+                return get(key, root.left);
+            } else if (key.compareTo(root.key) > 0) {
+                return get(key, root.right);
+            } else {
+                return root;
+            }
+        }
+
+        public void put(K key, V value) {
+            this.overallRoot = put(key, value, this.overallRoot);
+        }
+
+        private Node<K, V> put(K key, V value, Node<K, V> root) {
+            if (root == null) {
+                return new Node<>(key, value);
+            } else if (key.compareTo(root.key) < 0) {
+                root.left = put(key, value, root.left);
+            } else if (key.compareTo(root.key) > 0) {
+                root.right = put(key, value, root.right);
+            } else {
+                root.value = value;
+                return root;
+            }
+            root.height = Math.max(height(root.left), height(root.right)) + 1;
+            int diff = height(root.left) - height(root.right);
+            if (diff > 1) {
+                if (height(root.left.left) < height(root.left.right)) {
+                    root.left = rotateLeft(root.left);
+                }
+                return rotateRight(root);
+            } else if (diff < -1) {
+                if (height(root.right.right) < height(root.right.left)) {
+                    root.right = rotateRight(root.right);
+                }
+                return rotateLeft(root);
+            }
+            return root;
+        }
+
+        private int height(Node<K, V> node) {
+            return node == null ? -1 : node.height;
+        }
+
+        private Node<K, V> rotateRight(Node<K, V> root) {
+            Node<K, V> newRoot = root.left;
+            root.left = newRoot.right;
+            newRoot.right = root;
+            root.height = Math.max(height(root.left), height(root.right)) + 1;
+            newRoot.height = Math.max(height(newRoot.left), height(newRoot.right)) + 1;
+            return newRoot;
+        }
+
+        private Node<K, V> rotateLeft(Node<K, V> root) {
+            Node<K, V> newRoot = root.right;
+            root.right = newRoot.left;
+            newRoot.left = root;
+            root.height = Math.max(height(root.left), height(root.right)) + 1;
+            newRoot.height = Math.max(height(newRoot.left), height(newRoot.right)) + 1;
+            return newRoot;
+        }
+
+        private static class Node<K, V> {
+            public Node<K, V> left;
+            public Node<K, V> right;
+            public K key;
+            public V value;
+            public int height;
+
+            public Node(K key, V value) {
+                this.key = key;
+                this.value = value;
+            }
+        }
+    }
+}
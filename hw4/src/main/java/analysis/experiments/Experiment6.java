@@ -0,0 +1,82 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.dictionaries.AVLDictionary;
+import datastructures.concrete.dictionaries.BTreeDictionary;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.KVPair;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+
+/**
+ * Compares BTreeDictionary against AVLDictionary and ChainedHashDictionary on an ordered
+ * workload: insert keys 0 through n - 1 in order, look each one up in order, then scan
+ * every pair with the iterator.
+ *
+ * The B+-tree packs many keys into each node, so it touches far fewer cache lines per
+ * lookup than the AVL tree, and its scan walks linked leaves instead of a tree.
+ */
+public class Experiment6 {
+    public static final int NUM_TRIALS = 3;
+    public static final long MAX_DICTIONARY_SIZE = 10000000;
+    public static final long STEP = 1000000;
+
+    public static void main(String[] args) {
+        IList<Long> dictionarySize = AnalysisUtils.makeList(STEP, MAX_DICTIONARY_SIZE + 1, STEP);
+
+        System.out.println("Starting experiment 6, test 1");
+        IList<Long> test1Results = AnalysisUtils.runTrials(dictionarySize, Experiment6::test1, NUM_TRIALS);
+
+        System.out.println("Starting experiment 6, test 2");
+        IList<Long> test2Results = AnalysisUtils.runTrials(dictionarySize, Experiment6::test2, NUM_TRIALS);
+
+        System.out.println("Starting experiment 6, test 3");
+        IList<Long> test3Results = AnalysisUtils.runTrials(dictionarySize, Experiment6::test3, NUM_TRIALS);
+
+        System.out.println("Saving experiment results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("DictionarySize", dictionarySize);
+        writer.addColumn("BTreeResult", test1Results);
+        writer.addColumn("AVLResult", test2Results);
+        writer.addColumn("ChainedHashResult", test3Results);
+        writer.writeToFile("experimentdata/experiment6.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long dictionarySize) {
+        return timeOrderedWorkload(new BTreeDictionary<>(), (int) dictionarySize);
+    }
+
+    public static long test2(long dictionarySize) {
+        return timeOrderedWorkload(new AVLDictionary<>(), (int) dictionarySize);
+    }
+
+    public static long test3(long dictionarySize) {
+        return timeOrderedWorkload(new ChainedHashDictionary<>(), (int) dictionarySize);
+    }
+
+    /**
+     * Returns how long it takes to run the ordered workload on the given empty dictionary,
+     * in milliseconds.
+     */
+    private static long timeOrderedWorkload(IDictionary<Integer, Integer> dict, int size) {
+        long start = System.currentTimeMillis();
+
+        for (int i = 0; i < size; i++) {
+            dict.put(i, i);
+        }
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += dict.get(i);
+        }
+        for (KVPair<Integer, Integer> pair : dict) {
+            sum += pair.getValue();
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        // Use 'sum' so the JIT can't optimize the lookups away.
+        return sum == -1 ? -1 : elapsed;
+    }
+}
@@ -1,12 +1,16 @@
 package analysis.utils;
 
+import datastructures.concrete.ArrayList;
 import datastructures.concrete.DoubleLinkedList;
 import datastructures.concrete.dictionaries.AVLDictionary;
 import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.dictionaries.KVPair;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 import org.openjdk.jol.info.GraphLayout;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
 
 /**
@@ -42,11 +46,34 @@ public class AnalysisUtils {
      * Constructs a dictionary containing keys from 0 to 'size' (with dummy values)
      */
     public static IDictionary<Long, Long> makeAVLDictionary(long size) {
-        IDictionary<Long, Long> dictionary = new AVLDictionary<>();
-        for (long i = 0; i < size; i += 1) {
-            dictionary.put(i, -1L);
+        // The keys are already in order, so build the tree in one pass instead of
+        // inserting (and rebalancing) one key at a time.
+        return AVLDictionary.fromSorted(new DummyPairIterator(size), null);
+    }
+
+    /**
+     * Produces the pairs (0, -1), (1, -1), ..., (size - 1, -1) without storing them all.
+     */
+    private static class DummyPairIterator implements Iterator<KVPair<Long, Long>> {
+        private long next;
+        private long size;
+
+        public DummyPairIterator(long size) {
+            this.next = 0;
+            this.size = size;
+        }
+
+        public boolean hasNext() {
+            return this.next < this.size;
+        }
+
+        public KVPair<Long, Long> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.next += 1;
+            return new KVPair<>(this.next - 1, -1L);
         }
-        return dictionary;
     }
 
     /**
@@ -71,7 +98,7 @@ public class AnalysisUtils {
      * for some code to run), you should try using the 'runTrials' helper method below.
      */
     public static IList<Long> runSingleTrial(IList<Long> inputs, Function<Long, Long> testerFunction) {
-        IList<Long> trial = new DoubleLinkedList<>();
+        IList<Long> trial = new ArrayList<>(inputs.size());
         for (long input : inputs) {
             trial.add(testerFunction.apply(input));
         }
@@ -88,7 +115,7 @@ public class AnalysisUtils {
         System.out.println("    Running preliminary trial to warm up caches (will discard result)");
         runSingleTrial(inputs, testerFunction);
 
-        IList<IList<Long>> trials = new DoubleLinkedList<>();
+        IList<IList<Long>> trials = new ArrayList<>(numTrials);
         for (int i = 0; i < numTrials; i++) {
             System.out.println("    Starting trial " + i);
             trials.add(runSingleTrial(inputs, testerFunction));
@@ -109,7 +136,7 @@ public class AnalysisUtils {
         }
         int numEntries = entries.size();
 
-        IList<Long> result = new DoubleLinkedList<>();
+        IList<Long> result = new ArrayList<>(entries.get(0).size());
         RowIterator<Long> rowIter = new RowIterator<>(entries);
         while (rowIter.hasNext()) {
             IList<Long> trial = rowIter.next();
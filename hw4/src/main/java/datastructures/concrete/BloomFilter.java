@@ -0,0 +1,116 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.HashStrategy;
+import datastructures.interfaces.MembershipFilter;
+
+import java.util.Arrays;
+
+/**
+ * A Bloom filter: a bit array where each item sets a handful of bits chosen by its hash
+ * code. An item can only be absent if at least one of its bits is still clear.
+ *
+ * For 'capacity' items and a false positive rate p, this uses about -1.44 * log2(p) bits per
+ * item (about 10 bits for 1%) and checks about -log2(p) bits per lookup. It can't remove
+ * items, since a bit may be shared by several of them.
+ *
+ * @see MembershipFilter for more details.
+ */
+public class BloomFilter<T> implements MembershipFilter<T> {
+    private final HashStrategy<T> strategy;
+    private final int capacity;
+    private final long[] bits;
+    private final int numBits;
+    private final int numHashes;
+
+    /**
+     * Creates a filter sized for 'capacity' items with the given false positive rate.
+     *
+     * @throws IllegalArgumentException  if 'capacity' is negative, or 'falsePositiveRate' is
+     *                                   not strictly between 0 and 1
+     */
+    public BloomFilter(int capacity, double falsePositiveRate) {
+        this(capacity, falsePositiveRate, HashStrategy.murmur());
+    }
+
+    /**
+     * Creates a filter that hashes items with the given strategy.
+     *
+     * @throws IllegalArgumentException  if 'capacity' is negative, 'falsePositiveRate' is not
+     *                                   strictly between 0 and 1, or 'strategy' is null
+     */
+    public BloomFilter(int capacity, double falsePositiveRate, HashStrategy<T> strategy) {
+        if (capacity < 0 || !(falsePositiveRate > 0.0 && falsePositiveRate < 1.0) || strategy == null) {
+            throw new IllegalArgumentException();
+        }
+        this.strategy = strategy;
+        this.capacity = capacity;
+
+        // The optimal sizes: m = -n ln(p) / ln(2)^2 bits and k = (m / n) ln(2) hash functions.
+        int items = Math.max(capacity, 1);
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-items * Math.log(falsePositiveRate) / (ln2 * ln2));
+        long words = Math.min((optimalBits + 63) / 64, Integer.MAX_VALUE / 64);
+        this.bits = new long[(int) Math.max(words, 1)];
+        this.numBits = this.bits.length * 64;
+        this.numHashes = Math.max(1, (int) Math.round((double) this.numBits / items * ln2));
+    }
+
+    @Override
+    public boolean add(T item) {
+        int hash1 = this.strategy.hash(item);
+        int hash2 = secondHash(hash1);
+        for (int i = 0; i < this.numHashes; i++) {
+            int bit = this.bitIndex(hash1 + i * hash2);
+            this.bits[bit >>> 6] |= 1L << bit;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean mightContain(T item) {
+        int hash1 = this.strategy.hash(item);
+        int hash2 = secondHash(hash1);
+        for (int i = 0; i < this.numHashes; i++) {
+            int bit = this.bitIndex(hash1 + i * hash2);
+            if ((this.bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int capacity() {
+        return this.capacity;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.bits, 0L);
+    }
+
+    /**
+     * Returns the number of bits this filter sets for each item.
+     */
+    public int getNumHashes() {
+        return this.numHashes;
+    }
+
+    /**
+     * Returns the size of this filter's bit array.
+     */
+    public int getNumBits() {
+        return this.numBits;
+    }
+
+    // We only get one hash code per item, so we derive the k bit positions from two hashes,
+    // hash1 + i * hash2, which is known to work as well as k independent hash functions.
+    // The second hash is made odd so the positions don't repeat too soon.
+    private static int secondHash(int hash1) {
+        return HashStrategy.mix(hash1 ^ 0x9e3779b9) | 1;
+    }
+
+    private int bitIndex(int combinedHash) {
+        return (int) ((combinedHash & 0xFFFFFFFFL) % this.numBits);
+    }
+}
@@ -4,25 +4,67 @@ import datastructures.concrete.dictionaries.ChainedHashDictionary;
 import datastructures.concrete.dictionaries.KVPair;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.ISet;
+import datastructures.interfaces.MembershipFilter;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
 
 /**
  * @see ISet for more details on what each method is supposed to do.
  */
 public class ChainedHashSet<T> implements ISet<T> {
+    private static final int MIN_FILTER_CAPACITY = 16;
+    private static final int MAX_FILTER_REBUILD_ATTEMPTS = 3;
+
     // This should be the only field you need
     private IDictionary<T, Boolean> map;
 
+    // How to build a membership filter, and the filter currently checked before the map.
+    // 'filter' is null whenever this set isn't using one.
+    private IntFunction<MembershipFilter<T>> filterFactory;
+    private MembershipFilter<T> filter;
+    // The number of items added to the filter since it was built. Filters that can't remove
+    // items keep counting removed ones, since those still fill up the filter.
+    private int filterLoad;
+
     public ChainedHashSet() {
         // No need to change this method
         this.map = new ChainedHashDictionary<>();
     }
 
+    /**
+     * Creates a set that checks a membership filter before searching its hash table, so
+     * that most lookups of missing items never touch the table. For example:
+     *
+     *     new ChainedHashSet<>(capacity -> new BloomFilter<>(capacity, 0.01))
+     *
+     * The set calls 'filterFactory' with the number of items the new filter should be sized
+     * for, and builds a new filter, twice the set's size, whenever the current one fills up.
+     * If even a bigger filter can't hold the set's items (for example, a cuckoo filter given
+     * many items with the same hash code), the set stops using a filter.
+     *
+     * @throws IllegalArgumentException  if 'filterFactory' is null
+     */
+    public ChainedHashSet(IntFunction<MembershipFilter<T>> filterFactory) {
+        if (filterFactory == null) {
+            throw new IllegalArgumentException();
+        }
+        this.map = new ChainedHashDictionary<>();
+        this.filterFactory = filterFactory;
+        this.rebuildFilter();
+    }
+
     @Override
     public void add(T item) {
+        int oldSize = map.size();
         map.put(item, true);
+        if (this.filter != null && map.size() != oldSize) {
+            this.filterLoad++;
+            if (this.filterLoad > this.filter.capacity() || !this.filter.add(item)) {
+                this.rebuildFilter();
+            }
+        }
     }
 
     @Override
@@ -31,6 +73,10 @@ public class ChainedHashSet<T> implements ISet<T> {
             throw new NoSuchElementException();
         } else {
             map.remove(item);
+            if (this.filter != null && this.filter.supportsRemoval()) {
+                this.filter.remove(item);
+                this.filterLoad--;
+            }
         }
     }
 
@@ -39,9 +85,43 @@ public class ChainedHashSet<T> implements ISet<T> {
         if (map.isEmpty()){
             return false;
         }
+        if (this.filter != null && !this.filter.mightContain(item)) {
+            return false;
+        }
         return map.containsKey(item);
     }
 
+    /**
+     * Returns true if this set currently checks a membership filter before its hash table.
+     */
+    public boolean isFiltered() {
+        return this.filter != null;
+    }
+
+    // Builds a new filter holding every item in the set, with room for as many more.
+    private void rebuildFilter() {
+        int capacity = Math.max(2 * map.size(), MIN_FILTER_CAPACITY);
+        for (int attempt = 0; attempt < MAX_FILTER_REBUILD_ATTEMPTS; attempt++) {
+            MembershipFilter<T> newFilter = this.filterFactory.apply(capacity);
+            if (this.addAllTo(newFilter)) {
+                this.filter = newFilter;
+                this.filterLoad = map.size();
+                return;
+            }
+            capacity *= 2;
+        }
+        this.filter = null;
+    }
+
+    private boolean addAllTo(MembershipFilter<T> newFilter) {
+        for (T item : this) {
+            if (!newFilter.add(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public int size() {
         return map.size();
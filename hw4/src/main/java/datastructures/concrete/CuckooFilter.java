@@ -0,0 +1,225 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.HashStrategy;
+import datastructures.interfaces.MembershipFilter;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A cuckoo filter: a hash table that stores a short fingerprint of each item instead of the
+ * item itself. Each item's fingerprint lives in one of two buckets of four slots, so a
+ * lookup checks at most eight slots. When both buckets are full, 'add' evicts a fingerprint
+ * to its other bucket, which may evict another one, and so on, like cuckoo hashing.
+ *
+ * Unlike a Bloom filter, a cuckoo filter can remove items. It uses about
+ * (log2(1 / p) + 3) / 0.95 bits per item for a false positive rate p. Fingerprints are at
+ * most 16 bits, so rates below about 0.0001 are rounded up to that.
+ *
+ * Once the filter is nearly full, 'add' fails instead of evicting forever. The filter also
+ * fails to take more than eight copies of items with the same hash code.
+ *
+ * @see MembershipFilter for more details.
+ */
+public class CuckooFilter<T> implements MembershipFilter<T> {
+    private static final int BUCKET_SIZE = 4;
+    private static final int MAX_KICKS = 500;
+    // The fraction of slots the filter is sized to fill. Cuckoo filters with four-slot
+    // buckets can usually reach about 95% before insertions start to fail.
+    private static final double MAX_LOAD = 0.95;
+
+    private final HashStrategy<T> strategy;
+    private final int capacity;
+    private final int fingerprintBits;
+    private final int bucketMask;
+    // Bucket b is slots[4b] through slots[4b + 3]. An empty slot holds 0.
+    private final short[] slots;
+    private final Random rand;
+
+    // When an insertion runs out of kicks, the fingerprint left over is kept here, so that
+    // it isn't lost. While it's occupied, insertions that would need to kick fail instead.
+    private boolean hasVictim;
+    private int victimBucket;
+    private int victimFingerprint;
+
+    /**
+     * Creates a filter sized for 'capacity' items with the given false positive rate.
+     *
+     * @throws IllegalArgumentException  if 'capacity' is negative, or 'falsePositiveRate' is
+     *                                   not strictly between 0 and 1
+     */
+    public CuckooFilter(int capacity, double falsePositiveRate) {
+        this(capacity, falsePositiveRate, HashStrategy.murmur());
+    }
+
+    /**
+     * Creates a filter that hashes items with the given strategy.
+     *
+     * @throws IllegalArgumentException  if 'capacity' is negative, 'falsePositiveRate' is not
+     *                                   strictly between 0 and 1, or 'strategy' is null
+     */
+    public CuckooFilter(int capacity, double falsePositiveRate, HashStrategy<T> strategy) {
+        if (capacity < 0 || !(falsePositiveRate > 0.0 && falsePositiveRate < 1.0) || strategy == null) {
+            throw new IllegalArgumentException();
+        }
+        this.strategy = strategy;
+        this.capacity = capacity;
+
+        // A lookup compares against up to 2 * BUCKET_SIZE fingerprints, each of which matches
+        // by chance with probability 2^-f, so we need 2^f >= 2 * BUCKET_SIZE / p.
+        double bits = Math.ceil(Math.log(2 * BUCKET_SIZE / falsePositiveRate) / Math.log(2));
+        this.fingerprintBits = (int) Math.max(4, Math.min(16, bits));
+
+        long neededBuckets = (long) Math.ceil(Math.max(capacity, 1) / (BUCKET_SIZE * MAX_LOAD));
+        int numBuckets = 1;
+        while (numBuckets < neededBuckets && numBuckets < (1 << 28)) {
+            numBuckets *= 2;
+        }
+        this.bucketMask = numBuckets - 1;
+        this.slots = new short[numBuckets * BUCKET_SIZE];
+        this.rand = new Random(0);
+        this.hasVictim = false;
+    }
+
+    @Override
+    public boolean add(T item) {
+        int hash = this.strategy.hash(item);
+        int fingerprint = this.fingerprint(hash);
+        int bucket1 = hash & this.bucketMask;
+        int bucket2 = this.altBucket(bucket1, fingerprint);
+        if (this.insertInto(bucket1, fingerprint) || this.insertInto(bucket2, fingerprint)) {
+            return true;
+        }
+        if (this.hasVictim) {
+            return false;
+        }
+        this.kickIn(this.rand.nextBoolean() ? bucket1 : bucket2, fingerprint);
+        return true;
+    }
+
+    @Override
+    public boolean mightContain(T item) {
+        int hash = this.strategy.hash(item);
+        int fingerprint = this.fingerprint(hash);
+        int bucket1 = hash & this.bucketMask;
+        int bucket2 = this.altBucket(bucket1, fingerprint);
+        if (this.hasVictim && this.victimFingerprint == fingerprint
+                && (this.victimBucket == bucket1 || this.victimBucket == bucket2)) {
+            return true;
+        }
+        return this.indexIn(bucket1, fingerprint) >= 0 || this.indexIn(bucket2, fingerprint) >= 0;
+    }
+
+    @Override
+    public int capacity() {
+        return this.capacity;
+    }
+
+    @Override
+    public boolean supportsRemoval() {
+        return true;
+    }
+
+    /**
+     * Forgets one earlier 'add' of the given item, or does nothing if the filter holds no
+     * matching fingerprint.
+     */
+    @Override
+    public void remove(T item) {
+        int hash = this.strategy.hash(item);
+        int fingerprint = this.fingerprint(hash);
+        int bucket1 = hash & this.bucketMask;
+        int bucket2 = this.altBucket(bucket1, fingerprint);
+        if (this.hasVictim && this.victimFingerprint == fingerprint
+                && (this.victimBucket == bucket1 || this.victimBucket == bucket2)) {
+            this.hasVictim = false;
+            return;
+        }
+        int index = this.indexIn(bucket1, fingerprint);
+        if (index < 0) {
+            index = this.indexIn(bucket2, fingerprint);
+        }
+        if (index >= 0) {
+            this.slots[index] = 0;
+            if (this.hasVictim) {
+                // There's a free slot now, so try to find the victim a home.
+                this.hasVictim = false;
+                this.kickIn(this.victimBucket, this.victimFingerprint);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.slots, (short) 0);
+        this.hasVictim = false;
+    }
+
+    /**
+     * Returns the number of bits stored per fingerprint.
+     */
+    public int getFingerprintBits() {
+        return this.fingerprintBits;
+    }
+
+    /**
+     * Returns the number of slots in the table; each one holds a single fingerprint.
+     */
+    public int getNumSlots() {
+        return this.slots.length;
+    }
+
+    // Takes the fingerprint from different bits than the bucket index, so items sharing a
+    // bucket don't also tend to share a fingerprint. Zero marks an empty slot, so it's
+    // never used as a fingerprint.
+    private int fingerprint(int hash) {
+        int fingerprint = HashStrategy.mix(hash + 0x9e3779b9) >>> (32 - this.fingerprintBits);
+        return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    // The fingerprint's two buckets are each other's alternate, so we can find the other
+    // bucket of an evicted fingerprint without knowing which item it came from.
+    private int altBucket(int bucket, int fingerprint) {
+        return (bucket ^ HashStrategy.mix(fingerprint)) & this.bucketMask;
+    }
+
+    private boolean insertInto(int bucket, int fingerprint) {
+        int start = bucket * BUCKET_SIZE;
+        for (int i = start; i < start + BUCKET_SIZE; i++) {
+            if (this.slots[i] == 0) {
+                this.slots[i] = (short) fingerprint;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int indexIn(int bucket, int fingerprint) {
+        int start = bucket * BUCKET_SIZE;
+        for (int i = start; i < start + BUCKET_SIZE; i++) {
+            if ((this.slots[i] & 0xFFFF) == fingerprint) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Inserts the fingerprint into the given bucket, evicting a random fingerprint each
+    // time a bucket is full. If that goes on too long, the last evicted fingerprint
+    // becomes the victim.
+    private void kickIn(int bucket, int fingerprint) {
+        for (int kick = 0; kick < MAX_KICKS; kick++) {
+            if (this.insertInto(bucket, fingerprint)) {
+                return;
+            }
+            int index = bucket * BUCKET_SIZE + this.rand.nextInt(BUCKET_SIZE);
+            int evicted = this.slots[index] & 0xFFFF;
+            this.slots[index] = (short) fingerprint;
+            fingerprint = evicted;
+            bucket = this.altBucket(bucket, fingerprint);
+        }
+        this.hasVictim = true;
+        this.victimBucket = bucket;
+        this.victimFingerprint = fingerprint;
+    }
+}
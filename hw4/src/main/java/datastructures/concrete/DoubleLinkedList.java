@@ -4,6 +4,7 @@ import datastructures.interfaces.IList;
 import misc.exceptions.EmptyContainerException;
 
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 
 /**
@@ -27,14 +28,7 @@ public class DoubleLinkedList<T> implements IList<T> {
 
     @Override
     public void add(T item) {
-        if (this.size > 0) {
-            back.next = new Node<T>(back, item, null);
-            back = back.next;
-        } else {
-            front = new Node(null, item, null);
-            back = front;
-        }
-        size++;
+        this.linkBefore(null, item);
     }
 
     @Override
@@ -42,20 +36,38 @@ public class DoubleLinkedList<T> implements IList<T> {
         if (back == null) {
             throw new EmptyContainerException();
         }
-        T item = back.data;
-        if (back.prev != null) {
-            back = back.prev;
-            back.next = null;
-        } else {
-            back = null;
-            front = null;
-        }
-        size--;
-        return item;
+        return this.unlink(back);
     }
 
     @Override
     public T get(int index) {
+        return this.nodeAt(index).data;
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.nodeAt(index).data = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.linkBefore(index == size ? null : this.nodeAt(index), item);
+    }
+
+    @Override
+    public T delete(int index) {
+        return this.unlink(this.nodeAt(index));
+    }
+
+    /**
+     * Returns the node at the given index, walking from whichever end of the list is closer.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    private Node<T> nodeAt(int index) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException();
         }
@@ -71,118 +83,45 @@ public class DoubleLinkedList<T> implements IList<T> {
                 root = root.next;
             }
         }
-        return root.data;
+        return root;
     }
 
-    @Override
-    public void set(int index, T item) {
-        if (index < 0 || index >= size) {
-            throw new IndexOutOfBoundsException();
-        }
-        if (this.size == 1) {
-            front = new Node<T>(null, item, null);
-            back = front;
+    /**
+     * Inserts a new node holding the item just before 'successor', or at the back of the
+     * list if 'successor' is null.
+     */
+    private void linkBefore(Node<T> successor, T item) {
+        Node<T> predecessor = successor == null ? back : successor.prev;
+        Node<T> node = new Node<>(predecessor, item, successor);
+        if (predecessor == null) {
+            front = node;
         } else {
-            Node<T> root = front;
-            if (index == 0) {
-                root = root.next;
-                root.prev = new Node<T>(null, item, root);
-                front = root.prev;
-            } else {
-                for (int i = 0; i < index - 1; i++) {
-                    root = root.next;
-                }
-                Node<T> temp = root.next.next;
-                root.next = new Node<T>(root, item, temp);
-                if (temp != null) {
-                    temp.prev = root.next;
-                } else {
-                    back = root.next;
-                }
-            }
+            predecessor.next = node;
         }
-    }
-
-    @Override
-    public void insert(int index, T item) {
-        if (index < 0 || index > size) {
-            throw new IndexOutOfBoundsException();
-        }
-        if (this.size == 0 || (this.size == index)){
-            add(item);
-            size--;
-        } else if (index > size / 2){
-                Node<T> root = back;
-                for (int i = size - 1; i > index; i--) {
-                    root = root.prev;
-                }
-                Node<T> temp = root.prev;
-                root.prev = new Node<T>(temp, item, root);
-                if (temp != null) {
-                    temp.next = root.prev;
-                }
+        if (successor == null) {
+            back = node;
         } else {
-            if (index == 0) {
-                Node<T> root = front;
-                front = new Node<T>(null, item, front);
-                root.prev = front;
-            } else {
-                Node<T> root = front;
-                for (int i = 0; i < index - 1; i++) {
-                    root = root.next;
-                }
-                Node<T> temp = root.next;
-                root.next = new Node<T>(root, item, temp);
-                temp.prev = root.next;
-            }
+            successor.prev = node;
         }
         size++;
-
     }
 
-    @Override
-    public T delete(int index) {
-        if (index < 0 || index >= size) {
-            throw new IndexOutOfBoundsException();
+    /**
+     * Removes the given node from the list and returns its data.
+     */
+    private T unlink(Node<T> node) {
+        if (node.prev == null) {
+            front = node.next;
+        } else {
+            node.prev.next = node.next;
         }
-        T value;
-        if (this.size == 1){
-            value = front.data;
-            front = null;
-            back = null;
-        } else if (index > size / 2){
-            if (index == this.size - 1){
-                value = back.data;
-                back = back.prev;
-                back.next = null;
-            } else {
-                Node<T> root = back;
-                for (int i = size - 1; i > index - 1; i--) {
-                    root = root.prev;
-                }
-                value = root.prev.data;
-                root.prev = root.prev.prev;
-                if (root.prev != null) {
-                    root.prev.next = root;
-                }
-            }
+        if (node.next == null) {
+            back = node.prev;
         } else {
-            if (index == 0){
-                value = front.data;
-                front = front.next;
-                front.prev = null;
-            } else {
-                Node<T> root = front;
-                for (int i = 0; i < index - 1; i++){
-                    root = root.next;
-                }
-                value = root.next.data;
-                root.next = root.next.next;
-                root.next.prev = root;
-            }
+            node.next.prev = node.prev;
         }
         size--;
-        return value;
+        return node.data;
     }
 
     @Override
@@ -224,9 +163,53 @@ public class DoubleLinkedList<T> implements IList<T> {
         return new DoubleLinkedListIterator<>(this.front);
     }
 
+    /**
+     * Returns a cursor positioned at the front of this list.
+     *
+     * @see #listIterator(int)
+     */
+    public ListIterator<T> listIterator() {
+        return this.listIterator(0);
+    }
+
+    /**
+     * Returns a cursor that starts just before the element at the given index, so the
+     * first call to 'next' returns that element. Passing size() starts the cursor at the
+     * back of the list.
+     *
+     * The cursor can move in both directions, and its 'add', 'remove' and 'set' methods
+     * edit the list at the cursor's position in constant time. Use it rather than
+     * 'insert' or 'delete' when editing a list while walking through it, since those
+     * walk to the index from one end of the list on every call.
+     *
+     * The cursor does not detect changes made to the list other than through itself;
+     * don't modify the list any other way while using the cursor.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index > this.size()
+     */
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new DoubleLinkedListCursor<>(this, index == size ? null : this.nodeAt(index), index);
+    }
+
+    /**
+     * Returns a view of the items from 'fromIndex' (inclusive) up to 'toIndex' (exclusive).
+     * Iterating over the view finds its first node once, from whichever end is closer, and
+     * then follows 'next' pointers, rather than calling 'get' for each item.
+     *
+     * @see IList#subList(int, int)
+     */
+    @Override
+    public IList<T> subList(int fromIndex, int toIndex) {
+        return new DoubleLinkedSubList<>(this, fromIndex, toIndex);
+    }
+
     private static class Node<E> {
         // You may not change the fields in this node or add any new fields.
-        public final E data;
+        // Note: 'data' is not final so that 'set' can update a node in place.
+        public E data;
         public Node<E> prev;
         public Node<E> next;
 
@@ -243,6 +226,20 @@ public class DoubleLinkedList<T> implements IList<T> {
         // Feel free to add additional constructors or methods to this class.
     }
 
+    private static class DoubleLinkedSubList<T> extends SubList<T> {
+        private final DoubleLinkedList<T> list;
+
+        public DoubleLinkedSubList(DoubleLinkedList<T> list, int fromIndex, int toIndex) {
+            super(list, fromIndex, toIndex);
+            this.list = list;
+        }
+
+        @Override
+        protected Iterator<T> iteratorFrom(int index) {
+            return new DoubleLinkedListIterator<>(this.list.nodeAt(index));
+        }
+    }
+
     private static class DoubleLinkedListIterator<T> implements Iterator<T> {
         // You should not need to change this field, or add any new fields.
         private Node<T> current;
@@ -276,4 +273,109 @@ public class DoubleLinkedList<T> implements IList<T> {
             return temp;
         }
     }
+
+    private static class DoubleLinkedListCursor<T> implements ListIterator<T> {
+        private DoubleLinkedList<T> list;
+        // The node 'next' will return (null at the back of the list), and its index.
+        private Node<T> next;
+        private int nextIndex;
+        // The node most recently returned by 'next' or 'previous', which is the one
+        // 'remove' and 'set' act on. Null if there isn't one, or it was already removed.
+        private Node<T> lastReturned;
+
+        public DoubleLinkedListCursor(DoubleLinkedList<T> list, Node<T> next, int nextIndex) {
+            this.list = list;
+            this.next = next;
+            this.nextIndex = nextIndex;
+            this.lastReturned = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.nextIndex < this.list.size;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.next;
+            this.next = this.next.next;
+            this.nextIndex++;
+            return this.lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return this.nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (!this.hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            this.next = this.next == null ? this.list.back : this.next.prev;
+            this.lastReturned = this.next;
+            this.nextIndex--;
+            return this.lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return this.nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return this.nextIndex - 1;
+        }
+
+        /**
+         * Removes the element most recently returned by 'next' or 'previous'.
+         *
+         * @throws IllegalStateException if neither has been called since the cursor was
+         *         created or since the last call to 'add' or 'remove'
+         */
+        @Override
+        public void remove() {
+            if (this.lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (this.next == this.lastReturned) {
+                // We just moved backwards over the removed node.
+                this.next = this.lastReturned.next;
+            } else {
+                this.nextIndex--;
+            }
+            this.list.unlink(this.lastReturned);
+            this.lastReturned = null;
+        }
+
+        /**
+         * Replaces the element most recently returned by 'next' or 'previous'.
+         *
+         * @throws IllegalStateException if neither has been called since the cursor was
+         *         created or since the last call to 'add' or 'remove'
+         */
+        @Override
+        public void set(T item) {
+            if (this.lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            this.lastReturned.data = item;
+        }
+
+        /**
+         * Inserts the item just before the cursor, so a following call to 'next' is
+         * unaffected and a following call to 'previous' returns the new item.
+         */
+        @Override
+        public void add(T item) {
+            this.list.linkBefore(this.next, item);
+            this.nextIndex++;
+            this.lastReturned = null;
+        }
+    }
 }
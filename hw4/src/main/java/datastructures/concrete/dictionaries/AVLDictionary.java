@@ -1,23 +1,195 @@
 package datastructures.concrete.dictionaries;
 
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
 import misc.exceptions.NoSuchKeyException;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.Stack;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * AVL Dictionary implementation of the Dictionary ADT.
  *
- * Does not allow null keys.
+ * Keys are ordered by the Comparator passed to the constructor, or by their natural
+ * ordering ('compareTo') if none is given. Does not allow null keys.
  */
-public class AVLDictionary<K extends Comparable<K>, V> implements IDictionary<K, V> {
+public class AVLDictionary<K, V> implements IDictionary<K, V> {
+    // Null means natural ordering.
+    private final Comparator<? super K> comparator;
     private AVLNode<K, V> overallRoot;
     private int size;
 
+    // Scratch space for 'put': the nodes on the path from the root to the insertion point.
+    // Kept between calls so each put doesn't allocate a new array.
+    private AVLNode<K, V>[] path;
+
+    /**
+     * Creates a dictionary that orders keys by their natural ordering. Every key put into
+     * this dictionary must implement Comparable.
+     */
     public AVLDictionary() {
+        this(null);
+    }
+
+    /**
+     * Creates a dictionary that orders keys using the given comparator, or by their natural
+     * ordering if the comparator is null.
+     */
+    public AVLDictionary(Comparator<? super K> comparator) {
+        this.comparator = comparator;
         this.size = 0;
+        this.path = makeArrayOfNodes(16);
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain AVLNode<K, V> objects.
+     */
+    @SuppressWarnings("unchecked")
+    private AVLNode<K, V>[] makeArrayOfNodes(int arraySize) {
+        // See ArrayDictionary's makeArrayOfPairs(...) method for
+        // more background on why we need this method.
+        return (AVLNode<K, V>[]) new AVLNode[arraySize];
+    }
+
+    /**
+     * Returns a dictionary containing the given pairs, which must already be sorted by key in
+     * increasing (natural) order with no duplicate keys.
+     *
+     * Runs in O(n) time: the tree is built directly from the sorted pairs instead of
+     * inserting them one at a time, and comes out perfectly balanced.
+     *
+     * @throws IllegalArgumentException if a key is null, or if the pairs are not sorted or
+     *         contain duplicate keys.
+     */
+    public static <K, V> AVLDictionary<K, V> fromSorted(IList<KVPair<K, V>> pairs) {
+        return fromSorted(pairs.iterator(), null);
+    }
+
+    /**
+     * Returns a dictionary that orders keys using the given comparator (or their natural
+     * ordering if it is null) and contains the pairs produced by the given iterator, which
+     * must already be sorted by key in increasing order with no duplicate keys.
+     *
+     * Runs in O(n) time.
+     *
+     * @throws IllegalArgumentException if a key is null, or if the pairs are not sorted or
+     *         contain duplicate keys.
+     */
+    public static <K, V> AVLDictionary<K, V> fromSorted(Iterator<KVPair<K, V>> pairs,
+                                                       Comparator<? super K> comparator) {
+        AVLDictionary<K, V> dict = new AVLDictionary<>(comparator);
+        KVPair<K, V>[] sorted = dict.drain(pairs);
+        int count = dict.size;
+        for (int i = 1; i < count; i++) {
+            if (dict.compare(sorted[i - 1].getKey(), sorted[i].getKey()) >= 0) {
+                throw new IllegalArgumentException("Pairs are not sorted, or contain duplicate keys");
+            }
+        }
+        dict.overallRoot = dict.build(sorted, 0, count);
+        return dict;
+    }
+
+    /**
+     * Returns a dictionary containing the given pairs, in any order. If a key appears more
+     * than once, the last pair with that key wins, just as if the pairs had been put one by
+     * one.
+     *
+     * Runs in O(n log n) time to sort the pairs, then O(n) to build the tree.
+     *
+     * @throws IllegalArgumentException if a key is null.
+     */
+    public static <K, V> AVLDictionary<K, V> fromUnsorted(IList<KVPair<K, V>> pairs) {
+        return fromUnsorted(pairs.iterator(), null);
+    }
+
+    /**
+     * Returns a dictionary that orders keys using the given comparator (or their natural
+     * ordering if it is null) and contains the pairs produced by the given iterator, in any
+     * order. If a key appears more than once, the last pair with that key wins.
+     *
+     * @throws IllegalArgumentException if a key is null.
+     */
+    public static <K, V> AVLDictionary<K, V> fromUnsorted(Iterator<KVPair<K, V>> pairs,
+                                                         Comparator<? super K> comparator) {
+        AVLDictionary<K, V> dict = new AVLDictionary<>(comparator);
+        KVPair<K, V>[] sorted = dict.drain(pairs);
+
+        // Arrays.sort is stable on objects, so of any equal keys the last one put stays last.
+        Arrays.sort(sorted, 0, dict.size, (a, b) -> dict.compare(a.getKey(), b.getKey()));
+        int count = 0;
+        for (int i = 0; i < dict.size; i++) {
+            if (count > 0 && dict.compare(sorted[count - 1].getKey(), sorted[i].getKey()) == 0) {
+                sorted[count - 1] = sorted[i];
+            } else {
+                sorted[count] = sorted[i];
+                count++;
+            }
+        }
+        dict.size = count;
+        dict.overallRoot = dict.build(sorted, 0, count);
+        return dict;
+    }
+
+    /**
+     * Copies every pair out of the iterator into an array, setting 'size' to the number of
+     * pairs. The array may be longer than 'size'.
+     *
+     * @throws IllegalArgumentException if a key is null.
+     */
+    private KVPair<K, V>[] drain(Iterator<KVPair<K, V>> pairs) {
+        KVPair<K, V>[] result = makeArrayOfPairs(16);
+        int count = 0;
+        while (pairs.hasNext()) {
+            KVPair<K, V> pair = pairs.next();
+            if (pair.getKey() == null) {
+                throw new IllegalArgumentException();
+            }
+            if (count == result.length) {
+                KVPair<K, V>[] temp = makeArrayOfPairs(count * 2);
+                System.arraycopy(result, 0, temp, 0, count);
+                result = temp;
+            }
+            result[count] = pair;
+            count++;
+        }
+        this.size = count;
+        return result;
+    }
+
+    /**
+     * Builds a perfectly balanced subtree out of sorted[low] through sorted[high - 1] and
+     * returns its root, with every node's height and size set.
+     */
+    private AVLNode<K, V> build(KVPair<K, V>[] sorted, int low, int high) {
+        if (low >= high) {
+            return null;
+        }
+        int mid = (low + high) >>> 1;
+        AVLNode<K, V> node = new AVLNode<>(sorted[mid].getKey(), sorted[mid].getValue());
+        node.left = build(sorted, low, mid);
+        node.right = build(sorted, mid + 1, high);
+        updateNode(node);
+        return node;
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain KVPair<K, V> objects.
+     */
+    @SuppressWarnings("unchecked")
+    private KVPair<K, V>[] makeArrayOfPairs(int arraySize) {
+        // See ArrayDictionary's makeArrayOfPairs(...) method for
+        // more background on why we need this method.
+        return (KVPair<K, V>[]) new KVPair[arraySize];
     }
 
     /**
@@ -31,34 +203,55 @@ public class AVLDictionary<K extends Comparable<K>, V> implements IDictionary<K,
         if (key == null) {
             throw new IllegalArgumentException();
         }
-        AVLNode<K, V> node = get(key, this.overallRoot);
+        AVLNode<K, V> node = find(key);
         if (node == null) {
             throw new NoSuchKeyException();
         }
         return node.value;
     }
 
+    /**
+     * Compares two keys using this dictionary's comparator or, if there is none, their
+     * natural ordering. Checking for null here instead of wrapping 'compareTo' in a
+     * Comparator keeps the common case a direct call.
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(K a, K b) {
+        if (this.comparator == null) {
+            return ((Comparable<? super K>) a).compareTo(b);
+        }
+        return this.comparator.compare(a, b);
+    }
+
     /**
      * Returns the node with the given key or null if no such node is found.
+     *
+     * Compares the key against each node on the path exactly once.
      */
-    private AVLNode<K, V> get(K key, AVLNode<K, V> root) {
-        if (root == null) {
-            return null;
-        } else if (key.compareTo(root.key) < 0) {
-            return get(key, root.left);
-        } else if (key.compareTo(root.key) > 0) {
-            return get(key, root.right);
+    private AVLNode<K, V> find(K key) {
+        AVLNode<K, V> node = this.overallRoot;
+        while (node != null) {
+            int comparison = compare(key, node.key);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
         }
-        return root;
+        return null;
     }
 
     /**
      * Returns the value corresponding to the given key or defaultValue if the key is not found.
+     *
+     * @throws IllegalArgumentException if the given key is null.
      */
     @Override
     public V getOrDefault(K key, V defaultValue) {
-        V value = get(key);
-        return value == null ? defaultValue : value;
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+        AVLNode<K, V> node = find(key);
+        return node == null ? defaultValue : node.value;
     }
 
     /**
@@ -68,31 +261,168 @@ public class AVLDictionary<K extends Comparable<K>, V> implements IDictionary<K,
      */
     @Override
     public void put(K key, V value) {
+        findOrInsert(key, value).value = value;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public V putIfAbsent(K key, V value) {
+        int oldSize = this.size;
+        AVLNode<K, V> node = findOrInsert(key, value);
+        return this.size == oldSize ? node.value : null;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        int oldSize = this.size;
+        AVLNode<K, V> node = findOrInsert(key, null);
+        if (this.size != oldSize) {
+            node.value = applyToNew(key, () -> mappingFunction.apply(key));
+        }
+        return node.value;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int oldSize = this.size;
+        AVLNode<K, V> node = findOrInsert(key, null);
+        if (this.size != oldSize) {
+            node.value = applyToNew(key, () -> remappingFunction.apply(key, null));
+        } else {
+            node.value = remappingFunction.apply(key, node.value);
+        }
+        return node.value;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        int oldSize = this.size;
+        AVLNode<K, V> node = findOrInsert(key, value);
+        if (this.size == oldSize) {
+            node.value = remappingFunction.apply(node.value, value);
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns the result of 'function', which computes the value for a key that
+     * 'findOrInsert' has just added. If the function throws, removes the key again first so
+     * the dictionary is left as it was.
+     */
+    private V applyToNew(K key, Supplier<? extends V> function) {
+        try {
+            return function.get();
+        } catch (RuntimeException | Error ex) {
+            this.remove(key);
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the node with the given key, first inserting a new node holding 'value' if
+     * there isn't one. Callers can tell whether a node was inserted by checking 'size'.
+     *
+     * Walks down the tree iteratively (comparing once per node), remembering the path, and
+     * then walks back up the path to update and rebalance each node. Rotations relink nodes
+     * rather than moving keys between them, so the returned node still holds the key
+     * afterwards.
+     *
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    private AVLNode<K, V> findOrInsert(K key, V value) {
         if (key == null) {
             throw new IllegalArgumentException();
         }
-        this.overallRoot = put(key, value, this.overallRoot);
+        if (this.overallRoot == null) {
+            this.overallRoot = new AVLNode<>(key, value);
+            this.size++;
+            return this.overallRoot;
+        }
+
+        int depth = 0;
+        AVLNode<K, V> node = this.overallRoot;
+        while (true) {
+            int comparison = compare(key, node.key);
+            if (comparison == 0) {
+                clearPath(depth);
+                return node;
+            }
+            if (depth == this.path.length) {
+                AVLNode<K, V>[] temp = makeArrayOfNodes(depth * 2);
+                System.arraycopy(this.path, 0, temp, 0, depth);
+                this.path = temp;
+            }
+            this.path[depth] = node;
+            depth++;
+
+            AVLNode<K, V> child = comparison < 0 ? node.left : node.right;
+            if (child == null) {
+                child = new AVLNode<>(key, value);
+                if (comparison < 0) {
+                    node.left = child;
+                } else {
+                    node.right = child;
+                }
+                node = child;
+                break;
+            }
+            node = child;
+        }
+        this.size++;
+
+        // Once a subtree's height comes out unchanged, no ancestor's height or balance can
+        // change either, so the rest of the way up only the sizes need bumping.
+        boolean settled = false;
+        for (int i = depth - 1; i >= 0; i--) {
+            AVLNode<K, V> current = this.path[i];
+            if (settled) {
+                current.size++;
+                continue;
+            }
+            int oldHeight = current.height;
+            updateNode(current);
+            AVLNode<K, V> balanced = balanceTree(current);
+            if (balanced != current) {
+                replaceChild(i == 0 ? null : this.path[i - 1], current, balanced);
+            }
+            settled = balanced.height == oldHeight;
+        }
+        clearPath(depth);
+        return node;
     }
 
     /**
-     * Adds the given key-value pair into the dictionary.  Overwrites value if key already exists.
+     * Clears the first 'depth' entries of 'path' so it doesn't keep removed nodes alive.
      */
-    private AVLNode<K, V> put(K key, V value, AVLNode<K, V> root) {
-        if (root == null) {
-            this.size++;
-            return new AVLNode<>(key, value);
+    private void clearPath(int depth) {
+        for (int i = 0; i < depth; i++) {
+            this.path[i] = null;
         }
+    }
 
-        if (key.compareTo(root.key) < 0) {
-            root.left = put(key, value, root.left);
-        } else if (key.compareTo(root.key) > 0) {
-            root.right = put(key, value, root.right);
+    /**
+     * Makes 'newChild' take the place of 'oldChild' under 'parent'. A null parent means
+     * 'oldChild' is the root of the whole tree.
+     */
+    private void replaceChild(AVLNode<K, V> parent, AVLNode<K, V> oldChild, AVLNode<K, V> newChild) {
+        if (parent == null) {
+            this.overallRoot = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
         } else {
-            root.value = value;
-            return root;
+            parent.right = newChild;
         }
-        updateHeight(root);
-        return balanceTree(root);
     }
 
     /**
@@ -122,10 +452,12 @@ public class AVLDictionary<K extends Comparable<K>, V> implements IDictionary<K,
     }
 
     /**
-     * Sets the given node's height to the maximum of its subtrees' heights plus 1.
+     * Sets the given node's height to the maximum of its subtrees' heights plus 1, and its
+     * subtree size to the sum of its subtrees' sizes plus 1.
      */
-    private void updateHeight(AVLNode<K, V> node) {
+    private void updateNode(AVLNode<K, V> node) {
         node.height = Math.max(getHeight(node.left), getHeight(node.right)) + 1;
+        node.size = getSize(node.left) + getSize(node.right) + 1;
     }
 
     /**
@@ -136,6 +468,13 @@ public class AVLDictionary<K extends Comparable<K>, V> implements IDictionary<K,
         return node == null ? -1 : node.height;
     }
 
+    /**
+     * Returns the number of nodes in the given node's subtree.
+     */
+    private int getSize(AVLNode<K, V> node) {
+        return node == null ? 0 : node.size;
+    }
+
     /**
      * Performs a right rotation on the given subtree. Returns the rotated subtree.
      */
@@ -143,8 +482,9 @@ public class AVLDictionary<K extends Comparable<K>, V> implements IDictionary<K,
         AVLNode<K, V> leftChild = root.left;
         root.left = leftChild.right;
         leftChild.right = root;
-        updateHeight(leftChild);
-        updateHeight(root);
+        // 'root' is now below 'leftChild', so it must be updated first.
+        updateNode(root);
+        updateNode(leftChild);
         return leftChild;
     }
 
@@ -155,17 +495,60 @@ public class AVLDictionary<K extends Comparable<K>, V> implements IDictionary<K,
         AVLNode<K, V> rightChild = root.right;
         root.right = rightChild.left;
         rightChild.left = root;
-        updateHeight(rightChild);
-        updateHeight(root);
+        // 'root' is now below 'rightChild', so it must be updated first.
+        updateNode(root);
+        updateNode(rightChild);
         return rightChild;
     }
 
     /**
-     * Remove has been left unimplemented.
+     * Removes the given key from the dictionary and returns its value.
+     *
+     * @throws NoSuchKeyException if the key is not found.
+     * @throws IllegalArgumentException if the given key is null.
      */
     @Override
     public V remove(K key) {
-        throw new UnsupportedOperationException();
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+        AVLNode<K, V> node = find(key);
+        if (node == null) {
+            throw new NoSuchKeyException();
+        }
+        V value = node.value;
+        this.overallRoot = remove(key, this.overallRoot);
+        this.size--;
+        return value;
+    }
+
+    /**
+     * Removes the node with the given key from the given subtree. Returns the balanced subtree.
+     * Assumes the key is present.
+     */
+    private AVLNode<K, V> remove(K key, AVLNode<K, V> root) {
+        int comparison = compare(key, root.key);
+        if (comparison < 0) {
+            root.left = remove(key, root.left);
+        } else if (comparison > 0) {
+            root.right = remove(key, root.right);
+        } else if (root.left == null) {
+            return root.right;
+        } else if (root.right == null) {
+            return root.left;
+        } else {
+            // Two children: replace this node's contents with its in-order successor's,
+            // then remove the successor from the right subtree instead.
+            AVLNode<K, V> successor = root.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            root.key = successor.key;
+            root.value = successor.value;
+            root.right = remove(successor.key, root.right);
+        }
+        updateNode(root);
+        return balanceTree(root);
     }
 
     /**
@@ -173,7 +556,10 @@ public class AVLDictionary<K extends Comparable<K>, V> implements IDictionary<K,
      */
     @Override
     public boolean containsKey(K key) {
-        return get(key, this.overallRoot) != null;
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+        return find(key) != null;
     }
 
     /**
@@ -192,18 +578,162 @@ public class AVLDictionary<K extends Comparable<K>, V> implements IDictionary<K,
         return overallRoot == null;
     }
 
+    /**
+     * Returns the smallest key in the dictionary.
+     *
+     * @throws EmptyContainerException if the dictionary is empty.
+     */
+    public K firstKey() {
+        if (this.overallRoot == null) {
+            throw new EmptyContainerException();
+        }
+        AVLNode<K, V> node = this.overallRoot;
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.key;
+    }
+
+    /**
+     * Returns the largest key in the dictionary.
+     *
+     * @throws EmptyContainerException if the dictionary is empty.
+     */
+    public K lastKey() {
+        if (this.overallRoot == null) {
+            throw new EmptyContainerException();
+        }
+        AVLNode<K, V> node = this.overallRoot;
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.key;
+    }
+
+    /**
+     * Returns the largest key less than or equal to the given key, or null if there is none.
+     *
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    public K floorKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+        K best = null;
+        AVLNode<K, V> node = this.overallRoot;
+        while (node != null) {
+            int comparison = compare(key, node.key);
+            if (comparison == 0) {
+                return node.key;
+            } else if (comparison < 0) {
+                node = node.left;
+            } else {
+                best = node.key;
+                node = node.right;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the smallest key greater than or equal to the given key, or null if there is none.
+     *
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    public K ceilingKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+        K best = null;
+        AVLNode<K, V> node = this.overallRoot;
+        while (node != null) {
+            int comparison = compare(key, node.key);
+            if (comparison == 0) {
+                return node.key;
+            } else if (comparison > 0) {
+                node = node.right;
+            } else {
+                best = node.key;
+                node = node.left;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the number of keys in the dictionary that are strictly less than the given key.
+     * The key itself does not need to be in the dictionary.
+     *
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    public int rank(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+        int rank = 0;
+        AVLNode<K, V> node = this.overallRoot;
+        while (node != null) {
+            int comparison = compare(key, node.key);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                rank += getSize(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + getSize(node.left);
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the key with the given rank: that is, the key that would be at the given index
+     * if all keys were listed in sorted order.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    public K select(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        AVLNode<K, V> node = this.overallRoot;
+        while (true) {
+            int leftSize = getSize(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.key;
+            }
+        }
+    }
+
+    /**
+     * Returns the key-value pairs whose keys are at least 'fromKey' and strictly less than
+     * 'toKey', in sorted order. Iterating over k pairs takes O(log(n) + k) time.
+     *
+     * Either bound may be null, meaning the range is unbounded on that side.
+     */
+    public Iterable<KVPair<K, V>> subMap(K fromKey, K toKey) {
+        return () -> new AVLIterator<>(this.overallRoot, this::compare, fromKey, toKey);
+    }
+
     /**
      * Returns an iterator that, when used, will yield all key-value pairs contained within
      * this dictionary.
      */
     @Override
     public Iterator<KVPair<K, V>> iterator() {
-        return new AVLIterator<>(this.overallRoot);
+        return new AVLIterator<>(this.overallRoot, this::compare, null, null);
     }
 
     /**
      * AVLNode class. Nodes store a key and a value and have at most two children. Each node
-     * keeps track of its own height in the AVL Tree. This is used to balance the tree.
+     * keeps track of its own height in the AVL Tree. This is used to balance the tree. Each
+     * node also keeps track of how many nodes are in its subtree, which is used by 'rank'
+     * and 'select'.
      */
     private static class AVLNode<K, V> {
         public AVLNode<K, V> left;
@@ -211,6 +741,7 @@ public class AVLDictionary<K extends Comparable<K>, V> implements IDictionary<K,
         public K key;
         public V value;
         public int height;
+        public int size;
 
         public AVLNode(K key, V value) {
             left = null;
@@ -218,32 +749,55 @@ public class AVLDictionary<K extends Comparable<K>, V> implements IDictionary<K,
             this.key = key;
             this.value = value;
             this.height = 0;
+            this.size = 1;
         }
     }
 
     /**
      * AVLIterator Class. Creates an iterator over the key-value pairs stored in the AVL Dictionary.
+     *
+     * Pairs are produced in key order, one at a time. The iterator only keeps a stack of the
+     * nodes on the path to the next pair, so it uses O(height) memory and does no work up
+     * front beyond walking down to the smallest key.
      */
     private static class AVLIterator<K, V> implements Iterator<KVPair<K, V>> {
-        private Stack<KVPair<K, V>> stack;
+        // The top of the stack is the next node to return. Below it are the ancestors whose
+        // left subtrees we are still inside of, which come next in order.
+        private Deque<AVLNode<K, V>> stack;
+        private Comparator<? super K> comparator;
+        private K fromKey;
+        private K toKey;
 
-        public AVLIterator(AVLNode<K, V> overallRoot) {
-            this.stack = new Stack<>();
-            reverseOrderFill(overallRoot);
+        /**
+         * Iterates over the keys in [fromKey, toKey). A null bound means no bound.
+         */
+        public AVLIterator(AVLNode<K, V> overallRoot, Comparator<? super K> comparator, K fromKey, K toKey) {
+            this.stack = new ArrayDeque<>();
+            this.comparator = comparator;
+            this.fromKey = fromKey;
+            this.toKey = toKey;
+            pushLeftPath(overallRoot);
         }
 
-        private void reverseOrderFill(AVLNode<K, V> root) {
-            if (root == null) {
-                return;
+        /**
+         * Pushes the given node and its chain of left descendants, skipping any node (and
+         * its left subtree) with a key below 'fromKey'.
+         */
+        private void pushLeftPath(AVLNode<K, V> root) {
+            while (root != null) {
+                if (this.fromKey != null && this.comparator.compare(root.key, this.fromKey) < 0) {
+                    root = root.right;
+                } else {
+                    this.stack.push(root);
+                    root = root.left;
+                }
             }
-            reverseOrderFill(root.right);
-            this.stack.push(new KVPair<>(root.key, root.value));
-            reverseOrderFill(root.left);
         }
 
         @Override
         public boolean hasNext() {
-            return this.stack.size() > 0;
+            return !this.stack.isEmpty()
+                    && (this.toKey == null || this.comparator.compare(this.stack.peek().key, this.toKey) < 0);
         }
 
         @Override
@@ -251,7 +805,9 @@ public class AVLDictionary<K extends Comparable<K>, V> implements IDictionary<K,
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
-            return this.stack.pop();
+            AVLNode<K, V> node = this.stack.pop();
+            pushLeftPath(node.right);
+            return new KVPair<>(node.key, node.value);
         }
     }
 }
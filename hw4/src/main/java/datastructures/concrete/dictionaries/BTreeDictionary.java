@@ -0,0 +1,618 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * In-memory B+-tree implementation of the Dictionary ADT.
+ *
+ * Unlike AVLDictionary, which allocates one node per key, each node here holds up to
+ * 'fanout' keys in a single array. A lookup therefore touches about log_fanout(n) nodes
+ * instead of log_2(n), and searches each one with a binary search over adjacent array
+ * slots. All of the key-value pairs live in the leaves, which are linked together in key
+ * order so that iterating (or scanning a range with 'subMap') just walks along the leaves.
+ *
+ * Keys are ordered by the Comparator passed to the constructor, or by their natural
+ * ordering ('compareTo') if none is given. Does not allow null keys.
+ */
+public class BTreeDictionary<K, V> implements IDictionary<K, V> {
+    private static final int DEFAULT_FANOUT = 64;
+    private static final int MIN_FANOUT = 4;
+
+    // Null means natural ordering.
+    private final Comparator<? super K> comparator;
+
+    // The most keys a leaf can hold, and the most children an internal node can have.
+    private final int fanout;
+
+    private Node<K, V> root;
+    private int size;
+
+    // Set by 'put' when a node splits: the smallest key of the new right-hand node.
+    private K splitKey;
+
+    public BTreeDictionary() {
+        this(DEFAULT_FANOUT, null);
+    }
+
+    /**
+     * Creates a dictionary whose nodes hold up to 'fanout' keys (or children), ordering
+     * keys using the given comparator, or by their natural ordering if it is null.
+     *
+     * @throws IllegalArgumentException if 'fanout' is less than 4
+     */
+    public BTreeDictionary(int fanout, Comparator<? super K> comparator) {
+        if (fanout < MIN_FANOUT) {
+            throw new IllegalArgumentException("Fan-out must be at least " + MIN_FANOUT);
+        }
+        this.fanout = fanout;
+        this.comparator = comparator;
+        this.root = new LeafNode<>(fanout);
+        this.size = 0;
+    }
+
+    /**
+     * Compares two keys using this dictionary's comparator or, if there is none, their
+     * natural ordering.
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(K a, K b) {
+        if (this.comparator == null) {
+            return ((Comparable<? super K>) a).compareTo(b);
+        }
+        return this.comparator.compare(a, b);
+    }
+
+    /**
+     * Binary searches the first 'count' keys of the given node. Returns the index of 'key'
+     * if present; otherwise returns (-(insertion point) - 1), like Arrays.binarySearch.
+     */
+    private int search(Node<K, V> node, K key) {
+        int low = 0;
+        int high = node.count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compare(node.keys[mid], key);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the index of the child of 'node' whose subtree would contain 'key'.
+     *
+     * Each separator key is the smallest key in the subtree to its right, so a key equal
+     * to a separator belongs on the right.
+     */
+    private int childIndex(InternalNode<K, V> node, K key) {
+        int index = search(node, key);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    /**
+     * Returns the leaf whose range contains 'key'.
+     */
+    private LeafNode<K, V> findLeaf(K key) {
+        Node<K, V> node = this.root;
+        while (node instanceof InternalNode) {
+            InternalNode<K, V> internal = (InternalNode<K, V>) node;
+            node = internal.children[childIndex(internal, key)];
+        }
+        return (LeafNode<K, V>) node;
+    }
+
+    /**
+     * Returns the value corresponding to the given key.
+     *
+     * @throws NoSuchKeyException if the key is not found.
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+        LeafNode<K, V> leaf = findLeaf(key);
+        int index = search(leaf, key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        return leaf.values[index];
+    }
+
+    /**
+     * Returns the value corresponding to the given key or defaultValue if the key is not found.
+     *
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+        LeafNode<K, V> leaf = findLeaf(key);
+        int index = search(leaf, key);
+        return index < 0 ? defaultValue : leaf.values[index];
+    }
+
+    /**
+     * Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+     *
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public boolean containsKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+        LeafNode<K, V> leaf = findLeaf(key);
+        return search(leaf, key) >= 0;
+    }
+
+    /**
+     * Adds the given key-value pair into the dictionary. Overwrites value if key already exists.
+     *
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public void put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+        Node<K, V> right = put(this.root, key, value);
+        if (right != null) {
+            // The root split, so the tree grows one level taller.
+            InternalNode<K, V> newRoot = new InternalNode<>(this.fanout);
+            newRoot.keys[0] = this.splitKey;
+            newRoot.children[0] = this.root;
+            newRoot.children[1] = right;
+            newRoot.count = 1;
+            this.root = newRoot;
+        }
+        this.splitKey = null;
+    }
+
+    /**
+     * Puts the pair into the subtree rooted at 'node'. If 'node' had to split, returns the
+     * new node holding its upper half and sets 'splitKey'; otherwise returns null.
+     */
+    private Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node instanceof LeafNode) {
+            return putInLeaf((LeafNode<K, V>) node, key, value);
+        }
+
+        InternalNode<K, V> internal = (InternalNode<K, V>) node;
+        int index = childIndex(internal, key);
+        Node<K, V> newChild = put(internal.children[index], key, value);
+        if (newChild == null) {
+            return null;
+        }
+        return insertChild(internal, index, this.splitKey, newChild);
+    }
+
+    private Node<K, V> putInLeaf(LeafNode<K, V> leaf, K key, V value) {
+        int index = search(leaf, key);
+        if (index >= 0) {
+            leaf.values[index] = value;
+            return null;
+        }
+        index = -(index + 1);
+        this.size++;
+
+        if (leaf.count < this.fanout) {
+            leaf.insert(index, key, value);
+            return null;
+        }
+
+        // Move the upper half into a new leaf, then insert into whichever half the key
+        // belongs in.
+        LeafNode<K, V> right = new LeafNode<>(this.fanout);
+        int mid = this.fanout / 2;
+        right.count = leaf.count - mid;
+        System.arraycopy(leaf.keys, mid, right.keys, 0, right.count);
+        System.arraycopy(leaf.values, mid, right.values, 0, right.count);
+        leaf.clear(mid, leaf.count);
+        leaf.count = mid;
+
+        if (index <= mid) {
+            leaf.insert(index, key, value);
+        } else {
+            right.insert(index - mid, key, value);
+        }
+
+        right.next = leaf.next;
+        leaf.next = right;
+        this.splitKey = right.keys[0];
+        return right;
+    }
+
+    /**
+     * Inserts 'separator' as the key at 'index' of 'node' and 'child' as the child just to its
+     * right. If 'node' is full, splits it: returns the new node holding its upper half and sets
+     * 'splitKey' to the separator that should move up to the parent. Otherwise returns null.
+     */
+    private Node<K, V> insertChild(InternalNode<K, V> node, int index, K separator, Node<K, V> child) {
+        if (node.count < this.fanout - 1) {
+            System.arraycopy(node.keys, index, node.keys, index + 1, node.count - index);
+            System.arraycopy(node.children, index + 1, node.children, index + 2, node.count - index);
+            node.keys[index] = separator;
+            node.children[index + 1] = child;
+            node.count++;
+            return null;
+        }
+
+        // Internal nodes split rarely (once per 'fanout / 2' leaf splits), so it's simplest
+        // to lay out the overfull node in temporary arrays and then divide them.
+        K[] keys = makeArrayOfKeys(this.fanout);
+        Node<K, V>[] children = makeArrayOfNodes(this.fanout + 1);
+        System.arraycopy(node.keys, 0, keys, 0, index);
+        keys[index] = separator;
+        System.arraycopy(node.keys, index, keys, index + 1, node.count - index);
+        System.arraycopy(node.children, 0, children, 0, index + 1);
+        children[index + 1] = child;
+        System.arraycopy(node.children, index + 1, children, index + 2, node.count - index);
+
+        int mid = this.fanout / 2;
+        InternalNode<K, V> right = new InternalNode<>(this.fanout);
+        right.count = this.fanout - mid - 1;
+        System.arraycopy(keys, mid + 1, right.keys, 0, right.count);
+        System.arraycopy(children, mid + 1, right.children, 0, right.count + 1);
+
+        node.clear();
+        System.arraycopy(keys, 0, node.keys, 0, mid);
+        System.arraycopy(children, 0, node.children, 0, mid + 1);
+        node.count = mid;
+
+        this.splitKey = keys[mid];
+        return right;
+    }
+
+    /**
+     * Remove the Key-Value pair corresponding to the given key from the dictionary.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+        V value = remove(this.root, key);
+        if (this.root instanceof InternalNode && this.root.count == 0) {
+            // The root's last two children were merged, so the tree shrinks one level.
+            this.root = ((InternalNode<K, V>) this.root).children[0];
+        }
+        this.size--;
+        return value;
+    }
+
+    /**
+     * Removes the key from the subtree rooted at 'node', which may leave 'node' with too
+     * few keys; the caller is responsible for fixing that.
+     *
+     * Throws before changing anything if the key is not present.
+     */
+    private V remove(Node<K, V> node, K key) {
+        if (node instanceof LeafNode) {
+            LeafNode<K, V> leaf = (LeafNode<K, V>) node;
+            int index = search(leaf, key);
+            if (index < 0) {
+                throw new NoSuchKeyException();
+            }
+            return leaf.delete(index);
+        }
+
+        InternalNode<K, V> internal = (InternalNode<K, V>) node;
+        int index = childIndex(internal, key);
+        Node<K, V> child = internal.children[index];
+        V value = remove(child, key);
+        if (child.count < minCount(child)) {
+            fixUnderflow(internal, index);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the fewest keys a non-root node of the same kind as 'node' may hold.
+     */
+    private int minCount(Node<K, V> node) {
+        if (node instanceof LeafNode) {
+            return this.fanout / 2;
+        }
+        // At least half the maximum number of children, rounded up.
+        return (this.fanout + 1) / 2 - 1;
+    }
+
+    /**
+     * Brings the child at 'index' of 'parent' back up to its minimum size, either by
+     * borrowing a key from a sibling that can spare one or by merging with a sibling.
+     */
+    private void fixUnderflow(InternalNode<K, V> parent, int index) {
+        Node<K, V> child = parent.children[index];
+        Node<K, V> left = index > 0 ? parent.children[index - 1] : null;
+        Node<K, V> right = index < parent.count ? parent.children[index + 1] : null;
+
+        if (left != null && left.count > minCount(left)) {
+            borrowFromLeft(parent, index, left, child);
+        } else if (right != null && right.count > minCount(right)) {
+            borrowFromRight(parent, index, child, right);
+        } else if (left != null) {
+            merge(parent, index - 1, left, child);
+        } else {
+            merge(parent, index, child, right);
+        }
+    }
+
+    private void borrowFromLeft(InternalNode<K, V> parent, int index, Node<K, V> left, Node<K, V> child) {
+        if (child instanceof LeafNode) {
+            LeafNode<K, V> leftLeaf = (LeafNode<K, V>) left;
+            K key = leftLeaf.keys[leftLeaf.count - 1];
+            V value = leftLeaf.delete(leftLeaf.count - 1);
+            ((LeafNode<K, V>) child).insert(0, key, value);
+            parent.keys[index - 1] = key;
+        } else {
+            InternalNode<K, V> leftNode = (InternalNode<K, V>) left;
+            InternalNode<K, V> childNode = (InternalNode<K, V>) child;
+            System.arraycopy(childNode.keys, 0, childNode.keys, 1, childNode.count);
+            System.arraycopy(childNode.children, 0, childNode.children, 1, childNode.count + 1);
+            childNode.keys[0] = parent.keys[index - 1];
+            childNode.children[0] = leftNode.children[leftNode.count];
+            childNode.count++;
+
+            parent.keys[index - 1] = leftNode.keys[leftNode.count - 1];
+            leftNode.keys[leftNode.count - 1] = null;
+            leftNode.children[leftNode.count] = null;
+            leftNode.count--;
+        }
+    }
+
+    private void borrowFromRight(InternalNode<K, V> parent, int index, Node<K, V> child, Node<K, V> right) {
+        if (child instanceof LeafNode) {
+            LeafNode<K, V> rightLeaf = (LeafNode<K, V>) right;
+            K key = rightLeaf.keys[0];
+            V value = rightLeaf.delete(0);
+            LeafNode<K, V> childLeaf = (LeafNode<K, V>) child;
+            childLeaf.insert(childLeaf.count, key, value);
+            parent.keys[index] = rightLeaf.keys[0];
+        } else {
+            InternalNode<K, V> rightNode = (InternalNode<K, V>) right;
+            InternalNode<K, V> childNode = (InternalNode<K, V>) child;
+            childNode.keys[childNode.count] = parent.keys[index];
+            childNode.children[childNode.count + 1] = rightNode.children[0];
+            childNode.count++;
+
+            parent.keys[index] = rightNode.keys[0];
+            System.arraycopy(rightNode.keys, 1, rightNode.keys, 0, rightNode.count - 1);
+            System.arraycopy(rightNode.children, 1, rightNode.children, 0, rightNode.count);
+            rightNode.keys[rightNode.count - 1] = null;
+            rightNode.children[rightNode.count] = null;
+            rightNode.count--;
+        }
+    }
+
+    /**
+     * Moves everything in 'right' into 'left', where they are the children of 'parent' on
+     * either side of the key at 'separatorIndex', then removes 'right' and that key from
+     * 'parent'.
+     */
+    private void merge(InternalNode<K, V> parent, int separatorIndex, Node<K, V> left, Node<K, V> right) {
+        if (left instanceof LeafNode) {
+            LeafNode<K, V> leftLeaf = (LeafNode<K, V>) left;
+            LeafNode<K, V> rightLeaf = (LeafNode<K, V>) right;
+            System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.count, rightLeaf.count);
+            System.arraycopy(rightLeaf.values, 0, leftLeaf.values, leftLeaf.count, rightLeaf.count);
+            leftLeaf.count += rightLeaf.count;
+            leftLeaf.next = rightLeaf.next;
+        } else {
+            InternalNode<K, V> leftNode = (InternalNode<K, V>) left;
+            InternalNode<K, V> rightNode = (InternalNode<K, V>) right;
+            leftNode.keys[leftNode.count] = parent.keys[separatorIndex];
+            System.arraycopy(rightNode.keys, 0, leftNode.keys, leftNode.count + 1, rightNode.count);
+            System.arraycopy(rightNode.children, 0, leftNode.children, leftNode.count + 1, rightNode.count + 1);
+            leftNode.count += rightNode.count + 1;
+        }
+
+        int moved = parent.count - separatorIndex - 1;
+        System.arraycopy(parent.keys, separatorIndex + 1, parent.keys, separatorIndex, moved);
+        System.arraycopy(parent.children, separatorIndex + 2, parent.children, separatorIndex + 1, moved);
+        parent.keys[parent.count - 1] = null;
+        parent.children[parent.count] = null;
+        parent.count--;
+    }
+
+    /**
+     * Returns the number of key-value pairs in this dictionary.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the key-value pairs whose keys are at least 'fromKey' and strictly less than
+     * 'toKey', in sorted order. Iterating over k pairs takes O(log(n) + k) time, and walks
+     * the leaves in order without going back up the tree.
+     *
+     * Either bound may be null, meaning the range is unbounded on that side.
+     */
+    public Iterable<KVPair<K, V>> subMap(K fromKey, K toKey) {
+        return () -> {
+            if (fromKey == null) {
+                return new BTreeIterator<>(firstLeaf(), 0, this::compare, toKey);
+            }
+            LeafNode<K, V> leaf = findLeaf(fromKey);
+            int index = search(leaf, fromKey);
+            return new BTreeIterator<>(leaf, index >= 0 ? index : -(index + 1), this::compare, toKey);
+        };
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new BTreeIterator<>(firstLeaf(), 0, this::compare, null);
+    }
+
+    private LeafNode<K, V> firstLeaf() {
+        Node<K, V> node = this.root;
+        while (node instanceof InternalNode) {
+            node = ((InternalNode<K, V>) node).children[0];
+        }
+        return (LeafNode<K, V>) node;
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain K objects.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K> K[] makeArrayOfKeys(int arraySize) {
+        // See ArrayDictionary's makeArrayOfPairs(...) method for
+        // more background on why we need this method.
+        return (K[]) new Object[arraySize];
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain Node<K, V> objects.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V>[] makeArrayOfNodes(int arraySize) {
+        return (Node<K, V>[]) new Node[arraySize];
+    }
+
+    /**
+     * Holds the fields shared by leaves and internal nodes. 'keys[0]' through
+     * 'keys[count - 1]' are in use and sorted; the rest of the array is null.
+     */
+    private abstract static class Node<K, V> {
+        public K[] keys;
+        public int count;
+
+        public Node(int capacity) {
+            this.keys = makeArrayOfKeys(capacity);
+            this.count = 0;
+        }
+    }
+
+    private static class LeafNode<K, V> extends Node<K, V> {
+        public V[] values;
+        public LeafNode<K, V> next;
+
+        @SuppressWarnings("unchecked")
+        public LeafNode(int fanout) {
+            super(fanout);
+            this.values = (V[]) new Object[fanout];
+            this.next = null;
+        }
+
+        /**
+         * Inserts the pair at the given index, shifting later pairs over. The leaf must not
+         * be full.
+         */
+        public void insert(int index, K key, V value) {
+            System.arraycopy(this.keys, index, this.keys, index + 1, this.count - index);
+            System.arraycopy(this.values, index, this.values, index + 1, this.count - index);
+            this.keys[index] = key;
+            this.values[index] = value;
+            this.count++;
+        }
+
+        /**
+         * Removes the pair at the given index, shifting later pairs back, and returns its value.
+         */
+        public V delete(int index) {
+            V value = this.values[index];
+            System.arraycopy(this.keys, index + 1, this.keys, index, this.count - index - 1);
+            System.arraycopy(this.values, index + 1, this.values, index, this.count - index - 1);
+            this.count--;
+            this.keys[this.count] = null;
+            this.values[this.count] = null;
+            return value;
+        }
+
+        /**
+         * Nulls out slots 'from' (inclusive) through 'to' (exclusive) so the leaf doesn't
+         * keep pairs that have moved elsewhere alive.
+         */
+        public void clear(int from, int to) {
+            for (int i = from; i < to; i++) {
+                this.keys[i] = null;
+                this.values[i] = null;
+            }
+        }
+    }
+
+    /**
+     * An internal node with 'count' separator keys and 'count + 1' children. Every key in
+     * 'children[i]' is less than 'keys[i]', and every key in 'children[i + 1]' is at least
+     * 'keys[i]'.
+     */
+    private static class InternalNode<K, V> extends Node<K, V> {
+        public Node<K, V>[] children;
+
+        public InternalNode(int fanout) {
+            super(fanout - 1);
+            this.children = makeArrayOfNodes(fanout);
+        }
+
+        public void clear() {
+            for (int i = 0; i < this.keys.length; i++) {
+                this.keys[i] = null;
+            }
+            for (int i = 0; i < this.children.length; i++) {
+                this.children[i] = null;
+            }
+        }
+    }
+
+    private static class BTreeIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private LeafNode<K, V> leaf;
+        private int index;
+        private Comparator<? super K> comparator;
+        private K toKey;
+
+        public BTreeIterator(LeafNode<K, V> leaf, int index, Comparator<? super K> comparator, K toKey) {
+            this.leaf = leaf;
+            this.index = index;
+            this.comparator = comparator;
+            this.toKey = toKey;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.leaf != null && this.index >= this.leaf.count) {
+                this.leaf = this.leaf.next;
+                this.index = 0;
+            }
+            if (this.leaf == null) {
+                return false;
+            }
+            if (this.toKey != null && this.comparator.compare(this.leaf.keys[this.index], this.toKey) >= 0) {
+                // Past the end of the range, so there's nothing more to return.
+                this.leaf = null;
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> pair = new KVPair<>(this.leaf.keys[this.index], this.leaf.values[this.index]);
+            this.index++;
+            return pair;
+        }
+    }
+}
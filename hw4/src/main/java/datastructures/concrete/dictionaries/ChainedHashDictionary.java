@@ -1,30 +1,94 @@
 package datastructures.concrete.dictionaries;
 
+import datastructures.interfaces.DictionaryStatsMXBean;
+import datastructures.interfaces.HashStrategy;
 import datastructures.interfaces.IDictionary;
 import misc.exceptions.NoSuchKeyException;
 
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * @see IDictionary and the assignment page for more details on what each method should do
  */
 public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
+    // In incremental mode, this is the most buckets of the old table we move
+    // into the new one per put or remove.
+    private static final int MIGRATE_BUCKETS_PER_OP = 8;
+
+    // A chain holding more than TREEIFY_THRESHOLD keys is converted into a TreeBucket
+    // (if its keys are Comparable), and a TreeBucket that shrinks to UNTREEIFY_THRESHOLD
+    // keys is converted back. The gap between the two stops a bucket from flipping back
+    // and forth when a key is repeatedly added and removed.
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_THRESHOLD = 6;
+
     private final double lambda;
+    private final boolean incrementalResize;
+    private final HashStrategy<K> hashStrategy;
+
+    // Always a power of two, so we can pick a bucket with a mask instead of a modulo.
     private int capacity;
     private int size;
 
     private IDictionary<K, V>[] chains;
 
+    // While an incremental resize is in progress, 'oldChains' holds the table we are
+    // migrating away from. Every bucket of 'oldChains' below 'migrateIndex' has already
+    // been moved into 'chains' (and set to null), and each key lives in exactly one of
+    // the two tables. When no resize is in progress, 'oldChains' is null.
+    private IDictionary<K, V>[] oldChains;
+    private int migrateIndex;
+
+    // Operation counters for 'stats()'. These are only updated when
+    // DictionaryStats.COLLECTING is true, and every update is guarded by that constant
+    // so the JIT removes them otherwise.
+    private long resizeCount;
+    private long resizeNanos;
+    private long gets;
+    private long getProbes;
+    private long puts;
+    private long putProbes;
+
     public ChainedHashDictionary() {
         this(0.8);
     }
 
     public ChainedHashDictionary(double lambda) {
+        this(lambda, false);
+    }
+
+    public ChainedHashDictionary(HashStrategy<K> hashStrategy) {
+        this(0.8, false, hashStrategy);
+    }
+
+    public ChainedHashDictionary(double lambda, boolean incrementalResize) {
+        this(lambda, incrementalResize, HashStrategy.murmur());
+    }
+
+    /**
+     * If 'incrementalResize' is true, growing the table does not rehash every entry
+     * at once. Instead, the old and new tables are both kept around and each later put
+     * or remove moves a bounded number of old buckets over, so no single put pays for
+     * the whole rehash.
+     *
+     * Keys are assigned to buckets using the low bits of 'hashStrategy.hash(key)'.
+     */
+    public ChainedHashDictionary(double lambda, boolean incrementalResize, HashStrategy<K> hashStrategy) {
         this.lambda = lambda;
-        this.capacity = 10;
+        this.incrementalResize = incrementalResize;
+        this.hashStrategy = hashStrategy;
+        this.capacity = 16;
         this.size = 0;
-        this.chains = new IDictionary[capacity];
+        this.chains = makeArrayOfChains(capacity);
+        this.oldChains = null;
+        this.migrateIndex = 0;
     }
 
     /**
@@ -41,88 +105,271 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         return (IDictionary<K, V>[]) new IDictionary[arraySize];
     }
 
-    private int getIndex(K key) {
-        if (key == null){
-            return 0;
+    /**
+     * Returns the bucket for the given key in a table of the given size. Assumes 'tableSize'
+     * is a power of two.
+     */
+    private int getIndex(K key, int tableSize) {
+        return hashStrategy.hash(key) & (tableSize - 1);
+    }
+
+    /**
+     * Returns the not-yet-migrated bucket in 'oldChains' that holds the given key, or
+     * null if there is no resize in progress or the key is not in the old table.
+     */
+    private IDictionary<K, V> findOldChain(K key) {
+        if (oldChains == null) {
+            return null;
         }
-        return Math.abs(key.hashCode()) % capacity;
+        IDictionary<K, V> chain = oldChains[getIndex(key, oldChains.length)];
+        if (chain != null && chain.containsKey(key)) {
+            return chain;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the bucket that holds the given key, or the bucket in 'chains' it would go
+     * in (possibly null) if the dictionary doesn't contain it.
+     */
+    private IDictionary<K, V> lookupChain(K key) {
+        IDictionary<K, V> chain = findOldChain(key);
+        if (chain == null) {
+            chain = chains[getIndex(key, capacity)];
+        }
+        if (DictionaryStats.COLLECTING) {
+            gets++;
+            getProbes += probes(chain);
+        }
+        return chain;
     }
 
     @Override
     public V get(K key) {
-        int index = 0;
-        if (key != null) {
-            index = getIndex(key);
-        }
-        if (chains[index] == null) {
+        IDictionary<K, V> chain = lookupChain(key);
+        if (chain == null) {
             throw new NoSuchKeyException();
         }
-        return chains[index].get(key);
+        return chain.get(key);
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        IDictionary<K, V> chain = lookupChain(key);
+        return chain == null ? defaultValue : chain.getOrDefault(key, defaultValue);
     }
 
     @Override
     public void put(K key, V value) {
+        IDictionary<K, V>[] table = prepareBucket(key);
+        int index = getIndex(key, table.length);
+        int oldSize = table[index].size();
+        table[index].put(key, value);
+        finishUpdate(table, index, oldSize);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        IDictionary<K, V>[] table = prepareBucket(key);
+        int index = getIndex(key, table.length);
+        int oldSize = table[index].size();
+        V result = table[index].putIfAbsent(key, value);
+        finishUpdate(table, index, oldSize);
+        return result;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        IDictionary<K, V>[] table = prepareBucket(key);
+        int index = getIndex(key, table.length);
+        int oldSize = table[index].size();
+        V result = table[index].computeIfAbsent(key, mappingFunction);
+        finishUpdate(table, index, oldSize);
+        return result;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        IDictionary<K, V>[] table = prepareBucket(key);
+        int index = getIndex(key, table.length);
+        int oldSize = table[index].size();
+        V result = table[index].compute(key, remappingFunction);
+        finishUpdate(table, index, oldSize);
+        return result;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        IDictionary<K, V>[] table = prepareBucket(key);
+        int index = getIndex(key, table.length);
+        int oldSize = table[index].size();
+        V result = table[index].merge(key, value, remappingFunction);
+        finishUpdate(table, index, oldSize);
+        return result;
+    }
+
+    /**
+     * Does the work every insertion needs before it touches a bucket: migrates buckets,
+     * resizes if needed, and makes sure the bucket for the given key exists and can hold
+     * it. Returns the table the key belongs in: 'oldChains' if a resize is in progress and
+     * the key hasn't been moved yet, and 'chains' otherwise.
+     */
+    private IDictionary<K, V>[] prepareBucket(K key) {
+        migrateBuckets(MIGRATE_BUCKETS_PER_OP);
         if ((double) size / capacity >= lambda) {
-            capacity *= 2;
-            IDictionary<K, V>[] tempChain = makeArrayOfChains(capacity);
+            resize();
+        }
+
+        IDictionary<K, V>[] table = findOldChain(key) != null ? oldChains : chains;
+        int index = getIndex(key, table.length);
+        if (DictionaryStats.COLLECTING) {
+            puts++;
+            putProbes += probes(table[index]);
+        }
+        if (table[index] == null) {
+            table[index] = new ArrayDictionary<K, V>();
+        } else {
+            untreeifyIfRejected(table, index, key);
+        }
+        return table;
+    }
+
+    /**
+     * Updates 'size' after an insertion into the given bucket, which held 'oldSize' pairs
+     * beforehand, and treeifies the bucket if it has grown too long. Since the bucket only
+     * grows when the key was new, callers don't need to check whether it was present.
+     */
+    private void finishUpdate(IDictionary<K, V>[] table, int index, int oldSize) {
+        size += table[index].size() - oldSize;
+        treeifyIfNeeded(table, index);
+    }
+
+    /**
+     * Converts the chain at the given index into a TreeBucket if it has grown past
+     * TREEIFY_THRESHOLD and all of its keys are non-null and of the same Comparable class.
+     */
+    private void treeifyIfNeeded(IDictionary<K, V>[] table, int index) {
+        IDictionary<K, V> chain = table[index];
+        if (chain instanceof TreeBucket || chain.size() <= TREEIFY_THRESHOLD) {
+            return;
+        }
+        KeyClassCheck check = new KeyClassCheck();
+        chain.forEach(check);
+        if (check.uniform) {
+            table[index] = new TreeBucket<>(chain, check.keyClass);
+        }
+    }
+
+    /**
+     * If the bucket at the given index is a TreeBucket that can't hold the given key,
+     * converts it back into an ArrayDictionary so the key can be put into it.
+     */
+    private void untreeifyIfRejected(IDictionary<K, V>[] table, int index, K key) {
+        if (table[index] instanceof TreeBucket && !((TreeBucket<K, V>) table[index]).accepts(key)) {
+            table[index] = untreeify(table[index]);
+        }
+    }
+
+    /**
+     * Returns an ArrayDictionary containing the same pairs as the given bucket.
+     */
+    private IDictionary<K, V> untreeify(IDictionary<K, V> tree) {
+        IDictionary<K, V> chain = new ArrayDictionary<>();
+        tree.forEach(chain::put);
+        return chain;
+    }
+
+    /**
+     * Doubles the capacity. In incremental mode this only swaps in the new, empty table;
+     * the entries are moved over later by 'migrateBuckets'.
+     */
+    private void resize() {
+        long start = DictionaryStats.COLLECTING ? System.nanoTime() : 0;
+        if (oldChains != null) {
+            // The previous resize has not finished yet, so finish it now
+            // rather than juggling three tables.
+            migrateBuckets(oldChains.length);
+        }
+        capacity *= 2;
+        IDictionary<K, V>[] tempChain = makeArrayOfChains(capacity);
+        if (incrementalResize) {
+            oldChains = chains;
+            migrateIndex = 0;
+        } else {
             for (int i = 0; i < capacity / 2; i++) {
                 if (chains[i] != null) {
-                    for (KVPair<K, V> kv : chains[i]) {
-                        putHelper(kv, tempChain);
-                    }
+                    chains[i].forEach((key, value) -> putHelper(key, value, tempChain));
                 }
             }
-            chains = tempChain;
         }
-
-        int index = 0;
-        if (key != null){
-            index = getIndex(key);
+        chains = tempChain;
+        if (DictionaryStats.COLLECTING) {
+            resizeCount++;
+            resizeNanos += System.nanoTime() - start;
         }
-        if (chains[index] == null) {
-            chains[index] = new ArrayDictionary<K, V>();
-            chains[index].put(key, value);
+    }
+
+    /**
+     * Moves up to 'maxBuckets' buckets from 'oldChains' into 'chains'. Does nothing if no
+     * resize is in progress.
+     */
+    private void migrateBuckets(int maxBuckets) {
+        if (oldChains == null) {
+            return;
         }
-        else {
-            if (chains[index].containsKey(key)) {
-                size--;
+        long start = DictionaryStats.COLLECTING ? System.nanoTime() : 0;
+        int end = Math.min(migrateIndex + maxBuckets, oldChains.length);
+        for (; migrateIndex < end; migrateIndex++) {
+            if (oldChains[migrateIndex] != null) {
+                oldChains[migrateIndex].forEach((key, value) -> putHelper(key, value, chains));
+                oldChains[migrateIndex] = null;
             }
-            chains[index].put(key, value);
         }
-        size++;
+        if (migrateIndex == oldChains.length) {
+            oldChains = null;
+        }
+        if (DictionaryStats.COLLECTING) {
+            resizeNanos += System.nanoTime() - start;
+        }
     }
 
-    private void putHelper(KVPair<K, V> kv, IDictionary<K, V>[]tempChains) {
-        int index = getIndex(kv.getKey());
+    private void putHelper(K key, V value, IDictionary<K, V>[] tempChains) {
+        int index = getIndex(key, tempChains.length);
         if (tempChains[index] == null) {
             tempChains[index] = new ArrayDictionary<K, V>();
+        } else {
+            untreeifyIfRejected(tempChains, index, key);
         }
-        tempChains[index].put(kv.getKey(), kv.getValue());
+        tempChains[index].put(key, value);
+        treeifyIfNeeded(tempChains, index);
     }
 
     @Override
     public V remove(K key) {
-        int index = getIndex(key);
-        if (chains[index] == null){
+        migrateBuckets(MIGRATE_BUCKETS_PER_OP);
+        IDictionary<K, V>[] table = chains;
+        int index = getIndex(key, capacity);
+        if (findOldChain(key) != null) {
+            table = oldChains;
+            index = getIndex(key, oldChains.length);
+        }
+        if (table[index] == null){
             throw new NoSuchKeyException();
         }
+        V data = table[index].remove(key);
         size--;
-        V data = chains[index].remove(key);
-        if (chains[index].isEmpty()){
-            chains[index] = null;
+        if (table[index].isEmpty()){
+            table[index] = null;
+        } else if (table[index] instanceof TreeBucket && table[index].size() <= UNTREEIFY_THRESHOLD) {
+            table[index] = untreeify(table[index]);
         }
         return data;
     }
 
     @Override
     public boolean containsKey(K key) {
-        int index = getIndex(key);
-        if (index != 0) {
-            if (chains[index] != null) {
-                return chains[index].containsKey(key);
-            }
-        }
-        return chains[0] != null && chains[0].containsKey(key);
+        IDictionary<K, V> chain = lookupChain(key);
+        return chain != null && chain.containsKey(key);
     }
 
     @Override
@@ -132,8 +379,103 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
 
     @Override
     public Iterator<KVPair<K, V>> iterator() {
-        // Note: you do not need to change this method
-        return new ChainedIterator<>(this.chains);
+        return new ChainedIterator<>(this.chains, this.oldChains);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (IDictionary<K, V> chain : chains) {
+            if (chain != null) {
+                chain.forEach(action);
+            }
+        }
+        if (oldChains != null) {
+            for (IDictionary<K, V> chain : oldChains) {
+                if (chain != null) {
+                    chain.forEach(action);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of pairs a lookup may have to examine in the given bucket: all of
+     * them for a chain, or about log2 of them for a TreeBucket.
+     */
+    private static int probes(IDictionary<?, ?> chain) {
+        if (chain == null) {
+            return 0;
+        }
+        if (chain instanceof TreeBucket) {
+            return 32 - Integer.numberOfLeadingZeros(chain.size());
+        }
+        return chain.size();
+    }
+
+    /**
+     * Returns a snapshot of this dictionary's table shape and, if
+     * DictionaryStats.COLLECTING is true, its operation counters.
+     *
+     * Takes O(capacity) time, since it looks at every bucket. Like the rest of this class
+     * it isn't synchronized, so it must be called from the thread that owns the dictionary.
+     * Called from another thread while the dictionary is being modified, it may see a
+     * bucket halfway through a change and throw. (The JMX 'snapshot' operation handles
+     * that by retrying.)
+     */
+    public DictionaryStats stats() {
+        IDictionary<K, V>[] table = chains;
+        IDictionary<K, V>[] oldTable = oldChains;
+
+        // Chain lengths are measured against the new table. During an incremental resize
+        // the pairs still in 'oldChains' are counted by the bucket they'll move into.
+        int[] lengths = new int[table.length];
+        int treeBuckets = 0;
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] != null) {
+                lengths[i] += table[i].size();
+                if (table[i] instanceof TreeBucket) {
+                    treeBuckets++;
+                }
+            }
+        }
+        if (oldTable != null) {
+            for (IDictionary<K, V> chain : oldTable) {
+                if (chain != null) {
+                    chain.forEach((key, value) -> lengths[getIndex(key, table.length)]++);
+                }
+            }
+        }
+
+        int maxLength = 0;
+        for (int length : lengths) {
+            maxLength = Math.max(maxLength, length);
+        }
+        int[] histogram = new int[maxLength + 1];
+        for (int length : lengths) {
+            histogram[length]++;
+        }
+        return new DictionaryStats(size, table.length, histogram, treeBuckets,
+                resizeCount, resizeNanos, gets, getProbes, puts, putProbes);
+    }
+
+    /**
+     * Registers this dictionary's statistics with the platform MBean server under
+     * 'datastructures:type=ChainedHashDictionary,name=<name>', and returns that name.
+     *
+     * The MBean server keeps this dictionary alive until the MBean is unregistered with
+     * 'ManagementFactory.getPlatformMBeanServer().unregisterMBean(name)'.
+     */
+    public ObjectName registerMBean(String name) {
+        try {
+            ObjectName objectName = new ObjectName("datastructures:type=ChainedHashDictionary,name="
+                    + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new StatsBean(this), objectName);
+            return objectName;
+        } catch (JMException ex) {
+            // Callers can't do anything useful about a JMException, so we rethrow it as
+            // a RuntimeException instead.
+            throw new RuntimeException(ex);
+        }
     }
 
     /**
@@ -180,35 +522,33 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
      */
     private static class ChainedIterator<K, V> implements Iterator<KVPair<K, V>> {
         private IDictionary<K, V>[] chains;
+        private IDictionary<K, V>[] oldChains;
         private Iterator<KVPair<K, V>> chainITR;
         private int index;
 
-        public ChainedIterator(IDictionary<K, V>[] chains) {
+        // 'oldChains' may be null. Otherwise, the iterator visits every bucket in
+        // 'chains' and then every bucket in 'oldChains', as though they were one array.
+        public ChainedIterator(IDictionary<K, V>[] chains, IDictionary<K, V>[] oldChains) {
             this.chains = chains;
-            index = 0;
-            while (index < (chains.length - 1) && chains[index] == null) {
-                index++;
-            }
-            if (chains[index] != null) {
-                chainITR = chains[index].iterator();
-            }
+            this.oldChains = oldChains;
+            this.chainITR = null;
+            this.index = 0;
         }
 
         @Override
         public boolean hasNext() {
-            while (index < chains.length - 1) {
-                if (chains[index] != null && chainITR.hasNext()){
-                    return true;
+            int numChains = chains.length + (oldChains == null ? 0 : oldChains.length);
+            while (chainITR == null || !chainITR.hasNext()) {
+                if (index >= numChains) {
+                    return false;
                 }
+                IDictionary<K, V> chain = index < chains.length ? chains[index] : oldChains[index - chains.length];
                 index++;
-                if (chains[index] != null){
-                    chainITR = chains[index].iterator();
+                if (chain != null) {
+                    chainITR = chain.iterator();
                 }
             }
-            if (index == chains.length - 1) {
-                return chainITR != null && chainITR.hasNext();
-            }
-            return false;
+            return true;
         }
 
         @Override
@@ -216,16 +556,191 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
-            if (chainITR.hasNext()) {
-                return chainITR.next();
+            return chainITR.next();
+        }
+    }
+
+    /**
+     * Checks, in one pass over a bucket, whether every key is a non-null instance of the
+     * same Comparable class, which is what a TreeBucket needs.
+     */
+    private static class KeyClassCheck implements BiConsumer<Object, Object> {
+        private Class<?> keyClass = null;
+        private boolean uniform = true;
+
+        @Override
+        public void accept(Object key, Object value) {
+            if (!uniform) {
+                return;
+            }
+            if (!(key instanceof Comparable) || (keyClass != null && key.getClass() != keyClass)) {
+                uniform = false;
             } else {
-                index++;
-                while (chains[index] == null) {
-                    index++;
+                keyClass = key.getClass();
+            }
+        }
+    }
+
+    /**
+     * The MBean registered by 'registerMBean'. It runs on the JMX thread, not the thread that
+     * owns the dictionary, so the attributes just read the dictionary's fields (which may be
+     * slightly stale) rather than scanning its table.
+     */
+    private static class StatsBean implements DictionaryStatsMXBean {
+        // How many times 'snapshot' retries a scan that tripped over a concurrent change.
+        private static final int SNAPSHOT_ATTEMPTS = 10;
+
+        private final ChainedHashDictionary<?, ?> dict;
+
+        public StatsBean(ChainedHashDictionary<?, ?> dict) {
+            this.dict = dict;
+        }
+
+        public int getSize() {
+            return dict.size;
+        }
+
+        public int getCapacity() {
+            return dict.capacity;
+        }
+
+        public double getLoadFactor() {
+            return (double) dict.size / dict.capacity;
+        }
+
+        public long getResizeCount() {
+            return dict.resizeCount;
+        }
+
+        public long getResizeNanos() {
+            return dict.resizeNanos;
+        }
+
+        public long getGets() {
+            return dict.gets;
+        }
+
+        public long getPuts() {
+            return dict.puts;
+        }
+
+        public double getAverageProbesPerGet() {
+            long gets = dict.gets;
+            return gets == 0 ? 0.0 : (double) dict.getProbes / gets;
+        }
+
+        public double getAverageProbesPerPut() {
+            long puts = dict.puts;
+            return puts == 0 ? 0.0 : (double) dict.putProbes / puts;
+        }
+
+        public DictionaryStats snapshot() {
+            // The owning thread may change a bucket (or rotate a TreeBucket) while we scan
+            // it, which can make the scan throw. Those changes are short, so just try again.
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return dict.stats();
+                } catch (RuntimeException ex) {
+                    if (attempt == SNAPSHOT_ATTEMPTS) {
+                        throw ex;
+                    }
                 }
-                chainITR = chains[index].iterator();
-                return chainITR.next();
             }
         }
     }
+
+    /**
+     * A bucket that keeps its pairs in an AVLDictionary, so lookups in a bucket full of
+     * colliding keys take O(log n) comparisons instead of a linear scan.
+     *
+     * Every key in the tree is a non-null instance of exactly 'keyClass', which implements
+     * Comparable. Keys that don't fit are never in the tree, so get/containsKey/remove can
+     * answer for them without comparing; ChainedHashDictionary converts the bucket back to
+     * an ArrayDictionary before putting such a key. This assumes 'compareTo' is consistent
+     * with 'equals' for 'keyClass', which is true of String, Integer, and so on.
+     */
+    private static class TreeBucket<K, V> implements IDictionary<K, V> {
+        private final Class<?> keyClass;
+        private IDictionary<K, V> tree;
+
+        public TreeBucket(IDictionary<K, V> chain, Class<?> keyClass) {
+            this.keyClass = keyClass;
+            this.tree = makeTree();
+            chain.forEach(this.tree::put);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <K, V> IDictionary<K, V> makeTree() {
+            // AVLDictionary requires 'K extends Comparable<K>', which we only know at runtime.
+            return (IDictionary<K, V>) new AVLDictionary();
+        }
+
+        /**
+         * Returns 'true' if the given key may be stored in this bucket.
+         */
+        public boolean accepts(K key) {
+            return key != null && key.getClass() == keyClass;
+        }
+
+        @Override
+        public V get(K key) {
+            if (!accepts(key)) {
+                throw new NoSuchKeyException();
+            }
+            return tree.get(key);
+        }
+
+        @Override
+        public void put(K key, V value) {
+            tree.put(key, value);
+        }
+
+        @Override
+        public V putIfAbsent(K key, V value) {
+            return tree.putIfAbsent(key, value);
+        }
+
+        @Override
+        public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+            return tree.computeIfAbsent(key, mappingFunction);
+        }
+
+        @Override
+        public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+            return tree.compute(key, remappingFunction);
+        }
+
+        @Override
+        public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+            return tree.merge(key, value, remappingFunction);
+        }
+
+        @Override
+        public V remove(K key) {
+            if (!accepts(key)) {
+                throw new NoSuchKeyException();
+            }
+            return tree.remove(key);
+        }
+
+        @Override
+        public boolean containsKey(K key) {
+            return accepts(key) && tree.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return tree.size();
+        }
+
+        @Override
+        public Iterator<KVPair<K, V>> iterator() {
+            return tree.iterator();
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super K, ? super V> action) {
+            tree.forEach(action);
+        }
+    }
 }
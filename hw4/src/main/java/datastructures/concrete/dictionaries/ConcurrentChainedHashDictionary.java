@@ -0,0 +1,360 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.interfaces.HashStrategy;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A thread-safe chained hash dictionary that many threads can read and write at once.
+ *
+ * The table is split into a fixed number of segments (lock striping). Each segment is a
+ * small chained hash table guarded by its own lock, so writers only block other writers
+ * that hash into the same segment, and each segment resizes on its own without stopping
+ * the others.
+ *
+ * Reads ('get', 'containsKey', 'getOrDefault') never lock. Buckets are read through an
+ * AtomicReferenceArray and every node's 'value' and 'next' fields are volatile, so a read
+ * always sees a fully-constructed chain. A resize builds a brand new table and publishes
+ * it with a single volatile write, so readers still walking the old table are unaffected.
+ *
+ * 'size()' and iteration are weakly consistent: while other threads are writing, they
+ * reflect some (but not necessarily all) of the concurrent updates. Allows null keys.
+ *
+ * @see IDictionary for more details on what each method should do
+ */
+public class ConcurrentChainedHashDictionary<K, V> implements IDictionary<K, V> {
+    private static final int DEFAULT_CONCURRENCY = 16;
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+    private final HashStrategy<K> hashStrategy;
+
+    public ConcurrentChainedHashDictionary() {
+        this(0.8, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Creates a dictionary with at least 'concurrency' segments (rounded up to a power of
+     * two). Roughly this many threads can write at the same time without blocking. Each
+     * segment keeps its load factor at or below 'lambda'.
+     *
+     * @throws IllegalArgumentException if 'lambda' is not positive
+     * @throws IllegalArgumentException if 'concurrency' is not positive
+     */
+    public ConcurrentChainedHashDictionary(double lambda, int concurrency) {
+        if (!(lambda > 0)) {
+            throw new IllegalArgumentException();
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException();
+        }
+        int numSegments = 1;
+        int bits = 0;
+        while (numSegments < concurrency) {
+            numSegments *= 2;
+            bits++;
+        }
+        this.segments = makeArrayOfSegments(numSegments);
+        for (int i = 0; i < numSegments; i++) {
+            this.segments[i] = new Segment<>(lambda);
+        }
+        // Segments are chosen using the top bits of the hash and buckets within a
+        // segment using the bottom bits, so the two choices are independent.
+        this.segmentShift = 32 - bits;
+        this.hashStrategy = HashStrategy.murmur();
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain Segment<K, V> objects.
+     */
+    @SuppressWarnings("unchecked")
+    private Segment<K, V>[] makeArrayOfSegments(int arraySize) {
+        // See ArrayDictionary's makeArrayOfPairs(...) method for
+        // more background on why we need this method.
+        return (Segment<K, V>[]) new Segment[arraySize];
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        // Shifting an int by 32 does nothing in Java, so handle one segment separately.
+        return segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    @Override
+    public V get(K key) {
+        int hash = hashStrategy.hash(key);
+        Node<K, V> node = segmentFor(hash).find(key, hash);
+        if (node == null) {
+            throw new NoSuchKeyException();
+        }
+        return node.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int hash = hashStrategy.hash(key);
+        Node<K, V> node = segmentFor(hash).find(key, hash);
+        return node == null ? defaultValue : node.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        int hash = hashStrategy.hash(key);
+        segmentFor(hash).put(key, hash, value);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        int hash = hashStrategy.hash(key);
+        return segmentFor(hash).putIfAbsent(key, hash, value);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        int hash = hashStrategy.hash(key);
+        return segmentFor(hash).computeIfAbsent(key, hash, mappingFunction);
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int hash = hashStrategy.hash(key);
+        return segmentFor(hash).compute(key, hash, remappingFunction);
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        int hash = hashStrategy.hash(key);
+        return segmentFor(hash).merge(key, hash, value, remappingFunction);
+    }
+
+    @Override
+    public V remove(K key) {
+        int hash = hashStrategy.hash(key);
+        return segmentFor(hash).remove(key, hash);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        int hash = hashStrategy.hash(key);
+        return segmentFor(hash).find(key, hash) != null;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new ConcurrentIterator<>(this.segments);
+    }
+
+    private static class Node<K, V> {
+        public final K key;
+        public final int hash;
+        public volatile V value;
+        public volatile Node<K, V> next;
+
+        public Node(K key, int hash, V value, Node<K, V> next) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * One independently-locked chained hash table. All writes synchronize on the segment;
+     * reads do not lock at all.
+     */
+    private static class Segment<K, V> {
+        private final double lambda;
+        private volatile AtomicReferenceArray<Node<K, V>> table;
+        private volatile int size;
+
+        public Segment(double lambda) {
+            this.lambda = lambda;
+            this.table = new AtomicReferenceArray<>(INITIAL_SEGMENT_CAPACITY);
+            this.size = 0;
+        }
+
+        /**
+         * Returns the node with the given key, or null if there is none. Does not lock.
+         */
+        public Node<K, V> find(K key, int hash) {
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            Node<K, V> node = tab.get(hash & (tab.length() - 1));
+            while (node != null) {
+                if (node.hash == hash && Objects.equals(node.key, key)) {
+                    return node;
+                }
+                node = node.next;
+            }
+            return null;
+        }
+
+        public synchronized void put(K key, int hash, V value) {
+            Node<K, V> existing = find(key, hash);
+            if (existing != null) {
+                existing.value = value;
+                return;
+            }
+            insert(key, hash, value);
+        }
+
+        // The methods below hold the segment's lock while calling the given function, so
+        // each one is atomic with respect to other writers in this segment.
+
+        public synchronized V putIfAbsent(K key, int hash, V value) {
+            Node<K, V> existing = find(key, hash);
+            if (existing != null) {
+                return existing.value;
+            }
+            insert(key, hash, value);
+            return null;
+        }
+
+        public synchronized V computeIfAbsent(K key, int hash, Function<? super K, ? extends V> mappingFunction) {
+            Node<K, V> existing = find(key, hash);
+            if (existing != null) {
+                return existing.value;
+            }
+            V value = mappingFunction.apply(key);
+            insert(key, hash, value);
+            return value;
+        }
+
+        public synchronized V compute(K key, int hash,
+                                      BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+            Node<K, V> existing = find(key, hash);
+            if (existing != null) {
+                existing.value = remappingFunction.apply(key, existing.value);
+                return existing.value;
+            }
+            V value = remappingFunction.apply(key, null);
+            insert(key, hash, value);
+            return value;
+        }
+
+        public synchronized V merge(K key, int hash, V value,
+                                    BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+            Node<K, V> existing = find(key, hash);
+            if (existing != null) {
+                existing.value = remappingFunction.apply(existing.value, value);
+                return existing.value;
+            }
+            insert(key, hash, value);
+            return value;
+        }
+
+        /**
+         * Adds a node for a key that is not already in this segment, resizing first if
+         * needed. Must be called while holding this segment's lock.
+         */
+        private void insert(K key, int hash, V value) {
+            if (size + 1 > lambda * table.length()) {
+                resize();
+            }
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            int index = hash & (tab.length() - 1);
+            tab.set(index, new Node<>(key, hash, value, tab.get(index)));
+            size++;
+        }
+
+        public synchronized V remove(K key, int hash) {
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            int index = hash & (tab.length() - 1);
+            Node<K, V> prev = null;
+            Node<K, V> node = tab.get(index);
+            while (node != null && !(node.hash == hash && Objects.equals(node.key, key))) {
+                prev = node;
+                node = node.next;
+            }
+            if (node == null) {
+                throw new NoSuchKeyException();
+            }
+            // Readers already on 'node' can still follow its 'next' pointer, so unlinking
+            // it never cuts a concurrent reader off from the rest of the chain.
+            if (prev == null) {
+                tab.set(index, node.next);
+            } else {
+                prev.next = node.next;
+            }
+            size--;
+            return node.value;
+        }
+
+        /**
+         * Doubles the capacity. Copies every node into a new table rather than relinking
+         * the existing ones, so readers still walking the old table see it unchanged.
+         * Must be called while holding this segment's lock.
+         */
+        private void resize() {
+            AtomicReferenceArray<Node<K, V>> oldTable = table;
+            AtomicReferenceArray<Node<K, V>> newTable = new AtomicReferenceArray<>(oldTable.length() * 2);
+            int mask = newTable.length() - 1;
+            for (int i = 0; i < oldTable.length(); i++) {
+                for (Node<K, V> node = oldTable.get(i); node != null; node = node.next) {
+                    int index = node.hash & mask;
+                    newTable.set(index, new Node<>(node.key, node.hash, node.value, newTable.get(index)));
+                }
+            }
+            table = newTable;
+        }
+    }
+
+    private static class ConcurrentIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private Segment<K, V>[] segments;
+        private int segmentIndex;
+        private AtomicReferenceArray<Node<K, V>> table;
+        private int bucketIndex;
+        private Node<K, V> next;
+
+        public ConcurrentIterator(Segment<K, V>[] segments) {
+            this.segments = segments;
+            this.segmentIndex = 0;
+            this.table = segments[0].table;
+            this.bucketIndex = 0;
+            this.next = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (bucketIndex < table.length()) {
+                    next = table.get(bucketIndex);
+                    bucketIndex++;
+                } else if (segmentIndex + 1 < segments.length) {
+                    segmentIndex++;
+                    table = segments[segmentIndex].table;
+                    bucketIndex = 0;
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> node = next;
+            next = node.next;
+            return new KVPair<>(node.key, node.value);
+        }
+    }
+}
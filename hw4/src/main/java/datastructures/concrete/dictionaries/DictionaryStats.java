@@ -0,0 +1,149 @@
+package datastructures.concrete.dictionaries;
+
+import java.util.Arrays;
+
+/**
+ * A snapshot of how well a hash dictionary's keys are spread out and how much work its
+ * operations are doing. Useful for spotting a bad 'hashCode' method: a good one gives
+ * short chains and roughly one or two probes per operation, while a bad one (like
+ * Experiment1's FakeString1) gives a few very long chains.
+ *
+ * The table shape (size, capacity, chain lengths) is measured when the snapshot is taken
+ * and is always available. The operation counters (resizes, gets, puts and their probes)
+ * have to be recorded as the dictionary is used, so they are only collected when the JVM
+ * is started with '-Ddatastructures.collectStats=true'. Otherwise they are always zero,
+ * and since COLLECTING is a constant, the JIT compiles the recording code away entirely.
+ *
+ * @see ChainedHashDictionary#stats()
+ */
+public class DictionaryStats {
+    /**
+     * Whether dictionaries record operation counters. Fixed when the class is loaded.
+     */
+    public static final boolean COLLECTING = Boolean.getBoolean("datastructures.collectStats");
+
+    private final int size;
+    private final int capacity;
+    private final int[] chainLengthHistogram;
+    private final int treeBuckets;
+    private final long resizeCount;
+    private final long resizeNanos;
+    private final long gets;
+    private final long getProbes;
+    private final long puts;
+    private final long putProbes;
+
+    DictionaryStats(int size, int capacity, int[] chainLengthHistogram, int treeBuckets,
+                    long resizeCount, long resizeNanos,
+                    long gets, long getProbes, long puts, long putProbes) {
+        this.size = size;
+        this.capacity = capacity;
+        this.chainLengthHistogram = chainLengthHistogram;
+        this.treeBuckets = treeBuckets;
+        this.resizeCount = resizeCount;
+        this.resizeNanos = resizeNanos;
+        this.gets = gets;
+        this.getProbes = getProbes;
+        this.puts = puts;
+        this.putProbes = putProbes;
+    }
+
+    /**
+     * Returns the number of key-value pairs in the dictionary.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of buckets in the dictionary's table.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the average number of pairs per bucket.
+     */
+    public double getLoadFactor() {
+        return (double) this.size / this.capacity;
+    }
+
+    /**
+     * Returns an array whose i-th entry is the number of buckets holding exactly i pairs.
+     * The array's length is one more than the longest chain.
+     */
+    public int[] getChainLengthHistogram() {
+        return Arrays.copyOf(this.chainLengthHistogram, this.chainLengthHistogram.length);
+    }
+
+    /**
+     * Returns the number of pairs in the fullest bucket.
+     */
+    public int getMaxChainLength() {
+        return this.chainLengthHistogram.length - 1;
+    }
+
+    /**
+     * Returns the number of buckets that grew long enough to be converted into a tree.
+     */
+    public int getTreeBuckets() {
+        return this.treeBuckets;
+    }
+
+    /**
+     * Returns the number of times the table has grown.
+     */
+    public long getResizeCount() {
+        return this.resizeCount;
+    }
+
+    /**
+     * Returns the total time spent rehashing pairs into a bigger table, in nanoseconds.
+     */
+    public long getResizeNanos() {
+        return this.resizeNanos;
+    }
+
+    /**
+     * Returns the number of lookups ('get', 'getOrDefault' and 'containsKey') made.
+     */
+    public long getGets() {
+        return this.gets;
+    }
+
+    /**
+     * Returns the number of insertions ('put' and friends) made.
+     */
+    public long getPuts() {
+        return this.puts;
+    }
+
+    /**
+     * Returns the average number of pairs a lookup had to examine in its bucket, or 0 if
+     * there have been no lookups.
+     */
+    public double getAverageProbesPerGet() {
+        return this.gets == 0 ? 0.0 : (double) this.getProbes / this.gets;
+    }
+
+    /**
+     * Returns the average number of pairs an insertion had to examine in its bucket, or 0
+     * if there have been no insertions.
+     */
+    public double getAverageProbesPerPut() {
+        return this.puts == 0 ? 0.0 : (double) this.putProbes / this.puts;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DictionaryStats(size=%d, capacity=%d, loadFactor=%.3f, maxChain=%d, "
+                        + "treeBuckets=%d, resizes=%d, resizeMillis=%.3f, gets=%d, probesPerGet=%.3f, "
+                        + "puts=%d, probesPerPut=%.3f, chainLengths=%s)",
+                this.size, this.capacity, this.getLoadFactor(), this.getMaxChainLength(),
+                this.treeBuckets, this.resizeCount, this.resizeNanos / 1e6,
+                this.gets, this.getAverageProbesPerGet(),
+                this.puts, this.getAverageProbesPerPut(),
+                Arrays.toString(this.chainLengthHistogram));
+    }
+}
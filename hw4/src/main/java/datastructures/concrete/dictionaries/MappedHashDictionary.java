@@ -0,0 +1,547 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.interfaces.Codec;
+import datastructures.interfaces.HashStrategy;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hash dictionary stored in a memory-mapped file instead of on the Java heap.
+ *
+ * Because the data lives in the file, opening an existing file gives back every pair that
+ * was in it with no rebuilding, and the dictionary can hold more data than fits in the
+ * heap (the operating system pages the file in and out as needed). Call 'force' to make
+ * sure every change so far has been written to disk, and 'close' when done.
+ *
+ * Keys and values are converted to bytes using the given Codecs. Keys are compared by their
+ * encoded bytes, so the key codec must always encode equal keys the same way. Does not
+ * allow null keys; null values are allowed.
+ *
+ * The file is laid out as:
+ *
+ * - A header holding a magic number, the table's capacity, the size, where the data
+ *   region ends, and how many bytes of the data region belong to dead records.
+ * - A linear probing hash table with 'capacity' slots. Each slot holds the key's hash (with
+ *   the top bit set, so an all-zero slot is empty) and the offset of the pair's record.
+ * - A data region of records, each an int key length, an int value length (-1 for null),
+ *   then the key bytes and the value bytes. New records are appended at the end.
+ *
+ * When the data region fills up, the file is extended and mapped again. When the table
+ * gets too full, every live record is copied into a new file with a table twice as large,
+ * which then replaces the old file; this also discards the dead records left behind by
+ * removed or overwritten pairs. Dead records are also discarded, by copying into a new file
+ * with the same capacity, once they take up more room than the live ones (and than the
+ * table), so a dictionary whose size stays steady doesn't keep growing its file. A single
+ * mapping is limited to 2GB, so the file can't grow past that.
+ *
+ * Not safe to use from more than one thread, or to open the same file twice at once.
+ *
+ * @see IDictionary for more details on what each method should do
+ */
+public class MappedHashDictionary<K, V> implements IDictionary<K, V>, Closeable {
+    private static final int MAGIC = 0x4D484432;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INITIAL_DATA_BYTES = 4096;
+    private static final double LAMBDA = 0.5;
+
+    private static final int OCCUPIED = 0x80000000;
+    private static final int NULL_VALUE = -1;
+
+    // Header layout
+    private static final int MAGIC_OFFSET = 0;
+    private static final int CAPACITY_OFFSET = 4;
+    private static final int SIZE_OFFSET = 8;
+    private static final int DATA_END_OFFSET = 12;
+    private static final int DEAD_BYTES_OFFSET = 16;
+    private static final int HEADER_BYTES = 20;
+
+    // Each slot is an int hash followed by an int record offset.
+    private static final int SLOT_BYTES = 8;
+    // Each record starts with an int key length and an int value length.
+    private static final int RECORD_HEADER_BYTES = 8;
+
+    private final String filename;
+    private final Codec<K> keyCodec;
+    private final Codec<V> valueCodec;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int size;
+    private int dataEnd;
+    // The number of bytes in the data region taken up by removed or overwritten records.
+    private int deadBytes;
+
+    /**
+     * Opens the dictionary stored in the given file, or creates a new, empty one if the
+     * file doesn't exist yet.
+     *
+     * @throws IllegalArgumentException if the file exists but doesn't hold a dictionary
+     */
+    public MappedHashDictionary(String filename, Codec<K> keyCodec, Codec<V> valueCodec) {
+        this.filename = filename;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+
+        File file = new File(filename);
+        if (file.exists() && file.length() > 0) {
+            open(file.length());
+            if (this.buffer.getInt(MAGIC_OFFSET) != MAGIC) {
+                close();
+                throw new IllegalArgumentException(filename + " does not hold a MappedHashDictionary");
+            }
+            this.capacity = this.buffer.getInt(CAPACITY_OFFSET);
+            this.size = this.buffer.getInt(SIZE_OFFSET);
+            this.dataEnd = this.buffer.getInt(DATA_END_OFFSET);
+            this.deadBytes = this.buffer.getInt(DEAD_BYTES_OFFSET);
+        } else {
+            create(INITIAL_CAPACITY, INITIAL_DATA_BYTES);
+        }
+    }
+
+    /**
+     * Creates a new, empty dictionary in the given file (replacing anything already there)
+     * with the given table capacity and room for 'dataBytes' bytes of records.
+     */
+    private MappedHashDictionary(String filename, Codec<K> keyCodec, Codec<V> valueCodec,
+                                 int capacity, int dataBytes) {
+        this.filename = filename;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        new File(filename).delete();
+        create(capacity, dataBytes);
+    }
+
+    private void create(int newCapacity, int dataBytes) {
+        this.capacity = newCapacity;
+        this.size = 0;
+        this.dataEnd = dataStart();
+        this.deadBytes = 0;
+        open((long) this.dataEnd + dataBytes);
+        this.buffer.putInt(MAGIC_OFFSET, MAGIC);
+        this.buffer.putInt(CAPACITY_OFFSET, this.capacity);
+        writeHeader();
+    }
+
+    /**
+     * Opens the file and maps its first 'length' bytes, extending the file if needed.
+     */
+    private void open(long length) {
+        try {
+            this.channel = FileChannel.open(Paths.get(this.filename), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, checkLength(length));
+        } catch (IOException ex) {
+            // Having to include a "throws IOException" in our method headers everywhere
+            // is annoying, so we rethrow the exception as a RuntimeException instead.
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static long checkLength(long length) {
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("MappedHashDictionary files are limited to 2GB");
+        }
+        return length;
+    }
+
+    private int dataStart() {
+        return HEADER_BYTES + this.capacity * SLOT_BYTES;
+    }
+
+    private void writeHeader() {
+        this.buffer.putInt(SIZE_OFFSET, this.size);
+        this.buffer.putInt(DATA_END_OFFSET, this.dataEnd);
+        this.buffer.putInt(DEAD_BYTES_OFFSET, this.deadBytes);
+    }
+
+    /**
+     * Hashes the encoded bytes of a key. Hashing the bytes (rather than calling 'hashCode')
+     * keeps the hash the same every time the file is opened, even in a different JVM.
+     */
+    private static int hash(byte[] keyBytes) {
+        int hash = 1;
+        for (byte b : keyBytes) {
+            hash = 31 * hash + b;
+        }
+        return HashStrategy.mix(hash) | OCCUPIED;
+    }
+
+    private int slotHash(int slot) {
+        return this.buffer.getInt(HEADER_BYTES + slot * SLOT_BYTES);
+    }
+
+    private int slotRecord(int slot) {
+        return this.buffer.getInt(HEADER_BYTES + slot * SLOT_BYTES + 4);
+    }
+
+    private void setSlot(int slot, int hash, int record) {
+        this.buffer.putInt(HEADER_BYTES + slot * SLOT_BYTES, hash);
+        this.buffer.putInt(HEADER_BYTES + slot * SLOT_BYTES + 4, record);
+    }
+
+    /**
+     * Returns the slot holding the given key. If the key isn't present, returns
+     * (-(the empty slot where it would go) - 1).
+     */
+    private int findSlot(byte[] keyBytes, int hash) {
+        int mask = this.capacity - 1;
+        int slot = hash & mask;
+        while (true) {
+            int current = slotHash(slot);
+            if (current == 0) {
+                return -(slot + 1);
+            }
+            if (current == hash && keyMatches(slotRecord(slot), keyBytes)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private boolean keyMatches(int record, byte[] keyBytes) {
+        if (this.buffer.getInt(record) != keyBytes.length) {
+            return false;
+        }
+        int start = record + RECORD_HEADER_BYTES;
+        for (int i = 0; i < keyBytes.length; i++) {
+            if (this.buffer.get(start + i) != keyBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] readBytes(int offset, int length) {
+        byte[] result = new byte[length];
+        ByteBuffer view = this.buffer.duplicate();
+        view.position(offset);
+        view.get(result);
+        return result;
+    }
+
+    private void writeBytes(int offset, byte[] bytes) {
+        ByteBuffer view = this.buffer.duplicate();
+        view.position(offset);
+        view.put(bytes);
+    }
+
+    private V readValue(int record) {
+        int keyLength = this.buffer.getInt(record);
+        int valueLength = this.buffer.getInt(record + 4);
+        if (valueLength == NULL_VALUE) {
+            return null;
+        }
+        return this.valueCodec.decode(readBytes(record + RECORD_HEADER_BYTES + keyLength, valueLength));
+    }
+
+    private byte[] encodeKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException();
+        }
+        return this.keyCodec.encode(key);
+    }
+
+    /**
+     * Returns the number of bytes the record at the given offset takes up.
+     */
+    private int recordLength(int record) {
+        int valueLength = this.buffer.getInt(record + 4);
+        return RECORD_HEADER_BYTES + this.buffer.getInt(record) + (valueLength == NULL_VALUE ? 0 : valueLength);
+    }
+
+    /**
+     * Appends a record to the data region, growing the file if needed, and returns its offset.
+     */
+    private int appendRecord(byte[] keyBytes, byte[] valueBytes) {
+        int valueLength = valueBytes == null ? 0 : valueBytes.length;
+        int recordLength = RECORD_HEADER_BYTES + keyBytes.length + valueLength;
+        ensureDataSpace(recordLength);
+
+        int record = this.dataEnd;
+        this.buffer.putInt(record, keyBytes.length);
+        this.buffer.putInt(record + 4, valueBytes == null ? NULL_VALUE : valueBytes.length);
+        writeBytes(record + RECORD_HEADER_BYTES, keyBytes);
+        if (valueBytes != null) {
+            writeBytes(record + RECORD_HEADER_BYTES + keyBytes.length, valueBytes);
+        }
+        this.dataEnd += recordLength;
+        return record;
+    }
+
+    /**
+     * Makes sure there's room for 'length' more bytes at the end of the data region by
+     * extending the file and mapping it again.
+     */
+    private void ensureDataSpace(int length) {
+        long needed = (long) this.dataEnd + length;
+        if (needed <= this.buffer.capacity()) {
+            return;
+        }
+        long newLength = Math.max(needed, Math.min(2L * this.buffer.capacity(), Integer.MAX_VALUE));
+        try {
+            this.buffer.force();
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, checkLength(newLength));
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Rewrites the file without its dead records once they take up more room than both the
+     * live records and the table. Rewriting costs about as much as copying those two, so
+     * waiting until then means each rewrite is paid for by the space it frees, and the data
+     * region never holds more dead bytes than live ones for long.
+     */
+    private void compactIfNeeded() {
+        int liveBytes = this.dataEnd - dataStart() - this.deadBytes;
+        if (this.deadBytes > Math.max(liveBytes, this.capacity * SLOT_BYTES)) {
+            resize(this.capacity);
+        }
+    }
+
+    /**
+     * Copies every live record into a new file with a table of 'newCapacity' slots, then
+     * replaces this dictionary's file with it. Passing the current capacity just discards
+     * the dead records.
+     */
+    private void resize(int newCapacity) {
+        String tempName = this.filename + ".resize";
+        int liveBytes = this.dataEnd - dataStart() - this.deadBytes;
+        MappedHashDictionary<K, V> bigger = new MappedHashDictionary<>(tempName, this.keyCodec, this.valueCodec,
+                newCapacity, Math.max(INITIAL_DATA_BYTES, liveBytes));
+        int mask = newCapacity - 1;
+        for (int slot = 0; slot < this.capacity; slot++) {
+            int hash = slotHash(slot);
+            if (hash == 0) {
+                continue;
+            }
+            // Copy the record's bytes as-is; there's no need to decode them.
+            int record = slotRecord(slot);
+            int keyLength = this.buffer.getInt(record);
+            int valueLength = this.buffer.getInt(record + 4);
+            byte[] keyBytes = readBytes(record + RECORD_HEADER_BYTES, keyLength);
+            byte[] valueBytes = valueLength == NULL_VALUE
+                    ? null : readBytes(record + RECORD_HEADER_BYTES + keyLength, valueLength);
+
+            int newSlot = hash & mask;
+            while (bigger.slotHash(newSlot) != 0) {
+                newSlot = (newSlot + 1) & mask;
+            }
+            bigger.setSlot(newSlot, hash, bigger.appendRecord(keyBytes, valueBytes));
+        }
+        bigger.size = this.size;
+        bigger.writeHeader();
+        bigger.close();
+        close();
+
+        try {
+            Files.move(Paths.get(tempName), Paths.get(this.filename), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        open(new File(this.filename).length());
+        this.capacity = newCapacity;
+        this.dataEnd = bigger.dataEnd;
+        this.deadBytes = 0;
+    }
+
+    /**
+     * Returns the value corresponding to the given key.
+     *
+     * @throws NoSuchKeyException if the key is not found.
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public V get(K key) {
+        byte[] keyBytes = encodeKey(key);
+        int slot = findSlot(keyBytes, hash(keyBytes));
+        if (slot < 0) {
+            throw new NoSuchKeyException();
+        }
+        return readValue(slotRecord(slot));
+    }
+
+    /**
+     * Returns the value corresponding to the given key or defaultValue if the key is not found.
+     *
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        byte[] keyBytes = encodeKey(key);
+        int slot = findSlot(keyBytes, hash(keyBytes));
+        return slot < 0 ? defaultValue : readValue(slotRecord(slot));
+    }
+
+    /**
+     * Adds the given key-value pair into the dictionary. Overwrites value if key already exists.
+     *
+     * A new value with the same encoded length as the old one is written in place;
+     * otherwise the pair is appended as a new record and the old one becomes dead.
+     *
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public void put(K key, V value) {
+        byte[] keyBytes = encodeKey(key);
+        byte[] valueBytes = value == null ? null : this.valueCodec.encode(value);
+        int hash = hash(keyBytes);
+        int slot = findSlot(keyBytes, hash);
+
+        if (slot >= 0) {
+            int record = slotRecord(slot);
+            int oldLength = this.buffer.getInt(record + 4);
+            int newLength = valueBytes == null ? NULL_VALUE : valueBytes.length;
+            if (oldLength == newLength) {
+                if (valueBytes != null) {
+                    writeBytes(record + RECORD_HEADER_BYTES + keyBytes.length, valueBytes);
+                }
+            } else {
+                this.deadBytes += recordLength(record);
+                setSlot(slot, hash, appendRecord(keyBytes, valueBytes));
+                writeHeader();
+                compactIfNeeded();
+            }
+            return;
+        }
+
+        if (this.size + 1 > LAMBDA * this.capacity) {
+            resize(this.capacity * 2);
+            slot = findSlot(keyBytes, hash);
+        }
+        setSlot(-(slot + 1), hash, appendRecord(keyBytes, valueBytes));
+        this.size++;
+        writeHeader();
+    }
+
+    /**
+     * Remove the Key-Value pair corresponding to the given key from the dictionary.
+     *
+     * The record's bytes stay in the data region as dead bytes until the file is next
+     * rewritten.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public V remove(K key) {
+        byte[] keyBytes = encodeKey(key);
+        int slot = findSlot(keyBytes, hash(keyBytes));
+        if (slot < 0) {
+            throw new NoSuchKeyException();
+        }
+        int record = slotRecord(slot);
+        V value = readValue(record);
+        this.deadBytes += recordLength(record);
+
+        // Backward-shift deletion: walk the rest of the cluster and pull back any entry
+        // whose ideal slot is at or before the hole, so lookups never stop early.
+        int mask = this.capacity - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (slotHash(next) != 0) {
+            int ideal = slotHash(next) & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                setSlot(hole, slotHash(next), slotRecord(next));
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        setSlot(hole, 0, 0);
+        this.size--;
+        writeHeader();
+        compactIfNeeded();
+        return value;
+    }
+
+    /**
+     * Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+     *
+     * @throws IllegalArgumentException if the given key is null.
+     */
+    @Override
+    public boolean containsKey(K key) {
+        byte[] keyBytes = encodeKey(key);
+        return findSlot(keyBytes, hash(keyBytes)) >= 0;
+    }
+
+    /**
+     * Returns the number of key-value pairs in this dictionary.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Writes every change made so far to the underlying file, so that it will survive a
+     * crash of this program or of the machine.
+     */
+    public void force() {
+        this.buffer.force();
+    }
+
+    /**
+     * Writes every change to disk and closes the file. The dictionary must not be used
+     * after it has been closed.
+     */
+    @Override
+    public void close() {
+        try {
+            this.buffer.force();
+            this.channel.close();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new MappedIterator();
+    }
+
+    /**
+     * Walks the table's slots in order, decoding each pair as it is returned. This is
+     * a non-static inner class since it needs to read from the mapped file.
+     */
+    private class MappedIterator implements Iterator<KVPair<K, V>> {
+        private int slot;
+
+        public MappedIterator() {
+            this.slot = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.slot < capacity && slotHash(this.slot) == 0) {
+                this.slot++;
+            }
+            return this.slot < capacity;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int record = slotRecord(this.slot);
+            this.slot++;
+            K key = keyCodec.decode(readBytes(record + RECORD_HEADER_BYTES, buffer.getInt(record)));
+            return new KVPair<>(key, readValue(record));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package datastructures.interfaces;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts objects to and from bytes, so that dictionaries which live outside the Java heap
+ * (such as MappedHashDictionary) can store them.
+ *
+ * Codecs must be deterministic: encoding two equal objects must always produce the same
+ * bytes, and 'decode(encode(x))' must equal 'x'. Neither method needs to handle null.
+ */
+public interface Codec<T> {
+    /**
+     * Returns the bytes representing the given object.
+     */
+    public byte[] encode(T item);
+
+    /**
+     * Returns the object represented by the given bytes.
+     */
+    public T decode(byte[] bytes);
+
+    /**
+     * Returns a codec that stores each integer as 4 big-endian bytes.
+     */
+    public static Codec<Integer> integers() {
+        return new Codec<Integer>() {
+            public byte[] encode(Integer item) {
+                return ByteBuffer.allocate(Integer.BYTES).putInt(item).array();
+            }
+
+            public Integer decode(byte[] bytes) {
+                return ByteBuffer.wrap(bytes).getInt();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec that stores each long as 8 big-endian bytes.
+     */
+    public static Codec<Long> longs() {
+        return new Codec<Long>() {
+            public byte[] encode(Long item) {
+                return ByteBuffer.allocate(Long.BYTES).putLong(item).array();
+            }
+
+            public Long decode(byte[] bytes) {
+                return ByteBuffer.wrap(bytes).getLong();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec that stores each string as UTF-8.
+     */
+    public static Codec<String> strings() {
+        return new Codec<String>() {
+            public byte[] encode(String item) {
+                return item.getBytes(StandardCharsets.UTF_8);
+            }
+
+            public String decode(byte[] bytes) {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package datastructures.interfaces;
+
+import datastructures.concrete.dictionaries.DictionaryStats;
+
+/**
+ * Exposes a hash dictionary's statistics over JMX, so tools like JConsole or VisualVM can
+ * watch a dictionary in a running program.
+ *
+ * The attributes are read straight from the dictionary's fields, so polling them is cheap,
+ * but each one is read separately and they may not agree with each other exactly. The chain
+ * length histogram has to scan the whole table, so it is only available through the
+ * 'snapshot' operation, which also returns every other statistic as of the same moment.
+ *
+ * @see datastructures.concrete.dictionaries.DictionaryStats for what each attribute means
+ * @see datastructures.concrete.dictionaries.ChainedHashDictionary#registerMBean(String)
+ */
+public interface DictionaryStatsMXBean {
+    public int getSize();
+
+    public int getCapacity();
+
+    public double getLoadFactor();
+
+    public long getResizeCount();
+
+    public long getResizeNanos();
+
+    public long getGets();
+
+    public long getPuts();
+
+    public double getAverageProbesPerGet();
+
+    public double getAverageProbesPerPut();
+
+    /**
+     * Returns every statistic, including the chain length histogram, from a single pass over
+     * the table. Takes O(capacity) time.
+     */
+    public DictionaryStats snapshot();
+}
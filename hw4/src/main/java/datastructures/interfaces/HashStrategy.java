@@ -0,0 +1,48 @@
+package datastructures.interfaces;
+
+/**
+ * Computes the hash codes a hash-based dictionary uses to pick a bucket for each key.
+ *
+ * Hash tables that use power-of-two capacities pick a bucket using only the lowest bits of
+ * the hash code, so a good strategy should make those bits depend on the whole key.
+ * Strategies must be consistent with 'equals': two equal keys must always hash the same.
+ * Null keys are allowed and must also hash consistently.
+ */
+@FunctionalInterface
+public interface HashStrategy<K> {
+    /**
+     * Returns the hash code for the given key.
+     */
+    public int hash(K key);
+
+    /**
+     * Returns a strategy that uses each key's 'hashCode' method as-is.
+     *
+     * Only use this when you know the keys' hash codes are already well-distributed in
+     * their low bits (for example, small sequential integers).
+     */
+    public static <K> HashStrategy<K> identity() {
+        return key -> key == null ? 0 : key.hashCode();
+    }
+
+    /**
+     * Returns a strategy that runs each key's 'hashCode' through the MurmurHash3 32-bit
+     * finalizer, which spreads every input bit across all output bits. This is the
+     * default strategy.
+     */
+    public static <K> HashStrategy<K> murmur() {
+        return key -> mix(key == null ? 0 : key.hashCode());
+    }
+
+    /**
+     * The MurmurHash3 32-bit finalizer ('fmix32').
+     */
+    public static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
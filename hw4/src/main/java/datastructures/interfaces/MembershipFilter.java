@@ -0,0 +1,57 @@
+package datastructures.interfaces;
+
+/**
+ * A compact, approximate record of which items have been added to it. 'mightContain' never
+ * answers false for an item that was added, but may answer true for an item that wasn't (a
+ * "false positive"), at a rate chosen when the filter is created.
+ *
+ * Filters are useful in front of a slower exact structure: if the filter says an item is
+ * definitely absent, there's no need to search the structure at all.
+ *
+ * Filters only see hash codes, so adding the same item twice records it twice. Callers
+ * should only add items they haven't added before.
+ *
+ * @see datastructures.concrete.ChainedHashSet#ChainedHashSet(java.util.function.IntFunction)
+ */
+public interface MembershipFilter<T> {
+    /**
+     * Records the given item. Returns true if it was recorded, or false if the filter is too
+     * full to take it, in which case the filter is unchanged.
+     */
+    public boolean add(T item);
+
+    /**
+     * Returns false if the item was definitely never added, and true if it probably was.
+     */
+    public boolean mightContain(T item);
+
+    /**
+     * Returns the number of items this filter was sized for. Past this many items, the
+     * false positive rate climbs above the one the filter was created with, and 'add' may
+     * start to fail.
+     */
+    public int capacity();
+
+    /**
+     * Returns true if this filter supports 'remove'.
+     */
+    public default boolean supportsRemoval() {
+        return false;
+    }
+
+    /**
+     * Forgets one earlier 'add' of the given item. Only remove items that were actually
+     * added: removing any other item may make the filter forget a different item that
+     * happens to look the same to it.
+     *
+     * @throws UnsupportedOperationException  if this filter does not support removal
+     */
+    public default void remove(T item) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Forgets every item.
+     */
+    public void clear();
+}
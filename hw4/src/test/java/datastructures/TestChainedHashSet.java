@@ -1,6 +1,8 @@
 package datastructures;
 
+import datastructures.concrete.BloomFilter;
 import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.CuckooFilter;
 import datastructures.interfaces.ISet;
 import misc.BaseTest;
 import org.junit.FixMethodOrder;
@@ -388,4 +390,73 @@ public class TestChainedHashSet extends BaseTest {
             assertFalse(set.contains(i));
         }
     }
+
+    @Test(timeout=10*SECOND)
+    public void testFilteredSetsMatchPlainSet() {
+        ISet<Integer> bloom = new ChainedHashSet<>(capacity -> new BloomFilter<>(capacity, 0.01));
+        ISet<Integer> cuckoo = new ChainedHashSet<>(capacity -> new CuckooFilter<>(capacity, 0.01));
+        ISet<Integer> plain = new ChainedHashSet<>();
+
+        // Enough items to make both filters rebuild several times.
+        for (int i = 0; i < 20000; i += 2) {
+            bloom.add(i);
+            cuckoo.add(i);
+            plain.add(i);
+        }
+        for (int i = 0; i < 20000; i += 6) {
+            bloom.remove(i);
+            cuckoo.remove(i);
+            plain.remove(i);
+        }
+        bloom.add(0);
+        cuckoo.add(0);
+        plain.add(0);
+
+        assertEquals(plain.size(), bloom.size());
+        assertEquals(plain.size(), cuckoo.size());
+        for (int i = -10; i < 20010; i++) {
+            assertEquals(plain.contains(i), bloom.contains(i));
+            assertEquals(plain.contains(i), cuckoo.contains(i));
+        }
+        assertTrue(((ChainedHashSet<Integer>) bloom).isFiltered());
+        assertTrue(((ChainedHashSet<Integer>) cuckoo).isFiltered());
+    }
+
+    @Test(timeout=SECOND)
+    public void testFilteredSetWithSameHashCodes() {
+        ISet<Wrapper<String>> set = new ChainedHashSet<>(capacity -> new CuckooFilter<>(capacity, 0.01));
+        for (int i = 0; i < 100; i++) {
+            set.add(new Wrapper<>("" + i, 0));
+        }
+
+        // A cuckoo filter can't hold this many items with one hash code, so the set should
+        // have given up on filtering rather than forgetting any items.
+        assertFalse(((ChainedHashSet<Wrapper<String>>) set).isFiltered());
+        assertEquals(100, set.size());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(set.contains(new Wrapper<>("" + i, 0)));
+            assertFalse(set.contains(new Wrapper<>(i + "a", 0)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testFilteredSetErrorHandling() {
+        try {
+            new ChainedHashSet<String>(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+
+        ISet<String> set = new ChainedHashSet<>(capacity -> new BloomFilter<>(capacity, 0.01));
+        set.add("a");
+        try {
+            set.remove("b");
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+        assertTrue(set.contains("a"));
+        assertFalse(set.contains(null));
+    }
 }
@@ -9,6 +9,7 @@ import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Random;
 
@@ -718,4 +719,227 @@ public class TestDoubleLinkedList extends BaseTest {
         list.insert(0, new Wrapper<>(4));
         assertEquals(0, list.indexOf(new Wrapper<>(4)));
     }
+
+    @Test(timeout=SECOND)
+    public void testDeleteLastOfTwo() {
+        IList<String> list = new DoubleLinkedList<>();
+        list.add("a");
+        list.add("b");
+        assertEquals("b", list.delete(1));
+        this.assertListValidAndMatches(new String[] {"a"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetUpdatesNodeInPlace() {
+        IList<String> list = this.makeBasicList();
+        Object front = getField(list, "front");
+        Object back = getField(list, "back");
+        list.set(0, "x");
+        list.set(1, "y");
+        list.set(2, "z");
+        this.assertListValidAndMatches(new String[] {"x", "y", "z"}, list);
+        assertTrue(front == getField(list, "front"));
+        assertTrue(back == getField(list, "back"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorWalksBothWays() {
+        DoubleLinkedList<String> list = new DoubleLinkedList<>();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+
+        ListIterator<String> cursor = list.listIterator();
+        assertFalse(cursor.hasPrevious());
+        assertEquals("a", cursor.next());
+        assertEquals("b", cursor.next());
+        assertEquals("c", cursor.next());
+        assertFalse(cursor.hasNext());
+        assertEquals(3, cursor.nextIndex());
+        assertEquals("c", cursor.previous());
+        assertEquals("b", cursor.previous());
+        assertEquals(0, cursor.previousIndex());
+
+        cursor = list.listIterator(3);
+        assertFalse(cursor.hasNext());
+        assertEquals("c", cursor.previous());
+        try {
+            cursor = list.listIterator(0);
+            cursor.previous();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            list.listIterator(4);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorEdits() {
+        DoubleLinkedList<String> list = new DoubleLinkedList<>();
+        ListIterator<String> cursor = list.listIterator();
+        cursor.add("b");
+        cursor.add("d");
+        this.assertListValidAndMatches(new String[] {"b", "d"}, list);
+
+        cursor = list.listIterator();
+        cursor.add("a");
+        assertEquals("b", cursor.next());
+        cursor.set("B");
+        cursor.add("c");
+        assertEquals("c", cursor.previous());
+        cursor.remove();
+        this.assertListValidAndMatches(new String[] {"a", "B", "d"}, list);
+        assertEquals(2, cursor.nextIndex());
+
+        assertEquals("d", cursor.next());
+        cursor.remove();
+        assertEquals("B", cursor.previous());
+        assertEquals("a", cursor.previous());
+        cursor.remove();
+        this.assertListValidAndMatches(new String[] {"B"}, list);
+        assertEquals(0, cursor.nextIndex());
+
+        try {
+            cursor.remove();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // All ok -- expected result
+        }
+        try {
+            cursor.set("x");
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorEditsAreEfficient() {
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<>();
+        int cap = 100000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+
+        // Put a copy of every even number after it and drop every odd number, in one pass.
+        ListIterator<Integer> cursor = list.listIterator();
+        while (cursor.hasNext()) {
+            int item = cursor.next();
+            if (item % 2 == 0) {
+                cursor.add(-item);
+            } else {
+                cursor.remove();
+            }
+        }
+        assertEquals(cap, list.size());
+
+        Iterator<Integer> iter = list.iterator();
+        for (int i = 0; i < cap; i += 2) {
+            assertEquals(i, iter.next());
+            assertEquals(-i, iter.next());
+        }
+    }
+
+    /**
+     * Checks the contents of a subList view through both 'get' and its iterator.
+     */
+    private <T> void assertViewMatches(T[] expected, IList<T> view) {
+        assertEquals(expected.length, view.size());
+        int index = 0;
+        for (T item : view) {
+            assertEquals(expected[index], view.get(index));
+            assertEquals(expected[index], item);
+            index++;
+        }
+        assertEquals(expected.length, index);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubListReadsAndWritesThrough() {
+        IList<String> list = this.makeBasicList();
+        list.add("d");
+        list.add("e");
+
+        IList<String> view = list.subList(1, 4);
+        assertViewMatches(new String[] {"b", "c", "d"}, view);
+        assertEquals(1, view.indexOf("c"));
+        assertFalse(view.contains("a"));
+
+        view.set(0, "x");
+        list.set(3, "y");
+        assertEquals("x", list.get(1));
+        assertViewMatches(new String[] {"x", "c", "y"}, view);
+        assertListValidAndMatches(new String[] {"a", "x", "c", "y", "e"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubListOfSubList() {
+        IList<String> list = this.makeBasicList();
+        list.add("d");
+        list.add("e");
+
+        IList<String> view = list.subList(1, 5).subList(1, 3);
+        assertViewMatches(new String[] {"c", "d"}, view);
+        assertViewMatches(new String[] {}, list.subList(5, 5));
+        assertViewMatches(new String[] {}, view.subList(2, 2));
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubListErrors() {
+        IList<String> list = this.makeBasicList();
+        int[][] badRanges = {{-1, 2}, {0, 4}, {2, 1}};
+        for (int[] range : badRanges) {
+            try {
+                list.subList(range[0], range[1]);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+
+        IList<String> view = list.subList(0, 2);
+        try {
+            view.get(2);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            view.add("d");
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+        try {
+            view.delete(0);
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+        assertListValidAndMatches(new String[] {"a", "b", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubListIterationIsEfficient() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        int cap = 100000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+
+        // Each pass finds the start of the range once, then walks it in order. Calling 'get'
+        // for every item would walk in from the nearer end of the list each time.
+        long total = 0;
+        for (int pass = 0; pass < 100; pass++) {
+            for (int item : list.subList(cap / 2 - 500, cap / 2 + 500)) {
+                total += item;
+            }
+        }
+        assertEquals(100L * 1000 * (cap / 2) - 100L * 500, total);
+    }
 }
@@ -0,0 +1,168 @@
+package datastructures;
+
+import datastructures.concrete.BloomFilter;
+import datastructures.concrete.CuckooFilter;
+import datastructures.interfaces.MembershipFilter;
+import misc.BaseTest;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestMembershipFilters extends BaseTest {
+    protected void assertNoFalseNegatives(MembershipFilter<Integer> filter, int count) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(filter.add(i));
+        }
+        for (int i = 0; i < count; i++) {
+            assertTrue(filter.mightContain(i));
+        }
+    }
+
+    // Returns the fraction of 'trials' items the filter wrongly claims to contain, after
+    // adding 0 to count - 1.
+    protected double falsePositiveRate(MembershipFilter<Integer> filter, int count, int trials) {
+        this.assertNoFalseNegatives(filter, count);
+        int falsePositives = 0;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain(count + i)) {
+                falsePositives++;
+            }
+        }
+        return (double) falsePositives / trials;
+    }
+
+    @Test(timeout=SECOND)
+    public void testBloomFilterBasic() {
+        BloomFilter<String> filter = new BloomFilter<>(100, 0.01);
+        assertFalse(filter.mightContain("a"));
+        filter.add("a");
+        filter.add(null);
+        assertTrue(filter.mightContain("a"));
+        assertTrue(filter.mightContain(null));
+        assertEquals(100, filter.capacity());
+        assertFalse(filter.supportsRemoval());
+
+        // About 9.6 bits per item and 7 hash functions for a 1% rate.
+        assertTrue(filter.getNumBits() >= 959);
+        assertEquals(7, filter.getNumHashes());
+
+        filter.clear();
+        assertFalse(filter.mightContain("a"));
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testBloomFilterFalsePositiveRate() {
+        for (double rate : new double[] {0.1, 0.01, 0.001}) {
+            double actual = this.falsePositiveRate(new BloomFilter<>(20000, rate), 20000, 100000);
+            assertTrue("rate " + rate + " gave " + actual, actual < 1.5 * rate);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBloomFilterCantRemove() {
+        BloomFilter<String> filter = new BloomFilter<>(10, 0.01);
+        filter.add("a");
+        try {
+            filter.remove("a");
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // All ok -- expected result
+        }
+        assertTrue(filter.mightContain("a"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCuckooFilterAddAndRemove() {
+        CuckooFilter<Integer> filter = new CuckooFilter<>(1000, 0.01);
+        assertTrue(filter.supportsRemoval());
+        this.assertNoFalseNegatives(filter, 1000);
+
+        for (int i = 0; i < 1000; i += 2) {
+            filter.remove(i);
+        }
+        for (int i = 1; i < 1000; i += 2) {
+            assertTrue(filter.mightContain(i));
+        }
+        int stillThere = 0;
+        for (int i = 0; i < 1000; i += 2) {
+            if (filter.mightContain(i)) {
+                stillThere++;
+            }
+        }
+        assertTrue(stillThere < 25);
+
+        filter.clear();
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(filter.mightContain(i));
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testCuckooFilterFalsePositiveRate() {
+        for (double rate : new double[] {0.1, 0.01, 0.001}) {
+            CuckooFilter<Integer> filter = new CuckooFilter<>(20000, rate);
+            double actual = this.falsePositiveRate(filter, 20000, 100000);
+            assertTrue("rate " + rate + " gave " + actual, actual < 1.5 * rate);
+        }
+        assertEquals(10, new CuckooFilter<Integer>(10, 0.01).getFingerprintBits());
+        assertEquals(16, new CuckooFilter<Integer>(10, 1e-9).getFingerprintBits());
+    }
+
+    @Test(timeout=SECOND)
+    public void testCuckooFilterFillsUp() {
+        CuckooFilter<Integer> filter = new CuckooFilter<>(100, 0.01);
+        int added = 0;
+        while (filter.add(added)) {
+            added++;
+        }
+        // The table can't take more than one fingerprint per slot, plus the victim.
+        assertTrue(added >= 100);
+        assertTrue(added <= filter.getNumSlots() + 1);
+        for (int i = 0; i < added; i++) {
+            assertTrue(filter.mightContain(i));
+        }
+
+        // Removing an item makes room again.
+        filter.remove(0);
+        assertTrue(filter.add(added));
+        for (int i = 1; i <= added; i++) {
+            assertTrue(filter.mightContain(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrorHandling() {
+        double[] badRates = {0.0, 1.0, -0.5, Double.NaN};
+        for (double rate : badRates) {
+            try {
+                new BloomFilter<Integer>(10, rate);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+            try {
+                new CuckooFilter<Integer>(10, rate);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+        try {
+            new BloomFilter<Integer>(-1, 0.01);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new CuckooFilter<Integer>(-1, 0.01);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
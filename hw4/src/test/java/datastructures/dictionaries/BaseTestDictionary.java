@@ -653,4 +653,91 @@ public abstract class BaseTestDictionary extends BaseTest {
         }
     }
 
+    @Test(timeout=SECOND)
+    public void testPutIfAbsent() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        assertEquals(null, dict.putIfAbsent("keyD", "valD"));
+        assertEquals("valD", dict.get("keyD"));
+        assertEquals("valA", dict.putIfAbsent("keyA", "other"));
+        assertEquals("valA", dict.get("keyA"));
+        assertEquals(4, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testComputeIfAbsent() {
+        IDictionary<String, Integer> dict = this.newDictionary();
+        assertEquals(4, dict.computeIfAbsent("abcd", String::length));
+        assertEquals(4, dict.computeIfAbsent("abcd", key -> {
+            fail("Should not compute a value for a key that's already present");
+            return -1;
+        }));
+        assertEquals(1, dict.size());
+        assertEquals(4, dict.get("abcd"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCompute() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        assertEquals("keyA:valA", dict.compute("keyA", (key, value) -> key + ":" + value));
+        assertEquals("keyD:null", dict.compute("keyD", (key, value) -> key + ":" + value));
+        assertEquals(4, dict.size());
+        assertEquals("keyA:valA", dict.get("keyA"));
+        assertEquals("keyD:null", dict.get("keyD"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testMergeCountsWords() {
+        IDictionary<String, Integer> dict = this.newDictionary();
+        String[] words = {"a", "b", "a", "c", "a", "b"};
+        for (String word : words) {
+            dict.merge(word, 1, Integer::sum);
+        }
+        assertEquals(3, dict.size());
+        assertEquals(3, dict.get("a"));
+        assertEquals(2, dict.get("b"));
+        assertEquals(1, dict.get("c"));
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testUpdateOperationsMany() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int limit = 5000;
+        for (int i = 0; i < limit; i++) {
+            dict.merge(i % 1000, 1, Integer::sum);
+            dict.putIfAbsent(i, -1);
+            dict.computeIfAbsent(i + limit, key -> key);
+            dict.compute(-i - 1, (key, value) -> value == null ? 1 : value + 1);
+        }
+        assertEquals(3 * limit, dict.size());
+        for (int i = 0; i < limit; i++) {
+            assertEquals(i < 1000 ? 5 : -1, dict.get(i));
+            assertEquals(i + limit, dict.get(i + limit));
+            assertEquals(1, dict.get(-i - 1));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testForEachVisitsEveryPair() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            dict.put(i, i * 2);
+            expected.put(i, i * 2);
+        }
+        dict.remove(50);
+        expected.remove(50);
+
+        Map<Integer, Integer> actual = new HashMap<>();
+        dict.forEach((key, value) -> {
+            assertFalse(actual.containsKey(key));
+            actual.put(key, value);
+        });
+        assertEquals(expected, actual);
+    }
+
+    @Test(timeout=SECOND)
+    public void testForEachOverEmptyDictionary() {
+        IDictionary<String, String> dict = this.newDictionary();
+        dict.forEach((key, value) -> fail());
+    }
 }
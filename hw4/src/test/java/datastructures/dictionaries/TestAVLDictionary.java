@@ -0,0 +1,451 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.AVLDictionary;
+import datastructures.concrete.dictionaries.KVPair;
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * AVLDictionary does not allow null keys and requires keys to be Comparable, so the
+ * BaseTestDictionary tests that rely on either are overridden below.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestAVLDictionary extends BaseTestDictionary {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return (IDictionary<K, V>) new AVLDictionary();
+    }
+
+    /**
+     * Checks that every node in the given subtree has the correct height and is balanced,
+     * and returns the subtree's height.
+     */
+    private int checkBalanced(Object node) {
+        if (node == null) {
+            return -1;
+        }
+        int leftHeight = checkBalanced(getField(node, "left"));
+        int rightHeight = checkBalanced(getField(node, "right"));
+        int height = Math.max(leftHeight, rightHeight) + 1;
+        assertEquals(height, getField(node, "height", Integer.class));
+        assertTrue(Math.abs(leftHeight - rightHeight) <= 1);
+        return height;
+    }
+
+    @Override
+    @Test(timeout=SECOND)
+    public void testNullKey() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        try {
+            dict.put(null, "1");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            dict.remove(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(3, dict.size());
+    }
+
+    @Override
+    @Test(timeout=SECOND)
+    public void testIteratorUnusualKeys() {
+        IDictionary<String, String> map = this.newDictionary();
+        map.put("", "world");
+
+        Iterator<KVPair<String, String>> iter = map.iterator();
+        assertTrue(iter.hasNext());
+        assertEquals(new KVPair<>("", "world"), iter.next());
+        assertFalse(iter.hasNext());
+    }
+
+    @Override
+    @Test(timeout=SECOND)
+    public void testCustomObjectKeys() {
+        IDictionary<Integer, String> dict = this.newDictionary();
+        dict.put(1000, "foo");
+        dict.put(2000, "bar");
+        dict.put(1000, "hello");
+
+        assertEquals(2, dict.size());
+        assertEquals("hello", dict.get(1000));
+        assertEquals("bar", dict.get(2000));
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorIsInOrder() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        Random rand = new Random(373);
+        for (int i = 0; i < 1000; i++) {
+            int key = rand.nextInt(10000);
+            dict.put(key, -key);
+        }
+
+        int previous = Integer.MIN_VALUE;
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertTrue(pair.getKey() > previous);
+            assertEquals(-pair.getKey(), pair.getValue());
+            previous = pair.getKey();
+            count++;
+        }
+        assertEquals(dict.size(), count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveKeepsTreeBalanced() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int limit = 2000;
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, i);
+        }
+
+        Random rand = new Random(373);
+        boolean[] removed = new boolean[limit];
+        for (int i = 0; i < limit / 2; i++) {
+            int key = rand.nextInt(limit);
+            if (removed[key]) {
+                assertFalse(dict.containsKey(key));
+            } else {
+                assertEquals(key, dict.remove(key));
+                removed[key] = true;
+            }
+            checkBalanced(getField(dict, "overallRoot"));
+        }
+
+        for (int i = 0; i < limit; i++) {
+            assertEquals(!removed[i], dict.containsKey(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveNodesWithTwoChildren() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        for (int i = 1; i <= 7; i++) {
+            dict.put(i, i * 10);
+        }
+
+        assertEquals(40, dict.remove(4));
+        assertEquals(20, dict.remove(2));
+        assertEquals(60, dict.remove(6));
+        checkBalanced(getField(dict, "overallRoot"));
+
+        int[] expected = {1, 3, 5, 7};
+        int index = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertEquals(expected[index], pair.getKey());
+            index++;
+        }
+        assertEquals(4, index);
+    }
+
+    @Test(timeout=SECOND)
+    public void testEarlyStopIsCheap() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 100000; i++) {
+            dict.put(i, i);
+        }
+
+        // Creating many iterators and taking just the first pair should not require a full
+        // traversal each time.
+        for (int i = 0; i < 100000; i++) {
+            assertEquals(0, dict.iterator().next().getKey());
+        }
+    }
+
+    /**
+     * Returns a dictionary containing the even keys 0, 2, 4, ..., 2 * (size - 1).
+     */
+    private AVLDictionary<Integer, Integer> makeEvenDictionary(int size) {
+        AVLDictionary<Integer, Integer> dict = new AVLDictionary<>();
+        for (int i = size - 1; i >= 0; i--) {
+            dict.put(2 * i, i);
+        }
+        return dict;
+    }
+
+    @Test(timeout=SECOND)
+    public void testFirstAndLastKey() {
+        AVLDictionary<Integer, Integer> dict = this.makeEvenDictionary(100);
+        assertEquals(0, dict.firstKey());
+        assertEquals(198, dict.lastKey());
+
+        dict.remove(0);
+        dict.remove(198);
+        assertEquals(2, dict.firstKey());
+        assertEquals(196, dict.lastKey());
+
+        try {
+            new AVLDictionary<Integer, Integer>().firstKey();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testFloorAndCeilingKey() {
+        AVLDictionary<Integer, Integer> dict = this.makeEvenDictionary(100);
+        assertEquals(10, dict.floorKey(10));
+        assertEquals(10, dict.floorKey(11));
+        assertEquals(10, dict.ceilingKey(10));
+        assertEquals(12, dict.ceilingKey(11));
+
+        assertNull(dict.floorKey(-1));
+        assertEquals(0, dict.ceilingKey(-1));
+        assertEquals(198, dict.floorKey(1000));
+        assertNull(dict.ceilingKey(199));
+    }
+
+    @Test(timeout=SECOND)
+    public void testRankAndSelect() {
+        AVLDictionary<Integer, Integer> dict = this.makeEvenDictionary(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, dict.rank(2 * i));
+            assertEquals(i + 1, dict.rank(2 * i + 1));
+            assertEquals(2 * i, dict.select(i));
+        }
+
+        for (int i = 0; i < 1000; i += 2) {
+            dict.remove(2 * i);
+        }
+        for (int i = 0; i < 500; i++) {
+            assertEquals(4 * i + 2, dict.select(i));
+            assertEquals(i, dict.rank(4 * i + 2));
+        }
+
+        try {
+            dict.select(500);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubMap() {
+        AVLDictionary<Integer, Integer> dict = this.makeEvenDictionary(1000);
+
+        int expected = 10;
+        for (KVPair<Integer, Integer> pair : dict.subMap(9, 21)) {
+            assertEquals(expected, pair.getKey());
+            assertEquals(expected / 2, pair.getValue());
+            expected += 2;
+        }
+        assertEquals(22, expected);
+
+        expected = 1990;
+        for (KVPair<Integer, Integer> pair : dict.subMap(1990, null)) {
+            assertEquals(expected, pair.getKey());
+            expected += 2;
+        }
+        assertEquals(2000, expected);
+
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict.subMap(null, 6)) {
+            count++;
+        }
+        assertEquals(3, count);
+
+        assertFalse(dict.subMap(11, 12).iterator().hasNext());
+        assertFalse(dict.subMap(5000, 6000).iterator().hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testComparatorOrdersKeys() {
+        AVLDictionary<Integer, Integer> dict = new AVLDictionary<>(Comparator.reverseOrder());
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, -i);
+        }
+        checkBalanced(getField(dict, "overallRoot"));
+
+        assertEquals(999, dict.firstKey());
+        assertEquals(0, dict.lastKey());
+        assertEquals(0, dict.select(999));
+        assertEquals(998, dict.ceilingKey(998));
+        assertEquals(997, dict.ceilingKey(997));
+
+        int expected = 999;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertEquals(expected, pair.getKey());
+            assertEquals(-expected, pair.getValue());
+            expected--;
+        }
+        assertEquals(-1, expected);
+
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(-i, dict.remove(i));
+        }
+        checkBalanced(getField(dict, "overallRoot"));
+        assertEquals(500, dict.size());
+        assertEquals(-1, dict.get(1));
+        assertFalse(dict.containsKey(2));
+    }
+
+    @Test(timeout=SECOND)
+    public void testComparatorAllowsNonComparableKeys() {
+        // int[] is not Comparable, so this only works through the comparator.
+        AVLDictionary<int[], String> dict = new AVLDictionary<>(Comparator.comparingInt(arr -> arr[0]));
+        dict.put(new int[] {3}, "c");
+        dict.put(new int[] {1}, "a");
+        dict.put(new int[] {2}, "b");
+        dict.put(new int[] {1}, "A");
+
+        assertEquals(3, dict.size());
+        assertEquals("A", dict.get(new int[] {1}));
+        assertEquals("b", dict.getOrDefault(new int[] {2}, "none"));
+        assertEquals("none", dict.getOrDefault(new int[] {4}, "none"));
+        assertEquals(3, dict.lastKey()[0]);
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testManySortedPutsStayBalanced() {
+        AVLDictionary<Integer, Integer> dict = new AVLDictionary<>();
+        int limit = 200000;
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, i);
+        }
+        // An AVL tree with n nodes has height at most about 1.44 * log2(n).
+        int height = checkBalanced(getField(dict, "overallRoot"));
+        assertTrue(height <= 1.45 * (Math.log(limit) / Math.log(2)));
+        for (int i = 0; i < limit; i++) {
+            assertEquals(i, dict.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testFromSortedIsBalanced() {
+        for (int size = 0; size < 70; size++) {
+            IList<KVPair<Integer, Integer>> pairs = new DoubleLinkedList<>();
+            for (int i = 0; i < size; i++) {
+                pairs.add(new KVPair<>(2 * i, i));
+            }
+            AVLDictionary<Integer, Integer> dict = AVLDictionary.fromSorted(pairs);
+            checkBalanced(getField(dict, "overallRoot"));
+            assertEquals(size, dict.size());
+            for (int i = 0; i < size; i++) {
+                assertEquals(i, dict.get(2 * i));
+                assertEquals(2 * i, dict.select(i));
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testFromSortedThenModify() {
+        IList<KVPair<Integer, Integer>> pairs = new DoubleLinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            pairs.add(new KVPair<>(i, i));
+        }
+        AVLDictionary<Integer, Integer> dict = AVLDictionary.fromSorted(pairs);
+        for (int i = 1000; i < 2000; i++) {
+            dict.put(i, i);
+        }
+        for (int i = 0; i < 1500; i += 3) {
+            dict.remove(i);
+        }
+        checkBalanced(getField(dict, "overallRoot"));
+        assertEquals(1500, dict.size());
+        assertEquals(1, dict.firstKey());
+        assertEquals(1999, dict.lastKey());
+    }
+
+    @Test(timeout=SECOND)
+    public void testFromSortedRejectsUnsortedInput() {
+        IList<KVPair<Integer, Integer>> pairs = new DoubleLinkedList<>();
+        pairs.add(new KVPair<>(1, 1));
+        pairs.add(new KVPair<>(3, 3));
+        pairs.add(new KVPair<>(2, 2));
+        try {
+            AVLDictionary.fromSorted(pairs);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+
+        pairs = new DoubleLinkedList<>();
+        pairs.add(new KVPair<>(1, 1));
+        pairs.add(new KVPair<>(1, 2));
+        try {
+            AVLDictionary.fromSorted(pairs);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testFromSortedIteratorWithComparator() {
+        IList<KVPair<String, Integer>> pairs = new DoubleLinkedList<>();
+        pairs.add(new KVPair<>("c", 3));
+        pairs.add(new KVPair<>("b", 2));
+        pairs.add(new KVPair<>("a", 1));
+        AVLDictionary<String, Integer> dict = AVLDictionary.fromSorted(pairs.iterator(), Comparator.reverseOrder());
+        assertEquals("c", dict.firstKey());
+        assertEquals(2, dict.get("b"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testFromUnsorted() {
+        IList<KVPair<Integer, Integer>> pairs = new DoubleLinkedList<>();
+        Random rand = new Random(373);
+        IDictionary<Integer, Integer> expected = this.newDictionary();
+        for (int i = 0; i < 5000; i++) {
+            int key = rand.nextInt(2000);
+            pairs.add(new KVPair<>(key, i));
+            expected.put(key, i);
+        }
+
+        AVLDictionary<Integer, Integer> dict = AVLDictionary.fromUnsorted(pairs);
+        checkBalanced(getField(dict, "overallRoot"));
+        assertEquals(expected.size(), dict.size());
+        for (KVPair<Integer, Integer> pair : expected) {
+            // Later duplicates should overwrite earlier ones, just like put.
+            assertEquals(pair.getValue(), dict.get(pair.getKey()));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testComputeIfAbsentThrowingLeavesTreeUnchanged() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 100; i += 2) {
+            dict.put(i, i);
+        }
+        try {
+            dict.computeIfAbsent(51, key -> {
+                throw new IllegalStateException();
+            });
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(50, dict.size());
+        assertFalse(dict.containsKey(51));
+        checkBalanced(getField(dict, "overallRoot"));
+
+        for (int i = 0; i < 100; i++) {
+            dict.merge(i, 1, Integer::sum);
+            checkBalanced(getField(dict, "overallRoot"));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0 ? i + 1 : 1, dict.get(i));
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.BTreeDictionary;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.KVPair;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * BTreeDictionary does not allow null keys and requires keys to be Comparable, so the
+ * BaseTestDictionary tests that rely on either are overridden below.
+ *
+ * Most tests use a fan-out of 4 so that even small dictionaries split and merge nodes.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestBTreeDictionary extends BaseTestDictionary {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return (IDictionary<K, V>) new BTreeDictionary(4, null);
+    }
+
+    /**
+     * Like getField, but also finds fields declared in a superclass.
+     */
+    private static Object getNodeField(Object obj, String fieldName) {
+        try {
+            for (Class<?> cls = obj.getClass(); cls != null; cls = cls.getSuperclass()) {
+                for (Field field : cls.getDeclaredFields()) {
+                    if (field.getName().equals(fieldName)) {
+                        field.setAccessible(true);
+                        return field.get(obj);
+                    }
+                }
+            }
+        } catch (IllegalAccessException ex) {
+            throw new RuntimeException(ex);
+        }
+        throw new RuntimeException("No field " + fieldName);
+    }
+
+    /**
+     * Checks that every node other than the root is between half full and full, that keys
+     * are sorted, and that every leaf is at the same depth. Returns the tree's height.
+     */
+    private int checkInvariants(IDictionary<Integer, ?> dict, int fanout) {
+        Object root = getField(dict, "root");
+        return checkNode(root, fanout, true, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    private int checkNode(Object node, int fanout, boolean isRoot, long low, long high) {
+        Object[] keys = (Object[]) getNodeField(node, "keys");
+        int count = (Integer) getNodeField(node, "count");
+        for (int i = 0; i < count; i++) {
+            int key = (Integer) keys[i];
+            assertTrue(low <= key && key < high);
+            if (i > 0) {
+                assertTrue((Integer) keys[i - 1] < key);
+            }
+        }
+
+        Object[] children = node.getClass().getSimpleName().equals("InternalNode")
+                ? (Object[]) getNodeField(node, "children") : null;
+        if (children == null) {
+            assertTrue(count <= fanout);
+            assertTrue(isRoot || count >= fanout / 2);
+            return 0;
+        }
+
+        assertTrue(count + 1 <= fanout);
+        assertTrue(count >= (isRoot ? 1 : (fanout + 1) / 2 - 1));
+        int height = -1;
+        for (int i = 0; i <= count; i++) {
+            long childLow = i == 0 ? low : (Integer) keys[i - 1];
+            long childHigh = i == count ? high : (Integer) keys[i];
+            int childHeight = checkNode(children[i], fanout, false, childLow, childHigh);
+            if (height == -1) {
+                height = childHeight;
+            }
+            assertEquals(height, childHeight);
+        }
+        return height + 1;
+    }
+
+    @Override
+    @Test(timeout=SECOND)
+    public void testNullKey() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        try {
+            dict.put(null, "1");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            dict.remove(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(3, dict.size());
+    }
+
+    @Override
+    @Test(timeout=SECOND)
+    public void testIteratorUnusualKeys() {
+        IDictionary<String, String> map = this.newDictionary();
+        map.put("", "world");
+
+        Iterator<KVPair<String, String>> iter = map.iterator();
+        assertTrue(iter.hasNext());
+        assertEquals(new KVPair<>("", "world"), iter.next());
+        assertFalse(iter.hasNext());
+    }
+
+    @Override
+    @Test(timeout=SECOND)
+    public void testCustomObjectKeys() {
+        IDictionary<Integer, String> dict = this.newDictionary();
+        dict.put(1000, "foo");
+        dict.put(2000, "bar");
+        dict.put(1000, "hello");
+
+        assertEquals(2, dict.size());
+        assertEquals("hello", dict.get(1000));
+        assertEquals("bar", dict.get(2000));
+    }
+
+    @Test(timeout=SECOND)
+    public void testFanOutTooSmall() {
+        try {
+            new BTreeDictionary<Integer, Integer>(3, null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorIsInOrder() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        Random rand = new Random(373);
+        for (int i = 0; i < 1000; i++) {
+            int key = rand.nextInt(10000);
+            dict.put(key, -key);
+        }
+        checkInvariants(dict, 4);
+
+        int previous = Integer.MIN_VALUE;
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertTrue(pair.getKey() > previous);
+            assertEquals(-pair.getKey(), pair.getValue());
+            previous = pair.getKey();
+            count++;
+        }
+        assertEquals(dict.size(), count);
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testRandomPutsAndRemovesMatchHashDictionary() {
+        for (int fanout = 4; fanout <= 9; fanout++) {
+            BTreeDictionary<Integer, Integer> dict = new BTreeDictionary<>(fanout, null);
+            IDictionary<Integer, Integer> expected = new ChainedHashDictionary<>();
+            Random rand = new Random(fanout);
+            for (int i = 0; i < 4000; i++) {
+                int key = rand.nextInt(500);
+                if (rand.nextInt(3) == 0 && expected.containsKey(key)) {
+                    assertEquals(expected.remove(key), dict.remove(key));
+                } else {
+                    expected.put(key, i);
+                    dict.put(key, i);
+                }
+                assertEquals(expected.size(), dict.size());
+                if (i % 50 == 0) {
+                    checkInvariants(dict, fanout);
+                }
+            }
+
+            checkInvariants(dict, fanout);
+            for (int key = 0; key < 500; key++) {
+                assertEquals(expected.containsKey(key), dict.containsKey(key));
+                assertEquals(expected.getOrDefault(key, -1), dict.getOrDefault(key, -1));
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveEverything() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            dict.remove(i);
+        }
+        for (int i = 999; i > 0; i -= 2) {
+            assertEquals(i, dict.remove(i));
+            checkInvariants(dict, 4);
+        }
+        assertEquals(0, dict.size());
+        assertFalse(dict.iterator().hasNext());
+
+        dict.put(5, 5);
+        assertEquals(5, dict.get(5));
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testWideNodesManyKeys() {
+        BTreeDictionary<Integer, Integer> dict = new BTreeDictionary<>();
+        int limit = 200000;
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, i);
+        }
+        // With 64-way nodes, 200000 keys fit in a tree of height 3 or 4.
+        assertTrue(checkInvariants(dict, 64) <= 4);
+        for (int i = 0; i < limit; i++) {
+            assertEquals(i, dict.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubMap() {
+        BTreeDictionary<Integer, Integer> dict = new BTreeDictionary<>(4, null);
+        for (int i = 0; i < 1000; i++) {
+            dict.put(2 * i, i);
+        }
+
+        int expected = 10;
+        for (KVPair<Integer, Integer> pair : dict.subMap(9, 21)) {
+            assertEquals(expected, pair.getKey());
+            assertEquals(expected / 2, pair.getValue());
+            expected += 2;
+        }
+        assertEquals(22, expected);
+
+        expected = 1990;
+        for (KVPair<Integer, Integer> pair : dict.subMap(1990, null)) {
+            assertEquals(expected, pair.getKey());
+            expected += 2;
+        }
+        assertEquals(2000, expected);
+
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict.subMap(null, 6)) {
+            count++;
+        }
+        assertEquals(3, count);
+
+        assertFalse(dict.subMap(11, 12).iterator().hasNext());
+        assertFalse(dict.subMap(5000, 6000).iterator().hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testComparatorOrdersKeys() {
+        BTreeDictionary<Integer, Integer> dict = new BTreeDictionary<>(5, Comparator.reverseOrder());
+        for (int i = 0; i < 100; i++) {
+            dict.put(i, i);
+        }
+        int expected = 99;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertEquals(expected, pair.getKey());
+            expected--;
+        }
+        assertEquals(-1, expected);
+    }
+}
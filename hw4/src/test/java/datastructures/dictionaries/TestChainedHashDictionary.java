@@ -1,17 +1,28 @@
 package datastructures.dictionaries;
 
+import datastructures.concrete.dictionaries.ArrayDictionary;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.DictionaryStats;
 import datastructures.concrete.dictionaries.KVPair;
+import datastructures.interfaces.HashStrategy;
 import datastructures.interfaces.IDictionary;
 import org.junit.Assert;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
 public class TestChainedHashDictionary extends BaseTestDictionary {
@@ -136,6 +147,103 @@ public class TestChainedHashDictionary extends BaseTestDictionary {
         assertFalse(dict.containsKey(key1));
     }
 
+    @Test(timeout=SECOND)
+    public void testMinValueHashCode() {
+        IDictionary<Wrapper<String>, String> dict = this.newDictionary();
+        Wrapper<String> key1 = new Wrapper<>("foo", Integer.MIN_VALUE);
+        Wrapper<String> key2 = new Wrapper<>("bar", Integer.MAX_VALUE);
+
+        dict.put(key1, "val1");
+        dict.put(key2, "val2");
+
+        assertEquals("val1", dict.get(key1));
+        assertEquals("val2", dict.get(key2));
+        assertEquals("val1", dict.remove(key1));
+        assertFalse(dict.containsKey(key1));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCustomHashStrategy() {
+        HashStrategy<String> byLength = key -> key == null ? 0 : key.length();
+        IDictionary<String, Integer> dict = new ChainedHashDictionary<>(byLength);
+        for (int i = 0; i < 500; i++) {
+            dict.put("" + i, i);
+        }
+        dict.put(null, -1);
+
+        assertEquals(501, dict.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, dict.get("" + i));
+        }
+        assertEquals(-1, dict.get(null));
+        assertFalse(dict.containsKey("500"));
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testManyComparableKeysWithSameHashCode() {
+        HashStrategy<Integer> constant = key -> 0;
+        IDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(constant);
+        int limit = 50000;
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, i);
+        }
+
+        assertEquals(limit, dict.size());
+        @SuppressWarnings("unchecked")
+        IDictionary<Integer, Integer>[] chains = getField(dict, "chains", IDictionary[].class);
+        assertFalse(chains[0] instanceof ArrayDictionary);
+
+        for (int i = 0; i < limit; i++) {
+            assertEquals(i, dict.get(i));
+            assertFalse(dict.containsKey(-i - 1));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testTreeBucketShrinksBackToChain() {
+        HashStrategy<Integer> constant = key -> 0;
+        IDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(constant);
+        int limit = 100;
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, i);
+        }
+
+        for (int i = 0; i < limit - 3; i++) {
+            assertEquals(i, dict.remove(i));
+            assertFalse(dict.containsKey(i));
+        }
+        @SuppressWarnings("unchecked")
+        IDictionary<Integer, Integer>[] chains = getField(dict, "chains", IDictionary[].class);
+        assertTrue(chains[0] instanceof ArrayDictionary);
+        for (int i = limit - 3; i < limit; i++) {
+            assertEquals(i, dict.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testMixedKeyTypesWithSameHashCode() {
+        HashStrategy<Object> constant = key -> 0;
+        IDictionary<Object, Integer> dict = new ChainedHashDictionary<>(constant);
+        for (int i = 0; i < 20; i++) {
+            dict.put(i, i);
+        }
+        assertFalse(dict.containsKey("0"));
+        assertFalse(dict.containsKey(null));
+
+        dict.put("a", -1);
+        dict.put(null, -2);
+        for (int i = 20; i < 40; i++) {
+            dict.put(i, i);
+        }
+
+        assertEquals(42, dict.size());
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i, dict.get(i));
+        }
+        assertEquals(-1, dict.get("a"));
+        assertEquals(-2, dict.get(null));
+    }
+
     @Test(timeout=10*SECOND)
     public void testStress() {
         int limit = 1000000;
@@ -167,4 +275,147 @@ public class TestChainedHashDictionary extends BaseTestDictionary {
         IDictionary<String, String>[] chains = getField(map, "chains", IDictionary[].class);
         assertNotNull(chains);
     }
+
+    @Test(timeout=SECOND)
+    public void testStatsDescribeTable() {
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>();
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+        DictionaryStats stats = dict.stats();
+        assertEquals(1000, stats.getSize());
+        assertEquals(stats.getSize(), (int) Math.round(stats.getLoadFactor() * stats.getCapacity()));
+
+        int[] histogram = stats.getChainLengthHistogram();
+        assertEquals(stats.getMaxChainLength() + 1, histogram.length);
+        assertTrue(histogram[histogram.length - 1] > 0);
+        int buckets = 0;
+        int pairs = 0;
+        for (int length = 0; length < histogram.length; length++) {
+            buckets += histogram[length];
+            pairs += length * histogram[length];
+        }
+        assertEquals(stats.getCapacity(), buckets);
+        assertEquals(1000, pairs);
+    }
+
+    @Test(timeout=SECOND)
+    public void testStatsShowBadHashCodes() {
+        HashStrategy<Integer> constant = key -> 0;
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(constant);
+        for (int i = 0; i < 100; i++) {
+            dict.put(i, i);
+        }
+        DictionaryStats stats = dict.stats();
+        assertEquals(100, stats.getMaxChainLength());
+        assertEquals(1, stats.getTreeBuckets());
+        assertEquals(stats.getCapacity() - 1, stats.getChainLengthHistogram()[0]);
+    }
+
+    @Test(timeout=SECOND)
+    public void testStatsDuringIncrementalResize() {
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(0.8, true);
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+            DictionaryStats stats = dict.stats();
+            int pairs = 0;
+            int[] histogram = stats.getChainLengthHistogram();
+            for (int length = 0; length < histogram.length; length++) {
+                pairs += length * histogram[length];
+            }
+            assertEquals(i + 1, pairs);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testStatsCountOperations() {
+        // The counters are only recorded when the JVM runs with -Ddatastructures.collectStats=true.
+        assumeTrue(DictionaryStats.COLLECTING);
+
+        HashStrategy<Integer> constant = key -> 0;
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(0.8, false, constant);
+        for (int i = 0; i < 4; i++) {
+            dict.put(i, i);
+        }
+        dict.get(0);
+        dict.containsKey(5);
+        dict.getOrDefault(6, -1);
+
+        DictionaryStats stats = dict.stats();
+        assertEquals(4L, stats.getPuts());
+        assertEquals(3L, stats.getGets());
+        // Each put scanned every key already in the single chain: 0 + 1 + 2 + 3.
+        assertEquals(6.0 / 4, stats.getAverageProbesPerPut());
+        assertEquals(4.0, stats.getAverageProbesPerGet());
+
+        for (int i = 4; i < 100; i++) {
+            dict.put(i, i);
+        }
+        assertTrue(dict.stats().getResizeCount() > 0);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRegisterMBean() throws JMException {
+        ChainedHashDictionary<String, String> dict = new ChainedHashDictionary<>();
+        dict.put("a", "1");
+        dict.put("b", "2");
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = dict.registerMBean("testRegisterMBean");
+        try {
+            assertEquals(2, server.getAttribute(name, "Size"));
+            assertEquals(dict.stats().getCapacity(), server.getAttribute(name, "Capacity"));
+            dict.put("c", "3");
+            assertEquals(3, server.getAttribute(name, "Size"));
+            assertEquals(3.0 / dict.stats().getCapacity(), server.getAttribute(name, "LoadFactor"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testMBeanSnapshotMatchesStats() throws JMException {
+        HashStrategy<Integer> constant = key -> 0;
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(constant);
+        for (int i = 0; i < 20; i++) {
+            dict.put(i, i);
+        }
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = dict.registerMBean("testMBeanSnapshotMatchesStats");
+        try {
+            // The histogram is only available from the snapshot, which JMX hands back as
+            // CompositeData with one item per getter of DictionaryStats.
+            CompositeData snapshot = (CompositeData) server.invoke(name, "snapshot", null, null);
+            DictionaryStats stats = dict.stats();
+            assertEquals(20, snapshot.get("size"));
+            assertEquals(stats.getCapacity(), snapshot.get("capacity"));
+            assertEquals(20, snapshot.get("maxChainLength"));
+            assertEquals(1, snapshot.get("treeBuckets"));
+            Assert.assertArrayEquals(stats.getChainLengthHistogram(),
+                    (int[]) snapshot.get("chainLengthHistogram"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testForEachVisitsTreeBucketsAndOldTable() {
+        // Half the keys collide into one TreeBucket; the puts also trigger resizes, which in
+        // incremental mode leave some pairs in the old table.
+        HashStrategy<Integer> collideEvens = key -> key % 2 == 0 ? 0 : key;
+        IDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(0.8, true, collideEvens);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            dict.put(i, -i);
+            expected.put(i, -i);
+        }
+
+        Map<Integer, Integer> actual = new HashMap<>();
+        dict.forEach((key, value) -> {
+            assertFalse(actual.containsKey(key));
+            actual.put(key, value);
+        });
+        assertEquals(expected, actual);
+    }
 }
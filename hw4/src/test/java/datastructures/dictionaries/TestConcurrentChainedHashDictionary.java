@@ -0,0 +1,233 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.ConcurrentChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestConcurrentChainedHashDictionary extends BaseTestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new ConcurrentChainedHashDictionary<>();
+    }
+
+    /**
+     * Runs the given task on 'numThreads' threads at once (passing each its thread
+     * number) and rethrows the first error any of them hit.
+     */
+    private static void runInParallel(int numThreads, ThreadTask task) throws InterruptedException {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread[] threads = new Thread[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            int id = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    task.run(id);
+                } catch (Throwable ex) {
+                    error.compareAndSet(null, ex);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (error.get() != null) {
+            throw new AssertionError(error.get());
+        }
+    }
+
+    private interface ThreadTask {
+        void run(int id);
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testConcurrentPutsOfDisjointKeys() throws InterruptedException {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int numThreads = 8;
+        int perThread = 20000;
+
+        runInParallel(numThreads, id -> {
+            for (int i = id * perThread; i < (id + 1) * perThread; i++) {
+                dict.put(i, -i);
+            }
+        });
+
+        assertEquals(numThreads * perThread, dict.size());
+        for (int i = 0; i < numThreads * perThread; i++) {
+            assertEquals(-i, dict.get(i));
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testReadersSeeCompletedWritesDuringResize() throws InterruptedException {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int limit = 100000;
+
+        // Thread 0 inserts keys in order, publishing how far it has gotten; the other
+        // threads keep checking that every key up to that point is visible.
+        int[] progress = new int[1];
+        runInParallel(4, id -> {
+            if (id == 0) {
+                for (int i = 0; i < limit; i++) {
+                    dict.put(i, i);
+                    synchronized (progress) {
+                        progress[0] = i + 1;
+                    }
+                }
+            } else {
+                int seen = 0;
+                while (seen < limit) {
+                    synchronized (progress) {
+                        seen = progress[0];
+                    }
+                    for (int i = Math.max(0, seen - 100); i < seen; i++) {
+                        assertTrue(dict.containsKey(i));
+                        assertEquals(i, dict.get(i));
+                    }
+                }
+            }
+        });
+        assertEquals(limit, dict.size());
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testConcurrentPutsAndRemovesOfSharedKeys() throws InterruptedException {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int numThreads = 8;
+        int numKeys = 1000;
+
+        runInParallel(numThreads, id -> {
+            for (int round = 0; round < 50; round++) {
+                for (int i = id; i < numKeys; i += numThreads) {
+                    dict.put(i, id);
+                }
+                for (int i = id; i < numKeys; i += numThreads) {
+                    assertEquals(id, dict.remove(i));
+                }
+            }
+            for (int i = id; i < numKeys; i += numThreads) {
+                dict.put(i, i);
+            }
+        });
+
+        assertEquals(numKeys, dict.size());
+        for (int i = 0; i < numKeys; i++) {
+            assertEquals(i, dict.get(i));
+        }
+        assertFalse(dict.containsKey(numKeys));
+        assertNull(dict.getOrDefault(numKeys, null));
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testConcurrentMergeIsAtomic() throws InterruptedException {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int numThreads = 8;
+        int numKeys = 4;
+        int perThread = 20000;
+
+        // Every thread adds 1 to the same few keys, so any lost update shows up in the totals.
+        runInParallel(numThreads, id -> {
+            for (int i = 0; i < perThread; i++) {
+                dict.merge(i % numKeys, 1, Integer::sum);
+            }
+        });
+
+        assertEquals(numKeys, dict.size());
+        for (int key = 0; key < numKeys; key++) {
+            assertEquals(numThreads * perThread / numKeys, dict.get(key));
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testConcurrentComputeIsAtomic() throws InterruptedException {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int numThreads = 8;
+        int numKeys = 4;
+        int perThread = 20000;
+
+        runInParallel(numThreads, id -> {
+            for (int i = 0; i < perThread; i++) {
+                dict.compute(i % numKeys, (key, value) -> value == null ? 1 : value + 1);
+            }
+        });
+
+        for (int key = 0; key < numKeys; key++) {
+            assertEquals(numThreads * perThread / numKeys, dict.get(key));
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testConcurrentComputeIfAbsentCallsFunctionOnce() throws InterruptedException {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int numThreads = 8;
+        int numKeys = 5000;
+        AtomicIntegerArray calls = new AtomicIntegerArray(numKeys);
+        AtomicInteger nextValue = new AtomicInteger();
+        int[][] seen = new int[numThreads][numKeys];
+
+        // All threads race through the same keys. Each call to the function hands out a new
+        // value, so if it ran twice for a key, two threads could see different values.
+        runInParallel(numThreads, id -> {
+            for (int key = 0; key < numKeys; key++) {
+                seen[id][key] = dict.computeIfAbsent(key, k -> {
+                    calls.incrementAndGet(k);
+                    return nextValue.getAndIncrement();
+                });
+            }
+        });
+
+        assertEquals(numKeys, dict.size());
+        assertEquals(numKeys, nextValue.get());
+        for (int key = 0; key < numKeys; key++) {
+            assertEquals(1, calls.get(key));
+            for (int id = 0; id < numThreads; id++) {
+                assertEquals(dict.get(key), seen[id][key]);
+            }
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testConcurrentPutIfAbsentHasOneWinner() throws InterruptedException {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int numThreads = 8;
+        int numKeys = 5000;
+        AtomicInteger winners = new AtomicInteger();
+
+        runInParallel(numThreads, id -> {
+            for (int key = 0; key < numKeys; key++) {
+                Integer previous = dict.putIfAbsent(key, id);
+                if (previous == null) {
+                    winners.incrementAndGet();
+                } else {
+                    assertEquals(dict.get(key), previous);
+                }
+            }
+        });
+
+        assertEquals(numKeys, winners.get());
+        assertEquals(numKeys, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidLoadFactorThrowsException() {
+        for (double lambda : new double[] {0.0, -1.0, Double.NaN}) {
+            try {
+                new ConcurrentChainedHashDictionary<String, String>(lambda, 4);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.KVPair;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Re-runs every ChainedHashDictionary test with incremental resizing turned on.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestIncrementalChainedHashDictionary extends TestChainedHashDictionary {
+    @Override
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new ChainedHashDictionary<>(0.8, true);
+    }
+
+    @Test(timeout=SECOND)
+    public void testOperationsDuringResize() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+
+        // The 14th put pushes the load factor past 0.8 and starts a resize.
+        for (int i = 0; i < 14; i++) {
+            dict.put(i, i);
+        }
+        assertNotNull(getField(dict, "oldChains"));
+
+        for (int i = 0; i < 14; i++) {
+            assertTrue(dict.containsKey(i));
+            assertEquals(i, dict.get(i));
+        }
+        dict.put(3, -3);
+        assertEquals(-3, dict.get(3));
+        assertEquals(-3, dict.remove(3));
+        assertFalse(dict.containsKey(3));
+        assertEquals(13, dict.size());
+
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertEquals(pair.getKey(), pair.getValue());
+            count++;
+        }
+        assertEquals(13, count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testResizeEventuallyFinishes() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 14; i++) {
+            dict.put(i, i);
+        }
+        assertNotNull(getField(dict, "oldChains"));
+
+        // The old table has 16 buckets, so two more puts move all of them.
+        dict.put(100, 100);
+        dict.put(101, 101);
+        assertNull(getField(dict, "oldChains"));
+        for (int i = 0; i < 14; i++) {
+            assertEquals(i, dict.get(i));
+        }
+    }
+}
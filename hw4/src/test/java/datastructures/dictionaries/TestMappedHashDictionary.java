@@ -0,0 +1,230 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.KVPair;
+import datastructures.concrete.dictionaries.MappedHashDictionary;
+import datastructures.interfaces.Codec;
+import datastructures.interfaces.IDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * MappedHashDictionary needs a file and a Codec for its keys and values, so it can't run
+ * the generic BaseTestDictionary tests; these tests cover the same ground using string and
+ * integer keys, plus reopening files.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestMappedHashDictionary extends BaseTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String newFilename() {
+        return new File(this.folder.getRoot(), "dict" + System.nanoTime()).getPath();
+    }
+
+    private MappedHashDictionary<String, String> open(String filename) {
+        return new MappedHashDictionary<>(filename, Codec.strings(), Codec.strings());
+    }
+
+    @Test(timeout=SECOND)
+    public void testBasicPutGetRemove() {
+        MappedHashDictionary<String, String> dict = this.open(this.newFilename());
+        dict.put("keyA", "valA");
+        dict.put("keyB", "valB");
+        dict.put("keyC", "valC");
+
+        assertEquals(3, dict.size());
+        assertEquals("valB", dict.get("keyB"));
+        assertTrue(dict.containsKey("keyC"));
+        assertFalse(dict.containsKey("keyD"));
+        assertEquals("none", dict.getOrDefault("keyD", "none"));
+
+        assertEquals("valA", dict.remove("keyA"));
+        assertEquals(2, dict.size());
+        assertFalse(dict.containsKey("keyA"));
+        try {
+            dict.get("keyA");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+        try {
+            dict.remove("keyA");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+        dict.close();
+    }
+
+    @Test(timeout=SECOND)
+    public void testOverwriteWithDifferentLengths() {
+        MappedHashDictionary<String, String> dict = this.open(this.newFilename());
+        dict.put("a", "123");
+        dict.put("a", "456");
+        assertEquals("456", dict.get("a"));
+        dict.put("a", "a much longer value");
+        assertEquals("a much longer value", dict.get("a"));
+        dict.put("a", "");
+        assertEquals("", dict.get("a"));
+        dict.put("a", null);
+        assertNull(dict.get("a"));
+        assertTrue(dict.containsKey("a"));
+        assertEquals(1, dict.size());
+        dict.close();
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullKey() {
+        MappedHashDictionary<String, String> dict = this.open(this.newFilename());
+        try {
+            dict.put(null, "a");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        dict.close();
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testManyKeysMatchHashDictionary() {
+        MappedHashDictionary<Integer, Integer> dict = new MappedHashDictionary<>(
+                this.newFilename(), Codec.integers(), Codec.integers());
+        IDictionary<Integer, Integer> expected = new ChainedHashDictionary<>();
+        Random rand = new Random(373);
+        for (int i = 0; i < 50000; i++) {
+            int key = rand.nextInt(20000);
+            if (rand.nextInt(4) == 0 && expected.containsKey(key)) {
+                assertEquals(expected.remove(key), dict.remove(key));
+            } else {
+                expected.put(key, i);
+                dict.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), dict.size());
+        for (int key = 0; key < 20000; key++) {
+            assertEquals(expected.getOrDefault(key, -1), dict.getOrDefault(key, -1));
+        }
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertEquals(expected.get(pair.getKey()), pair.getValue());
+            count++;
+        }
+        assertEquals(expected.size(), count);
+        dict.close();
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testReopenExistingFile() {
+        String filename = this.newFilename();
+        MappedHashDictionary<String, String> dict = this.open(filename);
+        for (int i = 0; i < 5000; i++) {
+            dict.put("key" + i, "value" + i);
+        }
+        for (int i = 0; i < 5000; i += 2) {
+            dict.remove("key" + i);
+        }
+        dict.force();
+        dict.close();
+
+        MappedHashDictionary<String, String> reopened = this.open(filename);
+        assertEquals(2500, reopened.size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 2 == 1, reopened.containsKey("key" + i));
+        }
+        assertEquals("value4999", reopened.get("key4999"));
+
+        // The reopened dictionary should keep working, including growing further.
+        for (int i = 5000; i < 10000; i++) {
+            reopened.put("key" + i, "value" + i);
+        }
+        reopened.close();
+
+        reopened = this.open(filename);
+        assertEquals(7500, reopened.size());
+        assertEquals("value9999", reopened.get("key9999"));
+        reopened.close();
+    }
+
+    @Test(timeout=SECOND)
+    public void testRejectsOtherFiles() throws IOException {
+        String filename = this.newFilename();
+        try (PrintWriter writer = new PrintWriter(filename)) {
+            writer.println("this is not a dictionary");
+        }
+        try {
+            this.open(filename);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testOverwritesDoNotGrowFileForever() {
+        String filename = this.newFilename();
+        MappedHashDictionary<String, String> dict = this.open(filename);
+        for (int i = 0; i < 100; i++) {
+            dict.put("key" + i, "v");
+        }
+        long startLength = new File(filename).length();
+
+        // Every overwrite changes the value's length, so each one leaves a dead record behind.
+        Random rand = new Random(3);
+        long maxLength = 0;
+        for (int round = 0; round < 200000; round++) {
+            int key = rand.nextInt(100);
+            dict.put("key" + key, "value" + "xxxxxxxxxx".substring(round % 10));
+            maxLength = Math.max(maxLength, new File(filename).length());
+        }
+        assertEquals(100, dict.size());
+        assertTrue("File grew to " + maxLength + " bytes", maxLength <= 8 * startLength);
+        dict.close();
+
+        // The dead-byte count survives reopening, and the data is intact.
+        MappedHashDictionary<String, String> reopened = this.open(filename);
+        assertEquals(100, reopened.size());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(reopened.get("key" + i).startsWith("value"));
+        }
+        reopened.close();
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testRemoveAndReAddDoesNotGrowFileForever() {
+        String filename = this.newFilename();
+        MappedHashDictionary<String, String> dict = this.open(filename);
+        for (int i = 0; i < 100; i++) {
+            dict.put("key" + i, "value" + i);
+        }
+        long startLength = new File(filename).length();
+
+        for (int round = 0; round < 100000; round++) {
+            String key = "key" + (round % 100);
+            assertEquals("value" + (round % 100), dict.remove(key));
+            dict.put(key, "value" + (round % 100));
+            assertTrue(new File(filename).length() <= 8 * startLength);
+        }
+        assertEquals(100, dict.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("value" + i, dict.get("key" + i));
+        }
+        dict.close();
+    }
+}
@@ -1,9 +1,10 @@
 package datastructures.concrete;
 
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
-import datastructures.interfaces.IDictionary;
+import datastructures.concrete.dictionaries.ObjectIntDictionary;
 import datastructures.interfaces.IDisjointSet;
 
+import java.util.Arrays;
+
 /**
  * @see IDisjointSet for more details.
  */
@@ -15,26 +16,51 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
     // However, feel free to add more fields and private helper methods.
     // You will probably need to add one or two more fields in order to
     // successfully implement this class.
-    IDictionary<T, Integer> map;
+    ObjectIntDictionary<T> map;
     int size;
 
     public ArrayDisjointSet() {
-        map = new ChainedHashDictionary<>();
-        pointers = new int[10];
+        this(10);
+    }
+
+    /**
+     * Creates a disjoint set that can hold 'expectedSize' items without resizing.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public ArrayDisjointSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        map = ObjectIntDictionary.withExpectedSize(expectedSize);
+        // Keep at least one slot so that doubling the array always makes room.
+        pointers = new int[Math.max(expectedSize, 1)];
         size = 0;
     }
 
+    /**
+     * Grows the disjoint set, if needed, so that it can hold 'expectedSize' items without
+     * resizing again. Useful before calling 'makeSet' many times.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public void ensureCapacity(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (expectedSize > pointers.length) {
+            pointers = Arrays.copyOf(pointers, expectedSize);
+        }
+        map.ensureCapacity(expectedSize);
+    }
+
     @Override
     public void makeSet(T item) {
         if (map.containsKey(item)){
             throw new IllegalArgumentException();
         }
         if (size == pointers.length){
-            int[] temp = new int[2 * size];
-            for (int i = 0; i < size; i++){
-                temp[i] = pointers[i];
-            }
-            pointers = temp;
+            pointers = Arrays.copyOf(pointers, 2 * size);
         }
         pointers[size] = -1;
         map.put(item, size);
@@ -43,10 +69,10 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
 
     @Override
     public int findSet(T item) {
-        if (!map.containsKey(item)){
+        int index = map.getOrDefault(item, -1);
+        if (index == -1) {
             throw new IllegalArgumentException();
         }
-        int index = map.get(item);
         int oldIndex = index;
         while (pointers[index] >= 0){
             index = pointers[index];
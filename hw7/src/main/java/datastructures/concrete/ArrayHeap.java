@@ -1,7 +1,6 @@
 package datastructures.concrete;
 
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
-import datastructures.interfaces.IDictionary;
+import datastructures.concrete.dictionaries.ObjectIntDictionary;
 import datastructures.interfaces.IPriorityQueue;
 import misc.exceptions.EmptyContainerException;
 import misc.exceptions.InvalidElementException;
@@ -18,18 +17,59 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
     // our private tests.
     private T[] heap;
 
-    private IDictionary<T, Integer> dict;
+    // Maps each element to its index in 'heap'. Uses an ObjectIntDictionary so that
+    // 'swap' doesn't box a new Integer for every move.
+    private ObjectIntDictionary<T> dict;
     private int size;
     private int capacity;
     // Feel free to add more fields and constants.
 
     public ArrayHeap() {
-        dict = new ChainedHashDictionary<T, Integer>();
+        this(10);
+    }
+
+    /**
+     * Creates a heap that can hold 'expectedSize' items without resizing.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public ArrayHeap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        dict = ObjectIntDictionary.withExpectedSize(expectedSize);
         size = 0;
-        capacity = 10;
+        // Keep at least one slot so that doubling the capacity always makes room.
+        capacity = Math.max(expectedSize, 1);
         heap = makeArrayOfT(capacity);
     }
 
+    /**
+     * Grows the heap, if needed, so that it can hold 'expectedSize' items without
+     * resizing again. Useful before adding many items at once.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public void ensureCapacity(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (expectedSize > capacity) {
+            resize(expectedSize);
+        }
+        dict.ensureCapacity(expectedSize);
+    }
+
+    /**
+     * Copies the heap into a new array with the given capacity.
+     */
+    private void resize(int newCapacity) {
+        capacity = newCapacity;
+        T[] temp = makeArrayOfT(capacity);
+        System.arraycopy(heap, 0, temp, 0, size);
+        heap = temp;
+    }
+
     /**
      * This method will return a new, empty array of the given size
      * that can contain elements of type T.
@@ -141,12 +181,7 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
         }
 
         if (size == capacity) {
-            capacity *= 2;
-            T[] temp = makeArrayOfT(capacity);
-            for (int i = 0; i < size; i++) {
-                temp[i] = heap[i];
-            }
-            heap = temp;
+            resize(capacity * 2);
         }
         heap[size] = item;
         dict.put(item, size);
@@ -0,0 +1,176 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A list backed by a growable array. Unlike DoubleLinkedList, 'get' and 'set' take constant
+ * time, and 'add' and 'remove' take amortized constant time. In exchange, 'insert' and
+ * 'delete' have to shift every element after the given index.
+ *
+ * @see datastructures.interfaces.IList for details on what each method must do.
+ */
+public class ArrayList<T> implements IList<T> {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private T[] array;
+    private int size;
+
+    public ArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a list that can hold 'expectedSize' items without resizing.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public ArrayList(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        // Keep at least one slot so that doubling the capacity always makes room.
+        this.array = makeArrayOfT(Math.max(expectedSize, 1));
+        this.size = 0;
+    }
+
+    /**
+     * Grows the list, if needed, so that it can hold 'expectedSize' items without resizing
+     * again. Useful before adding many items at once.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public void ensureCapacity(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (expectedSize > this.array.length) {
+            this.array = Arrays.copyOf(this.array, expectedSize);
+        }
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain elements of type T.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] makeArrayOfT(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    @Override
+    public void add(T item) {
+        if (this.size == this.array.length) {
+            this.array = Arrays.copyOf(this.array, 2 * this.size);
+        }
+        this.array[this.size] = item;
+        this.size++;
+    }
+
+    @Override
+    public T remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        this.size--;
+        T item = this.array[this.size];
+        // Clear the slot so the list doesn't keep the item from being garbage collected.
+        this.array[this.size] = null;
+        return item;
+    }
+
+    @Override
+    public T get(int index) {
+        this.checkIndex(index);
+        return this.array[index];
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.checkIndex(index);
+        this.array[index] = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (this.size == this.array.length) {
+            this.array = Arrays.copyOf(this.array, 2 * this.size);
+        }
+        System.arraycopy(this.array, index, this.array, index + 1, this.size - index);
+        this.array[index] = item;
+        this.size++;
+    }
+
+    @Override
+    public T delete(int index) {
+        this.checkIndex(index);
+        T item = this.array[index];
+        System.arraycopy(this.array, index + 1, this.array, index, this.size - index - 1);
+        this.size--;
+        this.array[this.size] = null;
+        return item;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    @Override
+    public int indexOf(T item) {
+        for (int i = 0; i < this.size; i++) {
+            if (item == null ? this.array[i] == null : item.equals(this.array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator<>(this);
+    }
+
+    private static class ArrayListIterator<T> implements Iterator<T> {
+        private ArrayList<T> list;
+        private int index;
+
+        public ArrayListIterator(ArrayList<T> list) {
+            this.list = list;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.list.size;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T item = this.list.array[this.index];
+            this.index++;
+            return item;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IIndexer;
+import datastructures.interfaces.ISet;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set over a dense, indexed domain, stored as a bitmap: item i of the domain is in the set
+ * exactly when bit i is set. Each possible item costs one bit whether or not it is present,
+ * so this is much smaller than a ChainedHashSet once a good fraction of the domain is in the
+ * set. Once an item's index is known, adding, removing and testing it is a single bit
+ * operation.
+ *
+ * Bulk operations between two BitSetSets that share the same indexer combine whole words of
+ * 64 items at a time.
+ *
+ * Items outside the domain can't be added, but 'contains' simply returns false for them.
+ */
+public class BitSetSet<T> implements ISet<T> {
+    private final IIndexer<T> indexer;
+    private long[] words;
+    private int size;
+
+    /**
+     * Creates an empty set over the domain numbered by 'indexer'.
+     *
+     * @throws IllegalArgumentException  if 'indexer' is null
+     */
+    public BitSetSet(IIndexer<T> indexer) {
+        if (indexer == null) {
+            throw new IllegalArgumentException();
+        }
+        this.indexer = indexer;
+        this.words = new long[wordsFor(indexer.size())];
+        this.size = 0;
+    }
+
+    private BitSetSet(IIndexer<T> indexer, long[] words) {
+        this.indexer = indexer;
+        this.words = words;
+        this.size = countBits(words);
+    }
+
+    /**
+     * Returns a new set containing every item in the domain numbered by 'indexer'.
+     *
+     * @throws IllegalArgumentException  if 'indexer' is null
+     */
+    public static <T> BitSetSet<T> allOf(IIndexer<T> indexer) {
+        if (indexer == null) {
+            throw new IllegalArgumentException();
+        }
+        int domainSize = indexer.size();
+        long[] words = new long[wordsFor(domainSize)];
+        Arrays.fill(words, -1L);
+        if (domainSize % 64 != 0) {
+            // Clear the bits past the end of the domain.
+            words[words.length - 1] = (1L << domainSize) - 1;
+        }
+        return new BitSetSet<>(indexer, words);
+    }
+
+    /**
+     * Returns the indexer numbering this set's domain.
+     */
+    public IIndexer<T> getIndexer() {
+        return this.indexer;
+    }
+
+    /**
+     * @throws IllegalArgumentException  if the item is not part of this set's domain
+     */
+    @Override
+    public void add(T item) {
+        int index = this.indexer.indexOf(item);
+        if (index < 0) {
+            throw new IllegalArgumentException("Item is not part of this set's domain.");
+        }
+        int word = index >>> 6;
+        if (word >= this.words.length) {
+            // The indexer's domain grew since this set was created.
+            this.words = Arrays.copyOf(this.words, Math.max(word + 1, wordsFor(this.indexer.size())));
+        }
+        long bit = 1L << index;
+        if ((this.words[word] & bit) == 0) {
+            this.words[word] |= bit;
+            this.size++;
+        }
+    }
+
+    @Override
+    public void remove(T item) {
+        int index = this.indexer.indexOf(item);
+        if (!this.containsIndex(index)) {
+            throw new NoSuchElementException();
+        }
+        this.words[index >>> 6] &= ~(1L << index);
+        this.size--;
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return this.containsIndex(this.indexer.indexOf(item));
+    }
+
+    private boolean containsIndex(int index) {
+        int word = index >>> 6;
+        return index >= 0 && word < this.words.length && (this.words[word] & (1L << index)) != 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new BitIterator<>(this.indexer, this.words);
+    }
+
+    @Override
+    public void addAll(ISet<T> other) {
+        if (!this.sharesDomainWith(other)) {
+            ISet.super.addAll(other);
+            return;
+        }
+        long[] otherWords = ((BitSetSet<T>) other).words;
+        if (otherWords.length > this.words.length) {
+            this.words = Arrays.copyOf(this.words, otherWords.length);
+        }
+        for (int i = 0; i < otherWords.length; i++) {
+            this.words[i] |= otherWords[i];
+        }
+        this.size = countBits(this.words);
+    }
+
+    @Override
+    public void removeAll(ISet<T> other) {
+        if (!this.sharesDomainWith(other)) {
+            ISet.super.removeAll(other);
+            return;
+        }
+        long[] otherWords = ((BitSetSet<T>) other).words;
+        int shared = Math.min(this.words.length, otherWords.length);
+        for (int i = 0; i < shared; i++) {
+            this.words[i] &= ~otherWords[i];
+        }
+        this.size = countBits(this.words);
+    }
+
+    @Override
+    public void retainAll(ISet<T> other) {
+        if (!this.sharesDomainWith(other)) {
+            ISet.super.retainAll(other);
+            return;
+        }
+        long[] otherWords = ((BitSetSet<T>) other).words;
+        int shared = Math.min(this.words.length, otherWords.length);
+        for (int i = 0; i < shared; i++) {
+            this.words[i] &= otherWords[i];
+        }
+        Arrays.fill(this.words, shared, this.words.length, 0L);
+        this.size = countBits(this.words);
+    }
+
+    @Override
+    public ISet<T> difference(ISet<T> other) {
+        BitSetSet<T> result = this.copy();
+        result.removeAll(other);
+        return result;
+    }
+
+    @Override
+    public ISet<T> intersection(ISet<T> other) {
+        BitSetSet<T> result = this.copy();
+        result.retainAll(other);
+        return result;
+    }
+
+    private BitSetSet<T> copy() {
+        return new BitSetSet<>(this.indexer, Arrays.copyOf(this.words, this.words.length));
+    }
+
+    private boolean sharesDomainWith(ISet<T> other) {
+        return other instanceof BitSetSet && ((BitSetSet<T>) other).indexer == this.indexer;
+    }
+
+    private static int wordsFor(int domainSize) {
+        return (domainSize + 63) >>> 6;
+    }
+
+    private static int countBits(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static class BitIterator<T> implements Iterator<T> {
+        private final IIndexer<T> indexer;
+        private final long[] words;
+        // The word we're currently scanning, and the bits of it we haven't returned yet.
+        private int wordIndex;
+        private long remaining;
+
+        public BitIterator(IIndexer<T> indexer, long[] words) {
+            this.indexer = indexer;
+            this.words = words;
+            this.wordIndex = 0;
+            this.remaining = words.length > 0 ? words[0] : 0L;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.remaining == 0) {
+                this.wordIndex++;
+                if (this.wordIndex >= this.words.length) {
+                    return false;
+                }
+                this.remaining = this.words[this.wordIndex];
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int bit = Long.numberOfTrailingZeros(this.remaining);
+            // Clear the lowest set bit.
+            this.remaining &= this.remaining - 1;
+            return this.indexer.get((this.wordIndex << 6) + bit);
+        }
+    }
+}
@@ -2,7 +2,6 @@ package datastructures.concrete;
 
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
 import datastructures.concrete.dictionaries.KVPair;
-import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.ISet;
 
 import java.util.Iterator;
@@ -13,13 +12,36 @@ import java.util.NoSuchElementException;
  */
 public class ChainedHashSet<T> implements ISet<T> {
     // This should be the only field you need
-    private IDictionary<T, Boolean> map;
+    private ChainedHashDictionary<T, Boolean> map;
 
     public ChainedHashSet() {
         // No need to change this method
         this.map = new ChainedHashDictionary<>();
     }
 
+    /**
+     * Creates a set that can hold 'expectedSize' items without resizing.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public ChainedHashSet(int expectedSize) {
+        this.map = ChainedHashDictionary.withExpectedSize(expectedSize);
+    }
+
+    /**
+     * Grows the set, if needed, so that it can hold 'expectedSize' items without resizing
+     * again. Useful before adding many items at once.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public void ensureCapacity(int expectedSize) {
+        map.ensureCapacity(expectedSize);
+    }
+
+    private ChainedHashSet(ChainedHashDictionary<T, Boolean> map) {
+        this.map = map;
+    }
+
     @Override
     public void add(T item) {
         map.put(item, true);
@@ -52,6 +74,68 @@ public class ChainedHashSet<T> implements ISet<T> {
         return new SetIterator<>(this.map.iterator());
     }
 
+    // The bulk operations below hand the work to ChainedHashDictionary when 'other' is also
+    // a ChainedHashSet, which lets it go bucket by bucket when the two tables line up.
+
+    @Override
+    public void addAll(ISet<T> other) {
+        if (other instanceof ChainedHashSet) {
+            map.putAll(((ChainedHashSet<T>) other).map);
+        } else {
+            ISet.super.addAll(other);
+        }
+    }
+
+    @Override
+    public void removeAll(ISet<T> other) {
+        if (other instanceof ChainedHashSet) {
+            map.removeAll(((ChainedHashSet<T>) other).map);
+        } else {
+            ISet.super.removeAll(other);
+        }
+    }
+
+    @Override
+    public void retainAll(ISet<T> other) {
+        if (other instanceof ChainedHashSet) {
+            map.retainAll(((ChainedHashSet<T>) other).map);
+        } else {
+            ISet.super.retainAll(other);
+        }
+    }
+
+    @Override
+    public ISet<T> difference(ISet<T> other) {
+        if (other instanceof ChainedHashSet) {
+            return new ChainedHashSet<>(map.difference(((ChainedHashSet<T>) other).map));
+        }
+        ChainedHashSet<T> output = new ChainedHashSet<>(this.size());
+        for (T item : this) {
+            if (!other.contains(item)) {
+                output.add(item);
+            }
+        }
+        return output;
+    }
+
+    @Override
+    public ISet<T> intersection(ISet<T> other) {
+        // Walk the smaller of the two sets, checking each item against the larger.
+        ISet<T> smaller = other.size() < this.size() ? other : this;
+        ISet<T> larger = smaller == this ? other : this;
+        if (other instanceof ChainedHashSet) {
+            return new ChainedHashSet<>(((ChainedHashSet<T>) smaller).map.intersection(
+                    ((ChainedHashSet<T>) larger).map));
+        }
+        ChainedHashSet<T> output = new ChainedHashSet<>(smaller.size());
+        for (T item : smaller) {
+            if (larger.contains(item)) {
+                output.add(item);
+            }
+        }
+        return output;
+    }
+
     private static class SetIterator<T> implements Iterator<T> {
         // This should be the only field you need
         private Iterator<KVPair<T, Boolean>> iter;
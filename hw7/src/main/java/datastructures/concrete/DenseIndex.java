@@ -0,0 +1,56 @@
+package datastructures.concrete;
+
+import datastructures.concrete.dictionaries.ObjectIntDictionary;
+import datastructures.interfaces.IIndexer;
+import datastructures.interfaces.ISet;
+
+/**
+ * Numbers the items of a set in iteration order. The numbering is fixed when the index is
+ * constructed: items added to the set afterwards are not part of the index.
+ *
+ * @see IIndexer for more details.
+ */
+public class DenseIndex<T> implements IIndexer<T> {
+    private ObjectIntDictionary<T> indices;
+    private T[] items;
+
+    /**
+     * @throws IllegalArgumentException  if 'items' is null
+     */
+    public DenseIndex(ISet<T> items) {
+        if (items == null) {
+            throw new IllegalArgumentException();
+        }
+        this.indices = ObjectIntDictionary.withExpectedSize(items.size());
+        this.items = makeArrayOfItems(items.size());
+        int index = 0;
+        for (T item : items) {
+            this.indices.put(item, index);
+            this.items[index] = item;
+            index++;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] makeArrayOfItems(int size) {
+        return (T[]) new Object[size];
+    }
+
+    @Override
+    public int indexOf(T item) {
+        return this.indices.getOrDefault(item, -1);
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= this.items.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        return this.items[index];
+    }
+
+    @Override
+    public int size() {
+        return this.items.length;
+    }
+}
@@ -1,7 +1,6 @@
 package datastructures.concrete;
 
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
-import datastructures.concrete.dictionaries.KVPair;
+import datastructures.concrete.dictionaries.LinearProbingDictionary;
 import datastructures.interfaces.IEdge;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.IDictionary;
@@ -73,24 +72,34 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
      * @throws IllegalArgumentException if 'vertices' contains duplicates
      */
     public Graph(IList<V> vertices, IList<E> edges) {
+        if (vertices == null || edges == null) {
+            throw new IllegalArgumentException();
+        }
         this.edges = edges;
-        graph = new ChainedHashDictionary<>();
+        // Size everything up front so building a large graph doesn't go through a long
+        // series of resizes. Each edge appears in the adjacency sets of both its vertices.
+        graph = LinearProbingDictionary.withExpectedSize(vertices.size());
+        int averageDegree = 0;
+        if (!vertices.isEmpty()) {
+            averageDegree = (int) Math.min(2L * edges.size() / vertices.size(), Integer.MAX_VALUE);
+        }
         for (V vertex : vertices){
-            if (vertex == null || graph.containsKey(vertex)){
+            if (vertex == null || graph.putIfAbsent(vertex, new ChainedHashSet<>(averageDegree)) != null){
                 throw new IllegalArgumentException();
             }
-            graph.put(vertex, new ChainedHashSet<>());
         }
         for (E edge : edges){
             if (edge == null || edge.getVertex1() == null || edge.getVertex2() == null){
                 throw new IllegalArgumentException();
             }
-            if (edge.getWeight() < 0 || !graph.containsKey(edge.getVertex1()) || !graph.containsKey(edge.getVertex2())){
+            ISet<E> adjacent1 = graph.getOrDefault(edge.getVertex1(), null);
+            ISet<E> adjacent2 = graph.getOrDefault(edge.getVertex2(), null);
+            if (edge.getWeight() < 0 || adjacent1 == null || adjacent2 == null){
                 throw new IllegalArgumentException();
             }
             numEdges++;
-            graph.get(edge.getVertex1()).add(edge);
-            graph.get(edge.getVertex2()).add(edge);
+            adjacent1.add(edge);
+            adjacent2.add(edge);
         }
     }
 
@@ -115,7 +124,7 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
         if (set == null) {
             throw new IllegalArgumentException();
         }
-        IList<T> output = new DoubleLinkedList<>();
+        IList<T> output = new ArrayList<>(set.size());
         for (T item : set) {
             output.add(item);
         }
@@ -145,11 +154,10 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
      * Precondition: the graph does not contain any unconnected components.
      */
     public ISet<E> findMinimumSpanningTree() {
-        ISet<E> mst = new ChainedHashSet<>();
-        IDisjointSet<V> included = new ArrayDisjointSet<>();
-        for (KVPair<V, ISet<E>> kv : graph) {
-            included.makeSet(kv.getKey());
-        }
+        // A spanning tree has one fewer edge than there are vertices.
+        ISet<E> mst = new ChainedHashSet<>(Math.max(graph.size() - 1, 0));
+        IDisjointSet<V> included = new ArrayDisjointSet<>(graph.size());
+        graph.forEach((vertex, adjacent) -> included.makeSet(vertex));
         Sorter sort = new Sorter();
         edges = sort.topKSort(numEdges, edges);
         for (E edge : edges) {
@@ -182,11 +190,9 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
         if (start.equals(end)) {
             return output;
         }
-        IDictionary<V, ComparableVertex> vertices = new ChainedHashDictionary<>();
-        IPriorityQueue<ComparableVertex<V, E>> queue = new ArrayHeap<>();
-        for (KVPair<V, ISet<E>> kv : graph) {
-            vertices.put(kv.getKey(), new ComparableVertex<>(kv.getKey()));
-        }
+        IDictionary<V, ComparableVertex> vertices = LinearProbingDictionary.withExpectedSize(graph.size());
+        IPriorityQueue<ComparableVertex<V, E>> queue = new ArrayHeap<>(graph.size());
+        graph.forEach((vertex, adjacent) -> vertices.put(vertex, new ComparableVertex<>(vertex)));
         vertices.get(start).distance = 0.00;
 
 
@@ -6,8 +6,16 @@ import misc.exceptions.NoSuchKeyException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
+ * Each key's hash code is cached in a parallel array, so a lookup compares ints and only
+ * calls 'equals' when the hash codes match. That matters most as a ChainedHashDictionary
+ * chain, where the keys in a bucket often share the low bits of their hash codes but rarely
+ * the whole thing.
+ *
  * @see datastructures.interfaces.IDictionary
  */
 public class ArrayDictionary<K, V> implements IDictionary<K, V> {
@@ -17,8 +25,12 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
     private int size;
     // You may add extra fields or helper methods though!
 
+    // hashes[i] is the hash code of pairs[i].key.
+    private int[] hashes;
+
     public ArrayDictionary() {
         pairs = makeArrayOfPairs(10);
+        hashes = new int[10];
         this.size = 0;
     }
 
@@ -59,16 +71,69 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
         if (index != -1){
             pairs[index].value = value;
         } else {
-            if (this.size == pairs.length) {
-                Pair<K, V>[] temp = new Pair[this.size * 2];
-                for (int i = 0; i < size; i++){
-                    temp[i] = pairs[i];
-                }
-                pairs = temp;
+            append(key, value);
+        }
+    }
+
+    // Adds a pair for a key that is not already in the dictionary
+    private void append(K key, V value) {
+        if (this.size == pairs.length) {
+            Pair<K, V>[] temp = new Pair[this.size * 2];
+            int[] tempHashes = new int[this.size * 2];
+            for (int i = 0; i < size; i++){
+                temp[i] = pairs[i];
+                tempHashes[i] = hashes[i];
             }
-            pairs[this.size] = new Pair<>(key, value);
-            this.size++;
+            pairs = temp;
+            hashes = tempHashes;
         }
+        pairs[this.size] = new Pair<>(key, value);
+        hashes[this.size] = Objects.hashCode(key);
+        this.size++;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        int index = indexOf(key);
+        if (index != -1) {
+            return pairs[index].value;
+        }
+        append(key, value);
+        return null;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        int index = indexOf(key);
+        if (index != -1) {
+            return pairs[index].value;
+        }
+        V value = mappingFunction.apply(key);
+        append(key, value);
+        return value;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int index = indexOf(key);
+        if (index != -1) {
+            pairs[index].value = remappingFunction.apply(key, pairs[index].value);
+            return pairs[index].value;
+        }
+        V value = remappingFunction.apply(key, null);
+        append(key, value);
+        return value;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        int index = indexOf(key);
+        if (index != -1) {
+            pairs[index].value = remappingFunction.apply(pairs[index].value, value);
+            return pairs[index].value;
+        }
+        append(key, value);
+        return value;
     }
 
     @Override
@@ -81,6 +146,7 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
         if (index != this.size - 1) {
             data = pairs[index].value;
             pairs[index] = pairs[this.size - 1];
+            hashes[index] = hashes[this.size - 1];
         } else {
             data = pairs[this.size - 1].value;
         }
@@ -95,8 +161,9 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
 
     // Returns the index of the passed in key, if found, and returns -1 otherwise
     private int indexOf(K key){
+        int hash = Objects.hashCode(key);
         for (int i = 0; i < size; i++){
-            if (Objects.equals(key, pairs[i].key)){
+            if (hashes[i] == hash && Objects.equals(key, pairs[i].key)){
                 return i;
             }
         }
@@ -108,13 +175,16 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
         return this.size;
     }
 
+    @Override
     public Iterator<KVPair<K, V>> iterator() {
-        KVPair<K, V>[] kvs = new KVPair[size];
+        return new ArrayDictionaryIterator<K, V>(pairs, size);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
         for (int i = 0; i < size; i++) {
-            kvs[i] = new KVPair(pairs[i].key, pairs[i].value);
+            action.accept(pairs[i].key, pairs[i].value);
         }
-
-        return new ArrayDictionaryIterator<K, V>(kvs);
     }
 
     private static class Pair<K, V> {
@@ -135,15 +205,14 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
     }
 
     private static class ArrayDictionaryIterator<K, V> implements Iterator<KVPair<K, V>> {
-        // Add any fields you need to store state information
-        private KVPair<K, V>[] pairs;
+        private Pair<K, V>[] pairs;
         private int current;
         private int size;
 
-        public ArrayDictionaryIterator(KVPair<K, V>[] input) {
-            current = 0;
-            pairs = input;
-            size = pairs.length;
+        public ArrayDictionaryIterator(Pair<K, V>[] pairs, int size) {
+            this.current = 0;
+            this.pairs = pairs;
+            this.size = size;
         }
 
         public boolean hasNext() {
@@ -155,7 +224,7 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
                 throw new NoSuchElementException();
             }
             current++;
-            return pairs[current - 1];
+            return new KVPair<>(pairs[current - 1].key, pairs[current - 1].value);
         }
     }
 }
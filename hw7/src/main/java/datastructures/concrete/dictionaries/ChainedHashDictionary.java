@@ -5,11 +5,16 @@ import misc.exceptions.NoSuchKeyException;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * @see IDictionary and the assignment page for more details on what each method should do
  */
 public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
+    private static final int DEFAULT_CAPACITY = 10;
+
     private final double lambda;
     private int capacity;
     private int size;
@@ -21,10 +26,38 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
     }
 
     public ChainedHashDictionary(double lambda) {
+        this(lambda, 0);
+    }
+
+    /**
+     * Returns an empty dictionary with the default load factor that can hold 'expectedSize'
+     * keys without resizing.
+     *
+     * This is a factory rather than an 'int' constructor so that it can't be mixed up with
+     * 'ChainedHashDictionary(double lambda)', where '(1)' and '(1.0)' would mean very different things.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public static <K, V> ChainedHashDictionary<K, V> withExpectedSize(int expectedSize) {
+        return new ChainedHashDictionary<>(0.8, expectedSize);
+    }
+
+    /**
+     * Creates a dictionary that keeps its load factor at or below 'lambda' and can hold
+     * 'expectedSize' keys without resizing. Since each bucket is a chain, 'lambda' may be
+     * more than 1.
+     *
+     * @throws IllegalArgumentException if 'lambda' is not positive
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public ChainedHashDictionary(double lambda, int expectedSize) {
+        if (!(lambda > 0)) {
+            throw new IllegalArgumentException();
+        }
         this.lambda = lambda;
-        this.capacity = 10;
+        this.capacity = capacityFor(expectedSize);
         this.size = 0;
-        this.chains = new IDictionary[capacity];
+        this.chains = makeArrayOfChains(capacity);
     }
 
     /**
@@ -41,6 +74,33 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         return (IDictionary<K, V>[]) new IDictionary[arraySize];
     }
 
+    /**
+     * Returns the capacity needed to hold 'expectedSize' keys without resizing.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    private int capacityFor(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        // We resize before a put once size / capacity reaches lambda, so the last of the
+        // 'expectedSize' puts needs (expectedSize - 1) / capacity < lambda.
+        return Math.max(DEFAULT_CAPACITY, (int) (expectedSize / lambda + 1));
+    }
+
+    /**
+     * Grows the table, if needed, so that it can hold 'expectedSize' keys without
+     * resizing again. Useful before adding many keys at once.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public void ensureCapacity(int expectedSize) {
+        int newCapacity = capacityFor(expectedSize);
+        if (newCapacity > capacity) {
+            rehash(newCapacity);
+        }
+    }
+
     private int getIndex(K key) {
         if (key == null){
             return 0;
@@ -62,17 +122,20 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
 
     @Override
     public void put(K key, V value) {
+        IDictionary<K, V> chain = chainFor(key);
+        int oldSize = chain.size();
+        chain.put(key, value);
+        // The chain only grows if the key was new, so there's no need to check first.
+        size += chain.size() - oldSize;
+    }
+
+    /**
+     * Resizes the table if it's too full, then returns the chain the given key belongs in,
+     * creating it if it doesn't exist yet. Only call this when about to add to the chain.
+     */
+    private IDictionary<K, V> chainFor(K key) {
         if ((double) size / capacity >= lambda) {
-            capacity *= 2;
-            IDictionary<K, V>[] tempChain = makeArrayOfChains(capacity);
-            for (int i = 0; i < capacity / 2; i++) {
-                if (chains[i] != null) {
-                    for (KVPair<K, V> kv : chains[i]) {
-                        putHelper(kv, tempChain);
-                    }
-                }
-            }
-            chains = tempChain;
+            rehash(capacity * 2);
         }
 
         int index = 0;
@@ -81,15 +144,60 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         }
         if (chains[index] == null) {
             chains[index] = new ArrayDictionary<K, V>();
-            chains[index].put(key, value);
         }
-        else {
-            if (chains[index].containsKey(key)) {
-                size--;
+        return chains[index];
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        IDictionary<K, V> chain = chainFor(key);
+        int oldSize = chain.size();
+        V result = chain.putIfAbsent(key, value);
+        size += chain.size() - oldSize;
+        return result;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        IDictionary<K, V> chain = chainFor(key);
+        int oldSize = chain.size();
+        V result = chain.computeIfAbsent(key, mappingFunction);
+        size += chain.size() - oldSize;
+        return result;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        IDictionary<K, V> chain = chainFor(key);
+        int oldSize = chain.size();
+        V result = chain.compute(key, remappingFunction);
+        size += chain.size() - oldSize;
+        return result;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        IDictionary<K, V> chain = chainFor(key);
+        int oldSize = chain.size();
+        V result = chain.merge(key, value, remappingFunction);
+        size += chain.size() - oldSize;
+        return result;
+    }
+
+    /**
+     * Moves every pair into a new table with the given capacity.
+     */
+    private void rehash(int newCapacity) {
+        IDictionary<K, V>[] oldChains = chains;
+        capacity = newCapacity;
+        chains = makeArrayOfChains(capacity);
+        for (IDictionary<K, V> chain : oldChains) {
+            if (chain != null) {
+                for (KVPair<K, V> kv : chain) {
+                    putHelper(kv, chains);
+                }
             }
-            chains[index].put(key, value);
         }
-        size++;
     }
 
     private void putHelper(KVPair<K, V> kv, IDictionary<K, V>[]tempChains) {
@@ -136,6 +244,170 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         return new ChainedIterator<>(this.chains);
     }
 
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (IDictionary<K, V> chain : chains) {
+            if (chain != null) {
+                chain.forEach(action);
+            }
+        }
+    }
+
+    /**
+     * Puts every pair in 'other' into this dictionary, as though by calling 'put' on each.
+     *
+     * If 'other' is a ChainedHashDictionary with the same capacity as this one, each of its
+     * buckets lines up with the same bucket here, so the pairs are copied over bucket by
+     * bucket without hashing any keys.
+     */
+    public void putAll(IDictionary<K, V> other) {
+        ChainedHashDictionary<K, V> aligned = alignedWith(other);
+        if (aligned == null || size + other.size() >= lambda * capacity) {
+            for (KVPair<K, V> pair : other) {
+                put(pair.getKey(), pair.getValue());
+            }
+            return;
+        }
+        for (int i = 0; i < capacity; i++) {
+            IDictionary<K, V> source = aligned.chains[i];
+            if (source != null) {
+                if (chains[i] == null) {
+                    chains[i] = new ArrayDictionary<>();
+                }
+                int oldSize = chains[i].size();
+                source.forEach(chains[i]::put);
+                size += chains[i].size() - oldSize;
+            }
+        }
+    }
+
+    /**
+     * Removes every key that 'other' contains from this dictionary. Keys of 'other' that
+     * aren't in this dictionary are ignored.
+     *
+     * Works bucket by bucket if 'other' is a ChainedHashDictionary with the same capacity;
+     * otherwise walks whichever of the two dictionaries is smaller.
+     */
+    public void removeAll(IDictionary<K, ?> other) {
+        ChainedHashDictionary<K, ?> aligned = alignedWith(other);
+        if (aligned == null && other.size() < size) {
+            for (KVPair<K, ?> pair : other) {
+                if (containsKey(pair.getKey())) {
+                    remove(pair.getKey());
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < capacity; i++) {
+            if (chains[i] != null) {
+                filterBucket(i, aligned == null ? other : aligned.chains[i], false);
+            }
+        }
+    }
+
+    /**
+     * Removes every key from this dictionary that 'other' does not contain.
+     *
+     * Works bucket by bucket if 'other' is a ChainedHashDictionary with the same capacity.
+     */
+    public void retainAll(IDictionary<K, ?> other) {
+        ChainedHashDictionary<K, ?> aligned = alignedWith(other);
+        for (int i = 0; i < capacity; i++) {
+            if (chains[i] != null) {
+                filterBucket(i, aligned == null ? other : aligned.chains[i], true);
+            }
+        }
+    }
+
+    /**
+     * Returns a new dictionary containing the pairs of this one whose keys 'other' does
+     * not contain. Neither dictionary is modified.
+     */
+    public ChainedHashDictionary<K, V> difference(IDictionary<K, ?> other) {
+        return filteredCopy(other, false);
+    }
+
+    /**
+     * Returns a new dictionary containing the pairs of this one whose keys 'other' also
+     * contains. Neither dictionary is modified.
+     */
+    public ChainedHashDictionary<K, V> intersection(IDictionary<K, ?> other) {
+        return filteredCopy(other, true);
+    }
+
+    /**
+     * Returns 'other' if it is a ChainedHashDictionary with the same capacity as this one,
+     * which means every key falls in the same bucket in both, and null otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    private <W> ChainedHashDictionary<K, W> alignedWith(IDictionary<K, W> other) {
+        if (other instanceof ChainedHashDictionary && ((ChainedHashDictionary<K, W>) other).capacity == capacity) {
+            return (ChainedHashDictionary<K, W>) other;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a new dictionary, with the same capacity as this one, containing the pairs
+     * whose keys are in 'other' if 'keepShared' is true, or not in 'other' if it is false.
+     */
+    private ChainedHashDictionary<K, V> filteredCopy(IDictionary<K, ?> other, boolean keepShared) {
+        ChainedHashDictionary<K, V> result = new ChainedHashDictionary<>(lambda);
+        result.capacity = capacity;
+        result.chains = makeArrayOfChains(capacity);
+        ChainedHashDictionary<K, ?> aligned = alignedWith(other);
+        for (int i = 0; i < capacity; i++) {
+            if (chains[i] != null) {
+                IDictionary<K, ?> lookup = aligned == null ? other : aligned.chains[i];
+                result.chains[i] = copyKept(chains[i], lookup, keepShared);
+                if (result.chains[i] != null) {
+                    result.size += result.chains[i].size();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the pairs in bucket 'index' whose keys are in 'lookup' (if 'keepShared' is
+     * false) or not in 'lookup' (if it is true). A null 'lookup' counts as empty.
+     */
+    private void filterBucket(int index, IDictionary<K, ?> lookup, boolean keepShared) {
+        IDictionary<K, V> chain = chains[index];
+        int kept = 0;
+        for (KVPair<K, V> pair : chain) {
+            if (keeps(lookup, pair.getKey(), keepShared)) {
+                kept++;
+            }
+        }
+        if (kept != chain.size()) {
+            size -= chain.size() - kept;
+            chains[index] = kept == 0 ? null : copyKept(chain, lookup, keepShared);
+        }
+    }
+
+    /**
+     * Returns a new chain holding the pairs of 'chain' that 'keeps' accepts, or null if
+     * there are none.
+     */
+    private static <K, V> IDictionary<K, V> copyKept(IDictionary<K, V> chain, IDictionary<K, ?> lookup,
+                                                     boolean keepShared) {
+        IDictionary<K, V> kept = null;
+        for (KVPair<K, V> pair : chain) {
+            if (keeps(lookup, pair.getKey(), keepShared)) {
+                if (kept == null) {
+                    kept = new ArrayDictionary<>();
+                }
+                kept.put(pair.getKey(), pair.getValue());
+            }
+        }
+        return kept;
+    }
+
+    private static <K> boolean keeps(IDictionary<K, ?> lookup, K key, boolean keepShared) {
+        return (lookup != null && lookup.containsKey(key)) == keepShared;
+    }
+
     /**
      * Hints:
      *
@@ -0,0 +1,359 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Open-addressing implementation of the Dictionary ADT that resolves collisions using
+ * linear probing.
+ *
+ * Unlike ChainedHashDictionary, there are no per-bucket objects: keys, values, and each
+ * key's (spread) hash code are stored directly in three parallel arrays. The cached hash
+ * codes let us skip most 'equals' calls while probing and avoid recomputing 'hashCode'
+ * when resizing. Removal uses backward-shift deletion, so the table never fills up
+ * with tombstones.
+ *
+ * Allows null keys.
+ *
+ * @see IDictionary for more details on what each method should do
+ */
+public class LinearProbingDictionary<K, V> implements IDictionary<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Every occupied slot stores a hash with this bit set, so a stored hash of 0 always
+    // means "empty". Since capacity never exceeds 2^30, the bit never affects the index.
+    private static final int OCCUPIED = 0x80000000;
+
+    private final double lambda;
+    private K[] keys;
+    private V[] values;
+    private int[] hashes;
+    private int size;
+
+    public LinearProbingDictionary() {
+        this(0.5);
+    }
+
+    public LinearProbingDictionary(double lambda) {
+        this(lambda, 0);
+    }
+
+    /**
+     * Returns an empty dictionary with the default load factor that can hold 'expectedSize'
+     * keys without resizing.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public static <K, V> LinearProbingDictionary<K, V> withExpectedSize(int expectedSize) {
+        return new LinearProbingDictionary<>(0.5, expectedSize);
+    }
+
+    /**
+     * Creates a dictionary that keeps its load factor at or below 'lambda' and can hold
+     * 'expectedSize' keys without resizing.
+     *
+     * The load factor must stay below 1: probing for a missing key stops at the first empty
+     * slot, so a completely full table would make it loop forever.
+     *
+     * @throws IllegalArgumentException if 'lambda' is not strictly between 0 and 1
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public LinearProbingDictionary(double lambda, int expectedSize) {
+        if (!(lambda > 0 && lambda < 1)) {
+            throw new IllegalArgumentException();
+        }
+        this.lambda = lambda;
+        this.size = 0;
+        int capacity = capacityFor(expectedSize);
+        this.keys = makeArrayOfKeys(capacity);
+        this.values = makeArrayOfValues(capacity);
+        this.hashes = new int[capacity];
+    }
+
+    /**
+     * Returns the smallest power-of-two capacity (at least DEFAULT_CAPACITY) that can hold
+     * 'expectedSize' keys without going over the load factor.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    private int capacityFor(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < (1 << 30) && expectedSize > lambda * capacity) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    /**
+     * Grows the table, if needed, so that it can hold 'expectedSize' keys without
+     * resizing again. Useful before adding many keys at once.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public void ensureCapacity(int expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        if (capacity > hashes.length) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain objects of type K.
+     */
+    @SuppressWarnings("unchecked")
+    private K[] makeArrayOfKeys(int arraySize) {
+        // See ArrayDictionary's makeArrayOfPairs(...) method for
+        // more background on why we need this method.
+        return (K[]) new Object[arraySize];
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain objects of type V.
+     */
+    @SuppressWarnings("unchecked")
+    private V[] makeArrayOfValues(int arraySize) {
+        return (V[]) new Object[arraySize];
+    }
+
+    /**
+     * Returns the spread hash code of the given key, with the OCCUPIED bit set.
+     *
+     * Multiplying by the golden ratio and folding the high bits down means keys whose
+     * hash codes differ only in their upper bits still land in different slots, which
+     * matters because we index with a mask instead of a modulo.
+     */
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        h *= 0x9E3779B9;
+        h ^= h >>> 16;
+        return h | OCCUPIED;
+    }
+
+    /**
+     * Returns the slot containing the given key, or -1 if the key is not present.
+     */
+    private int indexOf(K key, int hash) {
+        int mask = hashes.length - 1;
+        int index = hash & mask;
+        while (hashes[index] != 0) {
+            if (hashes[index] == hash && Objects.equals(key, keys[index])) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public V get(K key) {
+        int index = indexOf(key, hash(key));
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        return values[index];
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int index = indexOf(key, hash(key));
+        return index == -1 ? defaultValue : values[index];
+    }
+
+    @Override
+    public void put(K key, V value) {
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index != -1) {
+            values[index] = value;
+            return;
+        }
+        add(key, value, hash);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index != -1) {
+            return values[index];
+        }
+        add(key, value, hash);
+        return null;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index != -1) {
+            return values[index];
+        }
+        V value = mappingFunction.apply(key);
+        add(key, value, hash);
+        return value;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index != -1) {
+            values[index] = remappingFunction.apply(key, values[index]);
+            return values[index];
+        }
+        V value = remappingFunction.apply(key, null);
+        add(key, value, hash);
+        return value;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index != -1) {
+            values[index] = remappingFunction.apply(values[index], value);
+            return values[index];
+        }
+        add(key, value, hash);
+        return value;
+    }
+
+    /**
+     * Adds an entry for a key that is not already present, resizing first if needed.
+     */
+    private void add(K key, V value, int hash) {
+        if (size + 1 > lambda * hashes.length) {
+            resize(hashes.length * 2);
+        }
+        insert(key, value, hash);
+        size++;
+    }
+
+    /**
+     * Places the given entry in the first empty slot of its probe sequence. Assumes the key
+     * is not already present and that the table has at least one empty slot.
+     */
+    private void insert(K key, V value, int hash) {
+        int mask = hashes.length - 1;
+        int index = hash & mask;
+        while (hashes[index] != 0) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+    }
+
+    private void resize(int newCapacity) {
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        int[] oldHashes = hashes;
+
+        keys = makeArrayOfKeys(newCapacity);
+        values = makeArrayOfValues(newCapacity);
+        hashes = new int[newCapacity];
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != 0) {
+                insert(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        int index = indexOf(key, hash(key));
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        V data = values[index];
+
+        // Backward-shift deletion: walk the rest of the cluster and pull back any entry
+        // whose ideal slot is at or before the hole, so lookups never stop early.
+        int mask = hashes.length - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (hashes[next] != 0) {
+            int ideal = hashes[next] & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hashes[hole] = hashes[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = null;
+        values[hole] = null;
+        hashes[hole] = 0;
+        size--;
+        return data;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return indexOf(key, hash(key)) != -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new ProbingIterator<>(this.keys, this.values, this.hashes);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < hashes.length; i++) {
+            if (hashes[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private static class ProbingIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private K[] keys;
+        private V[] values;
+        private int[] hashes;
+        private int index;
+
+        public ProbingIterator(K[] keys, V[] values, int[] hashes) {
+            this.keys = keys;
+            this.values = values;
+            this.hashes = hashes;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (index < hashes.length && hashes[index] == 0) {
+                index++;
+            }
+            return index < hashes.length;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> pair = new KVPair<>(keys[index], values[index]);
+            index++;
+            return pair;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package datastructures.concrete.dictionaries;
+
+import misc.exceptions.NoSuchKeyException;
+
+/**
+ * A dictionary from longs to doubles that stores its keys and values in primitive arrays,
+ * so unlike an IDictionary<Long, Double> it never boxes on 'put' or unboxes on 'get'.
+ *
+ * Uses the same open-addressing layout as LinearProbingDictionary and ObjectIntDictionary.
+ * Since neither type can be null, this class does not implement IDictionary; the methods
+ * below otherwise behave like their IDictionary counterparts.
+ */
+public class LongDoubleDictionary {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Every occupied slot stores a hash with this bit set, so a stored hash of 0 always
+    // means "empty". Since capacity never exceeds 2^30, the bit never affects the index.
+    private static final int OCCUPIED = 0x80000000;
+
+    private final double lambda;
+    private long[] keys;
+    private double[] values;
+    private int[] hashes;
+    private int size;
+
+    public LongDoubleDictionary() {
+        this(0.5);
+    }
+
+    /**
+     * Creates a dictionary that keeps its load factor at or below 'lambda'.
+     *
+     * @throws IllegalArgumentException if 'lambda' is not strictly between 0 and 1 (as in
+     *                                  LinearProbingDictionary, a full table would make
+     *                                  probing for a missing key loop forever)
+     */
+    public LongDoubleDictionary(double lambda) {
+        if (!(lambda > 0 && lambda < 1)) {
+            throw new IllegalArgumentException();
+        }
+        this.lambda = lambda;
+        this.size = 0;
+        this.keys = new long[DEFAULT_CAPACITY];
+        this.values = new double[DEFAULT_CAPACITY];
+        this.hashes = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Returns the spread hash code of the given key, with the OCCUPIED bit set.
+     */
+    private static int hash(long key) {
+        int h = (int) (key ^ (key >>> 32));
+        h *= 0x9E3779B9;
+        h ^= h >>> 16;
+        return h | OCCUPIED;
+    }
+
+    /**
+     * Returns the slot containing the given key, or -1 if the key is not present.
+     */
+    private int indexOf(long key, int hash) {
+        int mask = hashes.length - 1;
+        int index = hash & mask;
+        while (hashes[index] != 0) {
+            if (hashes[index] == hash && keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the value corresponding to the given key.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public double get(long key) {
+        int index = indexOf(key, hash(key));
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns the value corresponding to the given key, or 'defaultValue' if the
+     * dictionary does not contain the key.
+     */
+    public double getOrDefault(long key, double defaultValue) {
+        int index = indexOf(key, hash(key));
+        return index == -1 ? defaultValue : values[index];
+    }
+
+    /**
+     * Adds the key-value pair to the dictionary. If the key already exists in the dictionary,
+     * replace its value with the given one.
+     */
+    public void put(long key, double value) {
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index != -1) {
+            values[index] = value;
+            return;
+        }
+        if (size + 1 > lambda * hashes.length) {
+            resize(hashes.length * 2);
+        }
+        insert(key, value, hash);
+        size++;
+    }
+
+    /**
+     * Places the given entry in the first empty slot of its probe sequence. Assumes the key
+     * is not already present and that the table has at least one empty slot.
+     */
+    private void insert(long key, double value, int hash) {
+        int mask = hashes.length - 1;
+        int index = hash & mask;
+        while (hashes[index] != 0) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+    }
+
+    private void resize(int newCapacity) {
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        int[] oldHashes = hashes;
+
+        keys = new long[newCapacity];
+        values = new double[newCapacity];
+        hashes = new int[newCapacity];
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != 0) {
+                insert(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes the given key and its corresponding value from the dictionary, and returns
+     * the value.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public double remove(long key) {
+        int index = indexOf(key, hash(key));
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        double data = values[index];
+
+        // Backward-shift deletion: see LinearProbingDictionary.remove.
+        int mask = hashes.length - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (hashes[next] != 0) {
+            int ideal = hashes[next] & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hashes[hole] = hashes[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        hashes[hole] = 0;
+        size--;
+        return data;
+    }
+
+    /**
+     * Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+     */
+    public boolean containsKey(long key) {
+        return indexOf(key, hash(key)) != -1;
+    }
+
+    /**
+     * Returns the number of key-value pairs stored in this dictionary.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns 'true' if this dictionary is empty and 'false' otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Calls 'action' once on every key-value pair, in no particular order.
+     */
+    public void forEach(LongDoubleConsumer action) {
+        for (int i = 0; i < hashes.length; i++) {
+            if (hashes[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * An action that accepts a long key and its double value.
+     */
+    @FunctionalInterface
+    public interface LongDoubleConsumer {
+        void accept(long key, double value);
+    }
+}
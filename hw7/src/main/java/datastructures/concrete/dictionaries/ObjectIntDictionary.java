@@ -0,0 +1,271 @@
+package datastructures.concrete.dictionaries;
+
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A dictionary from objects to ints that stores its values in an int[], so unlike an
+ * IDictionary<K, Integer> it never boxes a value on 'put' or unboxes one on 'get'.
+ *
+ * Uses the same open-addressing layout as LinearProbingDictionary: keys, values, and each
+ * key's spread hash code live in parallel arrays, collisions are resolved by linear
+ * probing, and removal uses backward-shift deletion.
+ *
+ * Since 'int' can't be null, this class does not implement IDictionary; the methods below
+ * otherwise behave like their IDictionary counterparts. Allows null keys.
+ */
+public class ObjectIntDictionary<K> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Every occupied slot stores a hash with this bit set, so a stored hash of 0 always
+    // means "empty". Since capacity never exceeds 2^30, the bit never affects the index.
+    private static final int OCCUPIED = 0x80000000;
+
+    private final double lambda;
+    private K[] keys;
+    private int[] values;
+    private int[] hashes;
+    private int size;
+
+    public ObjectIntDictionary() {
+        this(0.5);
+    }
+
+    public ObjectIntDictionary(double lambda) {
+        this(lambda, 0);
+    }
+
+    /**
+     * Returns an empty dictionary with the default load factor that can hold 'expectedSize'
+     * keys without resizing.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public static <K> ObjectIntDictionary<K> withExpectedSize(int expectedSize) {
+        return new ObjectIntDictionary<>(0.5, expectedSize);
+    }
+
+    /**
+     * Creates a dictionary that keeps its load factor at or below 'lambda' and can hold
+     * 'expectedSize' keys without resizing.
+     *
+     * @throws IllegalArgumentException if 'lambda' is not strictly between 0 and 1 (as in
+     *                                  LinearProbingDictionary, a full table would make
+     *                                  probing for a missing key loop forever)
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public ObjectIntDictionary(double lambda, int expectedSize) {
+        if (!(lambda > 0 && lambda < 1)) {
+            throw new IllegalArgumentException();
+        }
+        this.lambda = lambda;
+        this.size = 0;
+        int capacity = capacityFor(expectedSize);
+        this.keys = makeArrayOfKeys(capacity);
+        this.values = new int[capacity];
+        this.hashes = new int[capacity];
+    }
+
+    /**
+     * Returns the smallest power-of-two capacity (at least DEFAULT_CAPACITY) that can hold
+     * 'expectedSize' keys without going over the load factor.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    private int capacityFor(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < (1 << 30) && expectedSize > lambda * capacity) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    /**
+     * Grows the table, if needed, so that it can hold 'expectedSize' keys without
+     * resizing again. Useful before adding many keys at once.
+     *
+     * @throws IllegalArgumentException if 'expectedSize' is negative
+     */
+    public void ensureCapacity(int expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        if (capacity > hashes.length) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain objects of type K.
+     */
+    @SuppressWarnings("unchecked")
+    private K[] makeArrayOfKeys(int arraySize) {
+        // See ArrayDictionary's makeArrayOfPairs(...) method for
+        // more background on why we need this method.
+        return (K[]) new Object[arraySize];
+    }
+
+    /**
+     * Returns the spread hash code of the given key, with the OCCUPIED bit set.
+     */
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        h *= 0x9E3779B9;
+        h ^= h >>> 16;
+        return h | OCCUPIED;
+    }
+
+    /**
+     * Returns the slot containing the given key, or -1 if the key is not present.
+     */
+    private int indexOf(K key, int hash) {
+        int mask = hashes.length - 1;
+        int index = hash & mask;
+        while (hashes[index] != 0) {
+            if (hashes[index] == hash && Objects.equals(key, keys[index])) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the value corresponding to the given key.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public int get(K key) {
+        int index = indexOf(key, hash(key));
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns the value corresponding to the given key, or 'defaultValue' if the
+     * dictionary does not contain the key.
+     */
+    public int getOrDefault(K key, int defaultValue) {
+        int index = indexOf(key, hash(key));
+        return index == -1 ? defaultValue : values[index];
+    }
+
+    /**
+     * Adds the key-value pair to the dictionary. If the key already exists in the dictionary,
+     * replace its value with the given one.
+     */
+    public void put(K key, int value) {
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index != -1) {
+            values[index] = value;
+            return;
+        }
+        if (size + 1 > lambda * hashes.length) {
+            resize(hashes.length * 2);
+        }
+        insert(key, value, hash);
+        size++;
+    }
+
+    /**
+     * Places the given entry in the first empty slot of its probe sequence. Assumes the key
+     * is not already present and that the table has at least one empty slot.
+     */
+    private void insert(K key, int value, int hash) {
+        int mask = hashes.length - 1;
+        int index = hash & mask;
+        while (hashes[index] != 0) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+    }
+
+    private void resize(int newCapacity) {
+        K[] oldKeys = keys;
+        int[] oldValues = values;
+        int[] oldHashes = hashes;
+
+        keys = makeArrayOfKeys(newCapacity);
+        values = new int[newCapacity];
+        hashes = new int[newCapacity];
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != 0) {
+                insert(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes the given key and its corresponding value from the dictionary, and returns
+     * the value.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public int remove(K key) {
+        int index = indexOf(key, hash(key));
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        int data = values[index];
+
+        // Backward-shift deletion: see LinearProbingDictionary.remove.
+        int mask = hashes.length - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (hashes[next] != 0) {
+            int ideal = hashes[next] & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hashes[hole] = hashes[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = null;
+        hashes[hole] = 0;
+        size--;
+        return data;
+    }
+
+    /**
+     * Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+     */
+    public boolean containsKey(K key) {
+        return indexOf(key, hash(key)) != -1;
+    }
+
+    /**
+     * Returns the number of key-value pairs stored in this dictionary.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns 'true' if this dictionary is empty and 'false' otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Calls 'action' once on every key-value pair, in no particular order.
+     */
+    public void forEach(ObjIntConsumer<? super K> action) {
+        for (int i = 0; i < hashes.length; i++) {
+            if (hashes[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+}
@@ -4,6 +4,9 @@ import datastructures.concrete.dictionaries.KVPair;
 import misc.exceptions.NoSuchKeyException;
 
 import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Represents a data structure that contains a bunch of key-value mappings. Each key must be unique.
@@ -39,6 +42,65 @@ public interface IDictionary<K, V> extends Iterable<KVPair<K, V>> {
      */
     public void put(K key, V value);
 
+    /**
+     * If the dictionary does not contain the given key, adds the key-value pair and returns
+     * null. Otherwise, leaves the dictionary unchanged and returns the key's current value.
+     *
+     * Note: the interface provides default implementations of this method and the three
+     *       below that look the key up more than once. Implementations may override them
+     *       to find the key's position once and reuse it.
+     */
+    public default V putIfAbsent(K key, V value) {
+        if (this.containsKey(key)) {
+            return this.get(key);
+        }
+        this.put(key, value);
+        return null;
+    }
+
+    /**
+     * If the dictionary does not contain the given key, computes a value by calling
+     * 'mappingFunction' on the key and adds it. Returns the key's (possibly new) value.
+     *
+     * The function must not modify this dictionary.
+     */
+    public default V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (this.containsKey(key)) {
+            return this.get(key);
+        }
+        V value = mappingFunction.apply(key);
+        this.put(key, value);
+        return value;
+    }
+
+    /**
+     * Replaces the key's value with the result of calling 'remappingFunction' on the key and
+     * its current value (or null if the key is not in the dictionary), and returns the new
+     * value.
+     *
+     * Unlike java.util.Map, a null result is stored rather than removing the key, since
+     * dictionaries may contain null values. The function must not modify this dictionary.
+     */
+    public default V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        V value = remappingFunction.apply(key, this.getOrDefault(key, null));
+        this.put(key, value);
+        return value;
+    }
+
+    /**
+     * If the dictionary does not contain the given key, adds the key with the given value.
+     * Otherwise, replaces the key's value with the result of calling 'remappingFunction' on
+     * its current value and the given value. Returns the new value.
+     *
+     * This is handy for counting: 'counts.merge(word, 1, Integer::sum)'. The function must
+     * not modify this dictionary.
+     */
+    public default V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        V newValue = this.containsKey(key) ? remappingFunction.apply(this.get(key), value) : value;
+        this.put(key, newValue);
+        return newValue;
+    }
+
     /**
      * Remove the key-value pair corresponding to the given key from the dictionary.
      *
@@ -68,4 +130,17 @@ public interface IDictionary<K, V> extends Iterable<KVPair<K, V>> {
      * contained within this dict.
      */
     public Iterator<KVPair<K, V>> iterator();
+
+    /**
+     * Calls the given action once on each key-value pair in this dictionary.
+     *
+     * Unlike iterating with 'iterator()', this does not need to wrap each pair in a KVPair,
+     * so implementations may override it to walk their internal storage without
+     * allocating anything. The action must not modify this dictionary.
+     */
+    public default void forEach(BiConsumer<? super K, ? super V> action) {
+        for (KVPair<K, V> pair : this) {
+            action.accept(pair.getKey(), pair.getValue());
+        }
+    }
 }
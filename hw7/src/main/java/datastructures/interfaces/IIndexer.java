@@ -0,0 +1,27 @@
+package datastructures.interfaces;
+
+/**
+ * Numbers the items of some fixed domain 0, 1, ..., size() - 1, so that they can be used as
+ * array indices. Sets over a dense domain, like every wall in a maze, can then store one bit
+ * per possible item instead of one hash table entry per item that is present.
+ *
+ * @see datastructures.concrete.BitSetSet
+ */
+public interface IIndexer<T> {
+    /**
+     * Returns the index of the given item, or -1 if the item is not part of this domain.
+     */
+    public int indexOf(T item);
+
+    /**
+     * Returns the item with the given index.
+     *
+     * @throws IndexOutOfBoundsException  if the index is negative or not less than size()
+     */
+    public T get(int index);
+
+    /**
+     * Returns the number of items in this domain.
+     */
+    public int size();
+}
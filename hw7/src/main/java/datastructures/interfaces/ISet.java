@@ -42,4 +42,61 @@ public interface ISet<T> extends Iterable<T> {
      * Returns all items contained within this set.
      */
     public Iterator<T> iterator();
+
+    /**
+     * Adds every item in 'other' to this set.
+     *
+     * Note: the interface provides default implementations of this method and the two
+     *       below that go one item at a time. Implementations may override them to work
+     *       in bulk when 'other' is a set of the same kind.
+     */
+    public default void addAll(ISet<T> other) {
+        for (T item : other) {
+            this.add(item);
+        }
+    }
+
+    /**
+     * Removes every item in 'other' from this set. Items of 'other' that aren't in this set
+     * are ignored.
+     */
+    public default void removeAll(ISet<T> other) {
+        for (T item : other) {
+            if (this.contains(item)) {
+                this.remove(item);
+            }
+        }
+    }
+
+    /**
+     * Removes every item from this set that is not also in 'other'.
+     */
+    public default void retainAll(ISet<T> other) {
+        // We can't remove items while iterating over them, so collect them first.
+        Object[] toRemove = new Object[this.size()];
+        int count = 0;
+        for (T item : this) {
+            if (!other.contains(item)) {
+                toRemove[count] = item;
+                count++;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings("unchecked")
+            T item = (T) toRemove[i];
+            this.remove(item);
+        }
+    }
+
+    /**
+     * Returns a new set containing the items of this set that are not in 'other'. Neither
+     * set is modified.
+     */
+    public ISet<T> difference(ISet<T> other);
+
+    /**
+     * Returns a new set containing the items that are in both this set and 'other'.
+     * Neither set is modified.
+     */
+    public ISet<T> intersection(ISet<T> other);
 }
@@ -1,5 +1,7 @@
 package mazes.entities;
 
+import datastructures.concrete.DenseIndex;
+import datastructures.interfaces.IIndexer;
 import datastructures.interfaces.ISet;
 
 import java.awt.*;
@@ -11,11 +13,28 @@ public class Maze {
     private ISet<Room> rooms;
     private ISet<Wall> walls;
     private ISet<Wall> untouchableWalls;
+    private IIndexer<Room> roomIndex;
+    private IIndexer<Wall> wallIndex;
 
     public Maze(ISet<Room> rooms, ISet<Wall> walls, ISet<Wall> untouchableWalls) {
+        this(rooms, walls, untouchableWalls, null, null);
+    }
+
+    /**
+     * Constructs a maze that numbers its rooms and walls using the given indexes. This lets
+     * a maze carved out of another one share its numbering, so sets of rooms or walls from
+     * both mazes can be combined a word at a time.
+     *
+     * Either index may be null, in which case it is built the first time it's requested.
+     * Otherwise, it must cover every room (or removable wall) of this maze.
+     */
+    public Maze(ISet<Room> rooms, ISet<Wall> walls, ISet<Wall> untouchableWalls,
+                IIndexer<Room> roomIndex, IIndexer<Wall> wallIndex) {
         this.rooms = rooms;
         this.walls = walls;
         this.untouchableWalls = untouchableWalls;
+        this.roomIndex = roomIndex;
+        this.wallIndex = wallIndex;
     }
 
     /**
@@ -42,6 +61,28 @@ public class Maze {
         return this.untouchableWalls;
     }
 
+    /**
+     * Returns an index that numbers every room in the maze, for use with a BitSetSet.
+     */
+    public IIndexer<Room> getRoomIndex() {
+        if (this.roomIndex == null) {
+            this.roomIndex = new DenseIndex<>(this.rooms);
+        }
+        return this.roomIndex;
+    }
+
+    /**
+     * Returns an index that numbers every removable wall in the maze, for use with a
+     * BitSetSet. If this maze was carved out of another one, the index is shared with that
+     * maze and so also numbers the walls that were removed.
+     */
+    public IIndexer<Wall> getWallIndex() {
+        if (this.wallIndex == null) {
+            this.wallIndex = new DenseIndex<>(this.walls);
+        }
+        return this.wallIndex;
+    }
+
     /**
      * Returns the room containing the given point.
      *
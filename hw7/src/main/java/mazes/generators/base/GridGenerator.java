@@ -64,7 +64,7 @@ public class GridGenerator extends BaseMazeGenerator {
     }
 
     private ISet<Room> extractRooms(Room[][] grid) {
-        ISet<Room> rooms = new ChainedHashSet<>();
+        ISet<Room> rooms = new ChainedHashSet<>(this.numColumns * this.numRows);
         for (int x = 0; x < this.numColumns; x++) {
             for (int y = 0; y < this.numRows; y++) {
                 rooms.add(grid[x][y]);
@@ -74,7 +74,8 @@ public class GridGenerator extends BaseMazeGenerator {
     }
 
     private ISet<Wall> extractWalls(Room[][] grid) {
-        ISet<Wall> walls = new ChainedHashSet<>();
+        // Every room but those in the first column and row adds two walls.
+        ISet<Wall> walls = new ChainedHashSet<>(2 * this.numColumns * this.numRows);
 
         for (int x = 0; x < this.numColumns; x++) {
             for (int y = 0; y < this.numRows; y++) {
@@ -1,7 +1,7 @@
 package mazes.generators.base;
 
 import datastructures.concrete.ChainedHashSet;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ArrayList;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
@@ -114,7 +114,7 @@ public class VoronoiGenerator extends BaseMazeGenerator {
 
     private OpenList generateCells(Rectangle boundingBox) {
         OpenList output = new OpenList();
-        IList<Point> points = new DoubleLinkedList<>();
+        IList<Point> points = new ArrayList<>(this.numRooms);
 
         Random rand = new Random();
         for (int i = 0; i < this.numRooms; i++) {
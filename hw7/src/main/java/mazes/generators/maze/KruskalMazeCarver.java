@@ -1,5 +1,6 @@
 package mazes.generators.maze;
 
+import datastructures.concrete.BitSetSet;
 import datastructures.concrete.Graph;
 import datastructures.interfaces.ISet;
 import mazes.entities.Maze;
@@ -25,7 +26,10 @@ public class KruskalMazeCarver implements MazeCarver {
             wall.setDistance(rand.nextDouble());
         }
         Graph<Room, Wall> msWalls = new Graph<Room, Wall>(maze.getRooms(), maze.getWalls());
-        ISet<Wall> toRemove = msWalls.findMinimumSpanningTree();
+        // Store the result over the maze's wall numbering, so 'generateMaze' can remove
+        // these walls from the maze a word at a time.
+        BitSetSet<Wall> toRemove = new BitSetSet<>(maze.getWallIndex());
+        toRemove.addAll(msWalls.findMinimumSpanningTree());
 
         for (Wall wall : maze.getWalls()) {
             wall.resetDistanceToOriginal();
@@ -1,6 +1,6 @@
 package mazes.generators.maze;
 
-import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.BitSetSet;
 import datastructures.interfaces.ISet;
 import mazes.entities.Maze;
 import mazes.entities.Wall;
@@ -30,13 +30,13 @@ public interface MazeCarver {
 
         ISet<Wall> toRemove = this.returnWallsToRemove(initialMaze);
 
-        ISet<Wall> newWalls = new ChainedHashSet<>();
-        for (Wall wall : initialMaze.getWalls()) {
-            if (!toRemove.contains(wall)) {
-                newWalls.add(wall);
-            }
-        }
+        // Every wall of the new maze is one of the initial maze's walls, so the new maze can
+        // share the initial maze's numbering and store its walls as one bit each.
+        BitSetSet<Wall> newWalls = new BitSetSet<>(initialMaze.getWallIndex());
+        newWalls.addAll(initialMaze.getWalls());
+        newWalls.removeAll(toRemove);
 
-        return new Maze(initialMaze.getRooms(), newWalls, initialMaze.getUntouchableWalls());
+        return new Maze(initialMaze.getRooms(), newWalls, initialMaze.getUntouchableWalls(),
+                initialMaze.getRoomIndex(), initialMaze.getWallIndex());
     }
 }
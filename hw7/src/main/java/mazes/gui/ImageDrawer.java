@@ -1,6 +1,6 @@
 package mazes.gui;
 
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ArrayList;
 import datastructures.interfaces.IList;
 import mazes.entities.Maze;
 import mazes.entities.Wall;
@@ -152,7 +152,7 @@ public class ImageDrawer implements ImageObserver {
     }
 
     public void drawPath(Wall wall) {
-        IList<Wall> walls = new DoubleLinkedList<>();
+        IList<Wall> walls = new ArrayList<>(1);
         walls.add(wall);
         this.drawPath(walls);
     }
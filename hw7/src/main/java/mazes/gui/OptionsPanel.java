@@ -1,10 +1,8 @@
 package mazes.gui;
 
-import datastructures.concrete.ChainedHashSet;
 import datastructures.concrete.dictionaries.KVPair;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
-import datastructures.interfaces.ISet;
 import mazes.entities.Maze;
 import mazes.entities.Room;
 import mazes.entities.Wall;
@@ -122,7 +120,7 @@ public class OptionsPanel extends JPanel {
     private void drawShortestPath(ActionEvent event) {
         Graph<Room, Wall> graph = new Graph<>(
                 this.originalMaze.getRooms(),
-                this.subtract(this.originalMaze.getWalls(), this.currentMaze.getWalls()));
+                this.originalMaze.getWalls().difference(this.currentMaze.getWalls()));
         try {
             IList<Wall> path = graph.findShortestPathBetween(this.start, this.end);
             this.drawer.drawPath(path);
@@ -133,16 +131,6 @@ public class OptionsPanel extends JPanel {
         }
     }
 
-    private <T> ISet<T> subtract(ISet<T> bigger, ISet<T> smaller) {
-        ISet<T> output = new ChainedHashSet<>();
-        for (T item : bigger) {
-            if (!smaller.contains(item)) {
-                output.add(item);
-            }
-        }
-        return output;
-    }
-
     private void add(JComponent component, int x, int y, int anchor, int fill, double weightX) {
         GridBagConstraints gbc = new GridBagConstraints();
         gbc.insets = new Insets(5, 5, 5, 5);
@@ -1,7 +1,7 @@
 package misc;
 
 import datastructures.concrete.ArrayHeap;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ArrayList;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
 
@@ -22,11 +22,12 @@ public class Sorter {
      * @throws IllegalArgumentException  if input is null
      */
     public static <T extends Comparable<T>> IList<T> topKSort(int k, IList<T> input) {
-        IPriorityQueue<T> myHeap = new ArrayHeap<T>();
-        int count = 0;
         if (k < 0 || input == null) {
             throw new IllegalArgumentException();
         }
+        // The heap holds at most k items, plus one more briefly while replacing the minimum.
+        IPriorityQueue<T> myHeap = new ArrayHeap<T>(Math.min(k, input.size()) + 1);
+        int count = 0;
         // while (input.size() > count && k != 0) {
         //     if (myHeap.size() >= k) {
         //         if (myHeap.peekMin().compareTo(input.get(count)) < 0) {
@@ -51,8 +52,8 @@ public class Sorter {
             }
         }
 
-        IList<T> output = new DoubleLinkedList<>();
         int j = myHeap.size();
+        IList<T> output = new ArrayList<>(j);
         for (int i = 0; i < j; i++) {
             output.add(myHeap.removeMin());
         }
@@ -152,4 +152,30 @@ public class TestArrayDisjointSet extends BaseTest {
     //
     //
     // }
+
+    @Test(timeout=SECOND)
+    public void testExpectedSizeAvoidsResizing() {
+        ArrayDisjointSet<Integer> forest = new ArrayDisjointSet<>(1000);
+        int[] pointers = getField(forest, "pointers", int[].class);
+        for (int i = 0; i < 1000; i++) {
+            forest.makeSet(i);
+        }
+        assertTrue(pointers == getField(forest, "pointers", int[].class));
+
+        forest.ensureCapacity(1500);
+        for (int i = 1000; i < 1500; i++) {
+            forest.makeSet(i);
+        }
+        for (int i = 1; i < 1500; i++) {
+            forest.union(0, i);
+        }
+        for (int i = 0; i < 1500; i++) {
+            assertEquals(forest.findSet(0), forest.findSet(i));
+        }
+
+        ArrayDisjointSet<Integer> empty = new ArrayDisjointSet<>(0);
+        empty.makeSet(1);
+        empty.makeSet(2);
+        assertTrue(empty.findSet(1) != empty.findSet(2));
+    }
 }
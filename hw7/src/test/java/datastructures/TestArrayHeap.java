@@ -8,6 +8,7 @@ import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * See spec for details on what kinds of tests this class should include.
@@ -121,4 +122,34 @@ public class TestArrayHeap extends BaseTest {
         return getField(heap, "heap", Comparable[].class);
     }
 
+
+    @Test(timeout=SECOND)
+    public void testExpectedSizeAvoidsResizing() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>(1000);
+        Comparable<Integer>[] array = getArray(heap);
+        for (int i = 1000; i > 0; i--) {
+            heap.add(i);
+        }
+        assertTrue(array == getArray(heap));
+
+        heap.ensureCapacity(2000);
+        array = getArray(heap);
+        for (int i = 1001; i <= 2000; i++) {
+            heap.add(i);
+        }
+        assertTrue(array == getArray(heap));
+        for (int i = 1; i <= 2000; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testZeroExpectedSize() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>(0);
+        for (int i = 0; i < 20; i++) {
+            heap.add(i);
+        }
+        assertEquals(20, heap.size());
+        assertEquals(0, heap.peekMin());
+    }
 }
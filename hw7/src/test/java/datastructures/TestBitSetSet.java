@@ -0,0 +1,202 @@
+package datastructures;
+
+import datastructures.concrete.BitSetSet;
+import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.DenseIndex;
+import datastructures.interfaces.IIndexer;
+import datastructures.interfaces.ISet;
+import misc.BaseTest;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestBitSetSet extends BaseTest {
+    protected IIndexer<Integer> makeIndex(int size) {
+        ISet<Integer> domain = new ChainedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            domain.add(i);
+        }
+        return new DenseIndex<>(domain);
+    }
+
+    protected BitSetSet<Integer> rangeSet(IIndexer<Integer> index, int start, int end) {
+        BitSetSet<Integer> set = new BitSetSet<>(index);
+        for (int i = start; i < end; i++) {
+            set.add(i);
+        }
+        return set;
+    }
+
+    protected void assertRange(int start, int end, ISet<Integer> actual) {
+        assertEquals(end - start, actual.size());
+        for (int i = start; i < end; i++) {
+            assertTrue(actual.contains(i));
+        }
+        int count = 0;
+        for (int item : actual) {
+            assertTrue(start <= item && item < end);
+            count++;
+        }
+        assertEquals(end - start, count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testDenseIndexNumbersEveryItem() {
+        IIndexer<Integer> index = this.makeIndex(100);
+        assertEquals(100, index.size());
+        boolean[] seen = new boolean[100];
+        for (int i = 0; i < 100; i++) {
+            int position = index.indexOf(i);
+            assertTrue(0 <= position && position < 100);
+            assertFalse(seen[position]);
+            seen[position] = true;
+            assertEquals(i, index.get(position));
+        }
+        assertEquals(-1, index.indexOf(100));
+        assertEquals(-1, index.indexOf(null));
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddRemoveContainsBasic() {
+        BitSetSet<Integer> set = new BitSetSet<>(this.makeIndex(10));
+        assertTrue(set.isEmpty());
+
+        set.add(3);
+        set.add(7);
+        set.add(3);
+        assertEquals(2, set.size());
+        assertTrue(set.contains(3));
+        assertTrue(set.contains(7));
+        assertFalse(set.contains(4));
+
+        set.remove(3);
+        assertEquals(1, set.size());
+        assertFalse(set.contains(3));
+        assertTrue(set.contains(7));
+    }
+
+    @Test(timeout=SECOND)
+    public void testOutsideDomain() {
+        BitSetSet<Integer> set = new BitSetSet<>(this.makeIndex(10));
+        assertFalse(set.contains(10));
+        assertFalse(set.contains(null));
+
+        try {
+            set.add(10);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            set.remove(10);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            set.remove(5);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+        assertTrue(set.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAllOfAcrossWordBoundaries() {
+        for (int size : new int[] {0, 1, 63, 64, 65, 130}) {
+            this.assertRange(0, size, BitSetSet.allOf(this.makeIndex(size)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorBasic() {
+        BitSetSet<Integer> set = new BitSetSet<>(this.makeIndex(200));
+        Iterator<Integer> iter = set.iterator();
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+
+        set.add(0);
+        set.add(64);
+        set.add(199);
+        int count = 0;
+        for (int item : set) {
+            assertTrue(item == 0 || item == 64 || item == 199);
+            count++;
+        }
+        assertEquals(3, count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testBulkOperationsSameDomain() {
+        IIndexer<Integer> index = this.makeIndex(300);
+        BitSetSet<Integer> low = this.rangeSet(index, 0, 200);
+        BitSetSet<Integer> high = this.rangeSet(index, 100, 300);
+
+        this.assertRange(0, 100, low.difference(high));
+        this.assertRange(100, 200, low.intersection(high));
+        this.assertRange(0, 200, low);
+        this.assertRange(100, 300, high);
+
+        low.addAll(high);
+        this.assertRange(0, 300, low);
+        low.removeAll(this.rangeSet(index, 250, 300));
+        this.assertRange(0, 250, low);
+        low.retainAll(this.rangeSet(index, 50, 280));
+        this.assertRange(50, 250, low);
+    }
+
+    @Test(timeout=SECOND)
+    public void testBulkOperationsOtherSets() {
+        IIndexer<Integer> index = this.makeIndex(300);
+        BitSetSet<Integer> low = this.rangeSet(index, 0, 200);
+
+        ISet<Integer> high = new ChainedHashSet<>();
+        for (int i = 100; i < 400; i++) {
+            high.add(i);
+        }
+        this.assertRange(0, 100, low.difference(high));
+        this.assertRange(100, 200, low.intersection(high));
+
+        // The same items, numbered differently.
+        BitSetSet<Integer> other = this.rangeSet(this.makeIndex(300), 100, 300);
+        low.addAll(other);
+        this.assertRange(0, 300, low);
+        low.retainAll(other);
+        this.assertRange(100, 300, low);
+        low.removeAll(high);
+        this.assertRange(0, 0, low);
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testLargeSetMatchesHashSet() {
+        int size = 100000;
+        IIndexer<Integer> index = this.makeIndex(size);
+        BitSetSet<Integer> bits = new BitSetSet<>(index);
+        ISet<Integer> hashed = new ChainedHashSet<>();
+        for (int i = 0; i < size; i += 3) {
+            bits.add(i);
+            hashed.add(i);
+        }
+        assertEquals(hashed.size(), bits.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(hashed.contains(i), bits.contains(i));
+        }
+        for (int item : bits) {
+            assertTrue(hashed.contains(item));
+        }
+    }
+}
@@ -388,4 +388,118 @@ public class TestChainedHashSet extends BaseTest {
             assertFalse(set.contains(i));
         }
     }
+
+    @Test(timeout=SECOND)
+    public void testExpectedSizeAvoidsResizing() {
+        ChainedHashSet<Integer> set = new ChainedHashSet<>(1000);
+        Object chains = getField(getField(set, "map"), "chains");
+        for (int i = 0; i < 1000; i++) {
+            set.add(i);
+        }
+        assertTrue(chains == getField(getField(set, "map"), "chains"));
+
+        set.ensureCapacity(2000);
+        assertEquals(1000, set.size());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(set.contains(i));
+        }
+    }
+
+    private static ChainedHashSet<Integer> rangeSet(int from, int to, int expectedSize) {
+        ChainedHashSet<Integer> set = new ChainedHashSet<>(expectedSize);
+        for (int i = from; i < to; i++) {
+            set.add(i);
+        }
+        return set;
+    }
+
+    private static void assertRange(int from, int to, ISet<Integer> set) {
+        assertEquals(Math.max(to - from, 0), set.size());
+        for (int i = from - 10; i < to + 10; i++) {
+            assertEquals(from <= i && i < to, set.contains(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testDifferenceAndIntersection() {
+        // Same expected size, so the two tables line up bucket by bucket...
+        ChainedHashSet<Integer> a = rangeSet(0, 300, 500);
+        ChainedHashSet<Integer> b = rangeSet(200, 500, 500);
+        assertRange(0, 200, a.difference(b));
+        assertRange(300, 500, b.difference(a));
+        assertRange(200, 300, a.intersection(b));
+        assertRange(200, 300, b.intersection(a));
+
+        // ...and here they don't.
+        ChainedHashSet<Integer> c = rangeSet(200, 500, 0);
+        assertRange(0, 200, a.difference(c));
+        assertRange(300, 500, c.difference(a));
+        assertRange(200, 300, a.intersection(c));
+        assertRange(200, 300, c.intersection(a));
+
+        // Neither input should have changed.
+        assertRange(0, 300, a);
+        assertRange(200, 500, b);
+        assertRange(200, 500, c);
+    }
+
+    @Test(timeout=SECOND)
+    public void testDifferenceResultIsIndependent() {
+        ChainedHashSet<Integer> a = rangeSet(0, 100, 100);
+        ISet<Integer> result = a.difference(rangeSet(50, 100, 100));
+        result.add(1000);
+        result.remove(0);
+        assertRange(0, 100, a);
+        assertEquals(50, result.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddAll() {
+        ChainedHashSet<Integer> a = rangeSet(0, 100, 1000);
+        a.addAll(rangeSet(50, 150, 1000));
+        assertRange(0, 150, a);
+
+        ChainedHashSet<Integer> b = rangeSet(0, 100, 0);
+        b.addAll(rangeSet(50, 1000, 0));
+        assertRange(0, 1000, b);
+
+        a.addAll(new ChainedHashSet<>());
+        assertRange(0, 150, a);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveAllAndRetainAll() {
+        for (int otherSize : new int[] {500, 0}) {
+            ChainedHashSet<Integer> a = rangeSet(0, 300, 500);
+            a.removeAll(rangeSet(100, 400, otherSize));
+            assertRange(0, 100, a);
+
+            ChainedHashSet<Integer> b = rangeSet(0, 300, 500);
+            b.retainAll(rangeSet(100, 400, otherSize));
+            assertRange(100, 300, b);
+
+            // Removing a small set from a much bigger one walks the small set instead.
+            ChainedHashSet<Integer> c = rangeSet(0, 300, 500);
+            c.removeAll(rangeSet(0, 5, otherSize));
+            assertRange(5, 300, c);
+
+            c.retainAll(new ChainedHashSet<>());
+            assertTrue(c.isEmpty());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBulkOperationsWithNull() {
+        ChainedHashSet<String> a = new ChainedHashSet<>();
+        a.add(null);
+        a.add("a");
+        ChainedHashSet<String> b = new ChainedHashSet<>();
+        b.add(null);
+
+        assertTrue(a.intersection(b).contains(null));
+        assertFalse(a.difference(b).contains(null));
+        a.removeAll(b);
+        assertFalse(a.contains(null));
+        assertEquals(1, a.size());
+    }
 }
@@ -11,6 +11,7 @@ import org.junit.runners.MethodSorters;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
 public class TestChainedHashDictionary extends BaseTestDictionary {
@@ -166,4 +167,90 @@ public class TestChainedHashDictionary extends BaseTestDictionary {
         IDictionary<String, String>[] chains = getField(map, "chains", IDictionary[].class);
         assertNotNull(chains);
     }
+
+    @Test(timeout=SECOND)
+    public void testExpectedSizeAvoidsResizing() {
+        IDictionary<Integer, Integer> dict = ChainedHashDictionary.withExpectedSize(1000);
+        Object chains = getField(dict, "chains");
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+        assertTrue(chains == getField(dict, "chains"));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, dict.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testEnsureCapacityKeepsContents() {
+        ChainedHashDictionary<String, String> dict = new ChainedHashDictionary<>();
+        dict.put("keyA", "valA");
+        dict.put(null, "valNull");
+        dict.ensureCapacity(500);
+        Object chains = getField(dict, "chains");
+        assertEquals(2, dict.size());
+        assertEquals("valA", dict.get("keyA"));
+        assertEquals("valNull", dict.get(null));
+        for (int i = 0; i < 498; i++) {
+            dict.put("" + i, "" + i);
+        }
+        assertTrue(chains == getField(dict, "chains"));
+
+        // Asking for less room than the dictionary already has does nothing.
+        dict.ensureCapacity(0);
+        assertTrue(chains == getField(dict, "chains"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testNegativeExpectedSize() {
+        try {
+            ChainedHashDictionary.withExpectedSize(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidLoadFactorThrowsException() {
+        for (double lambda : new double[] {0.0, -1.0, Double.NaN}) {
+            try {
+                new ChainedHashDictionary<String, String>(lambda);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+        // Unlike open addressing, chaining copes fine with more keys than buckets.
+        IDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(4.0);
+        for (int i = 0; i < 100; i++) {
+            dict.put(i, i);
+        }
+        assertEquals(100, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testBulkOperationsKeepValues() {
+        ChainedHashDictionary<Integer, String> a = ChainedHashDictionary.withExpectedSize(100);
+        ChainedHashDictionary<Integer, String> b = ChainedHashDictionary.withExpectedSize(100);
+        for (int i = 0; i < 60; i++) {
+            a.put(i, "a" + i);
+            b.put(i + 30, "b" + i);
+        }
+
+        IDictionary<Integer, String> shared = a.intersection(b);
+        assertEquals(30, shared.size());
+        assertEquals("a45", shared.get(45));
+
+        IDictionary<Integer, String> onlyA = a.difference(b);
+        assertEquals(30, onlyA.size());
+        assertEquals("a10", onlyA.get(10));
+        assertFalse(onlyA.containsKey(45));
+
+        // putAll overwrites existing values, like put.
+        a.putAll(b);
+        assertEquals(90, a.size());
+        assertEquals("b15", a.get(45));
+        assertEquals("a10", a.get(10));
+    }
 }
@@ -0,0 +1,92 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.IntIntDictionary;
+import datastructures.interfaces.IDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestIntIntDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testBasicPutGetRemove() {
+        IntIntDictionary dict = new IntIntDictionary();
+        dict.put(0, 10);
+        dict.put(-5, 20);
+        dict.put(Integer.MIN_VALUE, 30);
+        dict.put(0, 40);
+
+        assertEquals(3, dict.size());
+        assertEquals(40, dict.get(0));
+        assertEquals(20, dict.get(-5));
+        assertEquals(30, dict.get(Integer.MIN_VALUE));
+        assertEquals(-1, dict.getOrDefault(7, -1));
+
+        assertEquals(20, dict.remove(-5));
+        assertFalse(dict.containsKey(-5));
+        assertTrue(dict.containsKey(0));
+        try {
+            dict.get(-5);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testManyPutsAndRemovesMatchHashDictionary() {
+        IntIntDictionary dict = new IntIntDictionary();
+        IDictionary<Integer, Integer> expected = new ChainedHashDictionary<>();
+        Random rand = new Random(373);
+        for (int i = 0; i < 100000; i++) {
+            // Multiples of a large power of two all share their low bits.
+            int key = rand.nextInt(5000) << 16;
+            if (rand.nextBoolean() && expected.containsKey(key)) {
+                assertEquals(expected.remove(key), dict.remove(key));
+            } else {
+                expected.put(key, i);
+                dict.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), dict.size());
+        for (int key = 0; key < 5000; key++) {
+            assertEquals(expected.getOrDefault(key << 16, -1), dict.getOrDefault(key << 16, -1));
+        }
+        int[] count = new int[1];
+        dict.forEach((key, value) -> {
+            assertEquals(expected.get(key), value);
+            count[0]++;
+        });
+        assertEquals(expected.size(), count[0]);
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidLoadFactorThrowsException() {
+        double[] badLambdas = {0.0, -0.5, 1.0, 1.5, Double.NaN};
+        for (double lambda : badLambdas) {
+            try {
+                new IntIntDictionary(lambda);
+                fail("Expected IllegalArgumentException for lambda " + lambda);
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+
+        IntIntDictionary dict = new IntIntDictionary(0.99);
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+        assertFalse(dict.containsKey(-1));
+        assertEquals(1000, dict.size());
+    }
+}
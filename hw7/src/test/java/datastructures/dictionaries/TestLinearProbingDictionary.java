@@ -0,0 +1,149 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.LinearProbingDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestLinearProbingDictionary extends BaseTestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new LinearProbingDictionary<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testManyObjectsWithSameHashCode() {
+        IDictionary<Wrapper<String>, Integer> map = this.newDictionary();
+        for (int i = 0; i < 1000; i++) {
+            map.put(new Wrapper<>("" + i, 0), i);
+        }
+
+        assertEquals(1000, map.size());
+
+        for (int i = 999; i >= 0; i--) {
+            String key = "" + i;
+            assertEquals(i, map.get(new Wrapper<>(key, 0)));
+
+            assertFalse(map.containsKey(new Wrapper<>(key + "a", 0)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveFromMiddleOfCluster() {
+        IDictionary<Wrapper<String>, Integer> map = this.newDictionary();
+        for (int i = 0; i < 100; i++) {
+            map.put(new Wrapper<>("" + i, i % 4), i);
+        }
+
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(i, map.remove(new Wrapper<>("" + i, i % 4)));
+        }
+
+        assertEquals(50, map.size());
+        for (int i = 0; i < 100; i++) {
+            Wrapper<String> key = new Wrapper<>("" + i, i % 4);
+            if (i % 2 == 0) {
+                assertFalse(map.containsKey(key));
+            } else {
+                assertTrue(map.containsKey(key));
+                assertEquals(i, map.get(key));
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNegativeAndExtremeHashCodes() {
+        IDictionary<Wrapper<String>, String> dict = this.newDictionary();
+
+        Wrapper<String> key1 = new Wrapper<>("foo", -1);
+        Wrapper<String> key2 = new Wrapper<>("bar", Integer.MIN_VALUE);
+        Wrapper<String> key3 = new Wrapper<>("baz", Integer.MAX_VALUE);
+        Wrapper<String> key4 = new Wrapper<>("qux", 0);
+
+        dict.put(key1, "val1");
+        dict.put(key2, "val2");
+        dict.put(key3, "val3");
+        dict.put(key4, "val4");
+        dict.put(null, "val5");
+
+        assertEquals("val1", dict.get(key1));
+        assertEquals("val2", dict.get(key2));
+        assertEquals("val3", dict.get(key3));
+        assertEquals("val4", dict.get(key4));
+        assertEquals("val5", dict.get(null));
+
+        dict.remove(key4);
+        assertFalse(dict.containsKey(key4));
+        assertEquals("val5", dict.get(null));
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testStress() {
+        int limit = 1000000;
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, i);
+            assertEquals(i, dict.get(i));
+        }
+
+        for (int i = 0; i < limit; i++) {
+            assertFalse(dict.containsKey(-1));
+        }
+
+        for (int i = 0; i < limit; i++) {
+            dict.put(i, -i);
+        }
+
+        for (int i = 0; i < limit; i++) {
+            assertEquals(-i, dict.get(i));
+            dict.remove(i);
+        }
+        assertTrue(dict.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testExpectedSizeAvoidsResizing() {
+        LinearProbingDictionary<Integer, Integer> dict = LinearProbingDictionary.withExpectedSize(1000);
+        Object hashes = getField(dict, "hashes");
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+        assertTrue(hashes == getField(dict, "hashes"));
+
+        dict.ensureCapacity(5000);
+        hashes = getField(dict, "hashes");
+        for (int i = 1000; i < 5000; i++) {
+            dict.put(i, i);
+        }
+        assertTrue(hashes == getField(dict, "hashes"));
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, dict.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidLoadFactorThrowsException() {
+        double[] badLambdas = {0.0, -0.5, 1.0, 1.5, Double.NaN};
+        for (double lambda : badLambdas) {
+            try {
+                new LinearProbingDictionary<String, String>(lambda);
+                fail("Expected IllegalArgumentException for lambda " + lambda);
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+
+        IDictionary<Integer, Integer> dict = new LinearProbingDictionary<>(0.99);
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+        assertFalse(dict.containsKey(-1));
+        assertEquals(1000, dict.size());
+    }
+}
@@ -0,0 +1,88 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.LongDoubleDictionary;
+import datastructures.interfaces.IDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestLongDoubleDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testBasicPutGetRemove() {
+        LongDoubleDictionary dict = new LongDoubleDictionary();
+        dict.put(0L, 1.5);
+        dict.put(1L << 40, 2.5);
+        dict.put(Long.MIN_VALUE, Double.NaN);
+        dict.put(0L, 3.5);
+
+        assertEquals(3, dict.size());
+        assertEquals(3.5, dict.get(0L));
+        assertEquals(2.5, dict.get(1L << 40));
+        assertTrue(Double.isNaN(dict.get(Long.MIN_VALUE)));
+        assertEquals(-1.0, dict.getOrDefault(1L, -1.0));
+
+        assertEquals(2.5, dict.remove(1L << 40));
+        assertFalse(dict.containsKey(1L << 40));
+        try {
+            dict.remove(1L << 40);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testManyPutsAndRemovesMatchHashDictionary() {
+        LongDoubleDictionary dict = new LongDoubleDictionary();
+        IDictionary<Long, Double> expected = new ChainedHashDictionary<>();
+        Random rand = new Random(373);
+        for (int i = 0; i < 100000; i++) {
+            // Keys that differ only in their upper 32 bits.
+            long key = ((long) rand.nextInt(5000)) << 32;
+            if (rand.nextBoolean() && expected.containsKey(key)) {
+                assertEquals(expected.remove(key), dict.remove(key));
+            } else {
+                expected.put(key, i / 2.0);
+                dict.put(key, i / 2.0);
+            }
+        }
+
+        assertEquals(expected.size(), dict.size());
+        int[] count = new int[1];
+        dict.forEach((key, value) -> {
+            assertEquals(expected.get(key), value);
+            count[0]++;
+        });
+        assertEquals(expected.size(), count[0]);
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidLoadFactorThrowsException() {
+        double[] badLambdas = {0.0, -0.5, 1.0, 1.5, Double.NaN};
+        for (double lambda : badLambdas) {
+            try {
+                new LongDoubleDictionary(lambda);
+                fail("Expected IllegalArgumentException for lambda " + lambda);
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+
+        LongDoubleDictionary dict = new LongDoubleDictionary(0.99);
+        for (int i = 0; i < 1000; i++) {
+            dict.put((long) i, i);
+        }
+        assertFalse(dict.containsKey(-1L));
+        assertEquals(1000, dict.size());
+    }
+}
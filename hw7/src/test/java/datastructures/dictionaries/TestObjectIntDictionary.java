@@ -0,0 +1,121 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.ObjectIntDictionary;
+import datastructures.interfaces.IDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestObjectIntDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testBasicPutGetRemove() {
+        ObjectIntDictionary<String> dict = new ObjectIntDictionary<>();
+        assertTrue(dict.isEmpty());
+        dict.put("a", 1);
+        dict.put("b", 2);
+        dict.put(null, 3);
+        dict.put("a", 4);
+
+        assertEquals(3, dict.size());
+        assertEquals(4, dict.get("a"));
+        assertEquals(3, dict.get(null));
+        assertEquals(-1, dict.getOrDefault("c", -1));
+        assertTrue(dict.containsKey("b"));
+        assertFalse(dict.containsKey("c"));
+
+        assertEquals(2, dict.remove("b"));
+        assertFalse(dict.containsKey("b"));
+        assertEquals(2, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testMissingKeyThrowsException() {
+        ObjectIntDictionary<String> dict = new ObjectIntDictionary<>();
+        dict.put("a", 1);
+        try {
+            dict.get("b");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+        try {
+            dict.remove("b");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5*SECOND)
+    public void testManyPutsAndRemovesMatchHashDictionary() {
+        ObjectIntDictionary<Integer> dict = new ObjectIntDictionary<>();
+        IDictionary<Integer, Integer> expected = new ChainedHashDictionary<>();
+        Random rand = new Random(373);
+        for (int i = 0; i < 100000; i++) {
+            int key = rand.nextInt(5000);
+            if (rand.nextBoolean() && expected.containsKey(key)) {
+                assertEquals(expected.remove(key), dict.remove(key));
+            } else {
+                expected.put(key, i);
+                dict.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), dict.size());
+        for (int key = 0; key < 5000; key++) {
+            assertEquals(expected.getOrDefault(key, -1), dict.getOrDefault(key, -1));
+        }
+        int[] count = new int[1];
+        dict.forEach((key, value) -> {
+            assertEquals(expected.get(key), value);
+            count[0]++;
+        });
+        assertEquals(expected.size(), count[0]);
+    }
+
+    @Test(timeout=SECOND)
+    public void testExpectedSizeAvoidsResizing() {
+        ObjectIntDictionary<String> dict = ObjectIntDictionary.withExpectedSize(1000);
+        Object hashes = getField(dict, "hashes");
+        for (int i = 0; i < 1000; i++) {
+            dict.put("key" + i, i);
+        }
+        assertTrue(hashes == getField(dict, "hashes"));
+
+        dict.ensureCapacity(3000);
+        assertEquals(1000, dict.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, dict.get("key" + i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInvalidLoadFactorThrowsException() {
+        double[] badLambdas = {0.0, -0.5, 1.0, 1.5, Double.NaN};
+        for (double lambda : badLambdas) {
+            try {
+                new ObjectIntDictionary<String>(lambda);
+                fail("Expected IllegalArgumentException for lambda " + lambda);
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+
+        ObjectIntDictionary<String> dict = new ObjectIntDictionary<String>(0.99);
+        for (int i = 0; i < 1000; i++) {
+            dict.put("key" + i, i);
+        }
+        assertFalse(dict.containsKey("missing"));
+        assertEquals(1000, dict.size());
+    }
+}